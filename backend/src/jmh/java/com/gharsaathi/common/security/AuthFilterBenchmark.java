@@ -0,0 +1,103 @@
+package com.gharsaathi.common.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.common.util.JwtProperties;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JWT cost of authenticating one request
+ * legacyFilter is the filter before the change: jti, type and subject lookups plus validateToken,
+ * five parses that each decoded the secret and built a parser. The others are the same five
+ * lookups on the shared parser, a single verify, and a VerifiedTokenCache hit.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthFilterBenchmark {
+
+    private static final String SECRET = "7082cee86dfba39cda1108cec1eccdb53080fcb4af596e72acf89b0e481125ba";
+
+    private JwtUtil jwtUtil;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setExpiration(3_600_000L);
+        properties.setRefreshExpiration(604_800_000L);
+        jwtUtil = new JwtUtil(properties);
+        cache = new VerifiedTokenCache(10_000);
+
+        token = jwtUtil.generateAccessToken(User.builder()
+                .id(1L)
+                .email("tenant@gharsaathi.com")
+                .fullName("Benchmark Tenant")
+                .password("password")
+                .role(Role.TENANT)
+                .build());
+        cache.get(token, jwtUtil::verify);
+    }
+
+    @Benchmark
+    public void legacyFilter(Blackhole blackhole) {
+        blackhole.consume(legacyClaims().getId());
+        blackhole.consume(legacyClaims().get("type", String.class));
+        blackhole.consume(legacyClaims().getSubject());
+        // validateToken: subject again, then expiry
+        blackhole.consume(legacyClaims().getSubject());
+        blackhole.consume(legacyClaims().getExpiration());
+    }
+
+    @Benchmark
+    public void fiveParses(Blackhole blackhole) {
+        blackhole.consume(jwtUtil.extractTokenId(token));
+        blackhole.consume(jwtUtil.extractTokenType(token));
+        blackhole.consume(jwtUtil.extractUsername(token));
+        blackhole.consume(jwtUtil.extractUsername(token));
+        blackhole.consume(jwtUtil.extractExpiration(token));
+    }
+
+    @Benchmark
+    public VerifiedToken singleVerify() {
+        return jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public VerifiedToken cacheHit() {
+        return cache.get(token, jwtUtil::verify);
+    }
+
+    // Helper methods
+
+    private Claims legacyClaims() {
+        return Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
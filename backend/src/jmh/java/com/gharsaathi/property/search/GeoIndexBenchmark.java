@@ -0,0 +1,99 @@
+package com.gharsaathi.property.search;
+
+import java.util.BitSet;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.gharsaathi.common.dto.PropertySearchCriteria;
+
+/**
+ * Radius search over synthetic listings: the search index's geo grid against checking every listing
+ * Listings are spread over Nepal with most of them clustered around a few cities, like the real data
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GeoIndexBenchmark {
+
+    // Kathmandu, Pokhara, Biratnagar, Butwal
+    private static final double[][] CITIES = {
+        {27.7172, 85.3240}, {28.2096, 83.9856}, {26.4525, 87.2718}, {27.7006, 83.4483}
+    };
+
+    // Same cell size as PropertySearchIndex
+    private static final double GEO_CELL_DEGREES = 0.05;
+
+    @Param({"100000"})
+    private int listings;
+
+    @Param({"2", "10", "50"})
+    private double radiusKm;
+
+    private double[] latitudes;
+    private double[] longitudes;
+    private GeoGrid grid;
+    private GeoQuery query;
+
+    @Setup
+    public void setUp() {
+        SplittableRandom random = new SplittableRandom(42);
+        latitudes = new double[listings];
+        longitudes = new double[listings];
+        grid = new GeoGrid(GEO_CELL_DEGREES);
+
+        for (int slot = 0; slot < listings; slot++) {
+            if (random.nextInt(10) < 8) {
+                double[] city = CITIES[random.nextInt(CITIES.length)];
+                latitudes[slot] = city[0] + random.nextDouble(-0.15, 0.15);
+                longitudes[slot] = city[1] + random.nextDouble(-0.15, 0.15);
+            } else {
+                latitudes[slot] = random.nextDouble(26.35, 30.45);
+                longitudes[slot] = random.nextDouble(80.06, 88.2);
+            }
+            grid.add(latitudes[slot], longitudes[slot], slot);
+        }
+
+        query = GeoQuery.from(PropertySearchCriteria.builder()
+                .latitude(CITIES[0][0])
+                .longitude(CITIES[0][1])
+                .radiusKm(radiusKm)
+                .build());
+    }
+
+    @Benchmark
+    public BitSet gridIndex() {
+        BitSet matches = grid.candidates(query);
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            if (!query.matches(latitudes[slot], longitudes[slot])) {
+                matches.clear(slot);
+            }
+        }
+        return matches;
+    }
+
+    @Benchmark
+    public BitSet naiveScan() {
+        BitSet matches = new BitSet(listings);
+        for (int slot = 0; slot < listings; slot++) {
+            if (query.matches(latitudes[slot], longitudes[slot])) {
+                matches.set(slot);
+            }
+        }
+        return matches;
+    }
+}
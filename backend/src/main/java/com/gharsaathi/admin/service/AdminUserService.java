@@ -11,6 +11,7 @@ import com.gharsaathi.admin.dto.ChangeRoleRequest;
 import com.gharsaathi.auth.model.Role;
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.repository.UserRepository;
+import com.gharsaathi.common.security.PrincipalCache;
 import com.gharsaathi.lease.model.LeaseStatus;
 import com.gharsaathi.lease.repository.LeaseRepository;
 import com.gharsaathi.property.repository.PropertyRepository;
@@ -32,6 +33,7 @@ public class AdminUserService {
     private final PropertyRepository propertyRepository;
     private final RentalApplicationRepository rentalApplicationRepository;
     private final LeaseRepository leaseRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * Get all users with optional role filter
@@ -97,6 +99,7 @@ public class AdminUserService {
 
         user.setEnabled(false);
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("User {} suspended successfully", userId);
         return mapToAdminUserDTO(savedUser);
@@ -119,6 +122,7 @@ public class AdminUserService {
 
         user.setEnabled(true);
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("User {} unsuspended successfully", userId);
         return mapToAdminUserDTO(savedUser);
@@ -147,6 +151,7 @@ public class AdminUserService {
 
         user.setRole(request.getNewRole());
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("User {} role changed from {} to {}", userId, oldRole, request.getNewRole());
         return mapToAdminUserDTO(savedUser);
@@ -170,6 +175,7 @@ public class AdminUserService {
         // Soft delete - just suspend the account
         user.setEnabled(false);
         userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("User {} deleted (suspended) successfully", userId);
     }
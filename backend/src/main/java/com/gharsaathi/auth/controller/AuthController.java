@@ -2,6 +2,7 @@ package com.gharsaathi.auth.controller;
 
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,9 +15,11 @@ import org.springframework.web.bind.annotation.RestController;
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.service.AuthService;
 import com.gharsaathi.auth.service.RefreshTokenService;
+import com.gharsaathi.auth.service.TokenPurgeService;
 import com.gharsaathi.common.dto.AuthResponse;
 import com.gharsaathi.common.dto.LoginRequest;
 import com.gharsaathi.common.dto.RegisterRequest;
+import com.gharsaathi.common.dto.TokenPurgeStats;
 import com.gharsaathi.common.dto.TokenRefreshRequest;
 import com.gharsaathi.common.dto.TokenRefreshResponse;
 
@@ -32,6 +35,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final RefreshTokenService refreshTokenService;
+    private final TokenPurgeService tokenPurgeService;
 
     @PostMapping("/register")
     public ResponseEntity<AuthResponse> register(
@@ -72,6 +76,16 @@ public class AuthController {
         return ResponseEntity.ok("Logged out from all devices successfully");
     }
 
+    /**
+     * Rows purged since startup and the last token purge run (admin only)
+     * GET /api/auth/admin/token-purge
+     */
+    @GetMapping("/admin/token-purge")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TokenPurgeStats> getTokenPurgeStats() {
+        return ResponseEntity.ok(tokenPurgeService.getStats());
+    }
+
     @GetMapping("/health")
     public ResponseEntity<String> health() {
         return ResponseEntity.ok("Auth service is running");
@@ -7,17 +7,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "refresh_tokens")
+@Table(name = "refresh_tokens", indexes = {
+    @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),
+    @Index(name = "idx_refresh_token_revoked_at", columnList = "revoked, revoked_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -28,12 +33,17 @@ public class RefreshToken {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @Column(nullable = false, unique = true, length = 1000)
+    // Raw JWT, only set on a token issued in this request; the table keeps its digest
+    @Transient
     private String token;
 
+    // jti claim; the unique index serves every lookup and rotation
     @Column(nullable = false, unique = true, length = 100)
     private String tokenId;
 
+    @Column(nullable = false, length = 44)
+    private String tokenHash;
+
     @ManyToOne
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
@@ -48,6 +58,9 @@ public class RefreshToken {
     @Column(nullable = false)
     private Boolean revoked = false;
 
+    @Column
+    private LocalDateTime revokedAt;
+
     @Column
     private String ipAddress;
 
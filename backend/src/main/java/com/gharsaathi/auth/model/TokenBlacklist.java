@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -15,7 +16,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "token_blacklist")
+@Table(name = "token_blacklist", indexes = {
+    @Index(name = "idx_token_blacklist_blacklisted_at", columnList = "blacklisted_at"),
+    @Index(name = "idx_token_blacklist_expires_at", columnList = "expires_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
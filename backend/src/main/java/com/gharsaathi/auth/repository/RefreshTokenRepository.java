@@ -4,10 +4,13 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.auth.model.RefreshToken;
 import com.gharsaathi.auth.model.User;
@@ -15,23 +18,49 @@ import com.gharsaathi.auth.model.User;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
     
-    Optional<RefreshToken> findByToken(String token);
-    
     Optional<RefreshToken> findByTokenId(String tokenId);
     
     List<RefreshToken> findByUser(User user);
     
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.expiresAt < :now ORDER BY rt.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Revoked tokens past the retention cutoff; rows revoked before revokedAt existed fall back to createdAt
+     */
+    @Query("SELECT rt.id FROM RefreshToken rt WHERE rt.revoked = true " +
+           "AND COALESCE(rt.revokedAt, rt.createdAt) < :cutoff ORDER BY rt.id")
+    List<Long> findRevokedIdsBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Transactional
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query("DELETE FROM RefreshToken rt WHERE rt.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
     
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user = :user")
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = LOCAL DATETIME " +
+           "WHERE rt.user = :user AND rt.revoked = false")
     void revokeAllUserTokens(User user);
     
     @Modifying
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.tokenId = :tokenId")
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = LOCAL DATETIME " +
+           "WHERE rt.tokenId = :tokenId AND rt.revoked = false")
     void revokeByTokenId(String tokenId);
     
     boolean existsByTokenId(String tokenId);
+
+    /**
+     * Swap a valid refresh token for a new one in place
+     * Returns 0 when the presented token is unknown, revoked, expired or already rotated
+     */
+    @Modifying
+    @Query("UPDATE RefreshToken rt SET rt.tokenId = :newTokenId, rt.tokenHash = :newTokenHash, " +
+           "rt.expiresAt = :newExpiresAt " +
+           "WHERE rt.tokenId = :tokenId AND rt.tokenHash = :tokenHash AND rt.revoked = false AND rt.expiresAt > :now")
+    int rotate(@Param("tokenId") String tokenId,
+               @Param("tokenHash") String tokenHash,
+               @Param("newTokenId") String newTokenId,
+               @Param("newTokenHash") String newTokenHash,
+               @Param("newExpiresAt") LocalDateTime newExpiresAt,
+               @Param("now") LocalDateTime now);
 }
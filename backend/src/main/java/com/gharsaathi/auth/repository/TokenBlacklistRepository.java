@@ -1,11 +1,15 @@
 package com.gharsaathi.auth.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.auth.model.TokenBlacklist;
 
@@ -13,8 +17,18 @@ import com.gharsaathi.auth.model.TokenBlacklist;
 public interface TokenBlacklistRepository extends JpaRepository<TokenBlacklist, Long> {
     
     boolean existsByTokenId(String tokenId);
+
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.expiresAt > :now")
+    List<TokenBlacklist> findUnexpired(LocalDateTime now);
+
+    @Query("SELECT tb FROM TokenBlacklist tb WHERE tb.blacklistedAt >= :since AND tb.expiresAt > :now")
+    List<TokenBlacklist> findBlacklistedSince(LocalDateTime since, LocalDateTime now);
     
+    @Query("SELECT tb.id FROM TokenBlacklist tb WHERE tb.expiresAt < :now ORDER BY tb.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Transactional
     @Modifying
-    @Query("DELETE FROM TokenBlacklist tb WHERE tb.expiresAt < :now")
-    void deleteExpiredTokens(LocalDateTime now);
+    @Query("DELETE FROM TokenBlacklist tb WHERE tb.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
 }
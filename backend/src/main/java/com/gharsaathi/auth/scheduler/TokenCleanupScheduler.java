@@ -0,0 +1,37 @@
+package com.gharsaathi.auth.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.auth.service.TokenPurgeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler for purging expired and revoked tokens
+ * Runs daily at 4:30 AM, clear of the lease (2:00 AM) and payment (3:00 AM) jobs
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TokenCleanupScheduler {
+
+    private final TokenPurgeService tokenPurgeService;
+
+    /**
+     * Purge tokens daily, by default at 04:30:00
+     * Cron format: second minute hour day month weekday
+     */
+    @Scheduled(cron = "${auth.token-cleanup.cron:0 30 4 * * *}")
+    public void purgeTokens() {
+        log.info("=== Token Cleanup Scheduler Started ===");
+
+        try {
+            int deleted = tokenPurgeService.purgeAll();
+            log.info("=== Token Cleanup Scheduler Completed: {} rows deleted ===", deleted);
+        } catch (Exception e) {
+            log.error("=== Token Cleanup Scheduler Failed ===", e);
+        }
+    }
+}
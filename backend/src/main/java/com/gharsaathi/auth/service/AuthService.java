@@ -4,8 +4,10 @@ import java.time.LocalDateTime;
 
 import org.springframework.context.annotation.Lazy;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -22,13 +24,17 @@ import com.gharsaathi.common.exception.EmailAlreadyExistsException;
 import com.gharsaathi.common.exception.InvalidTokenException;
 import com.gharsaathi.common.exception.ResourceNotFoundException;
 import com.gharsaathi.common.security.JwtUtil;
+import com.gharsaathi.common.security.LoginAttemptLimiter;
+import com.gharsaathi.common.security.PrincipalCache;
+import com.gharsaathi.common.security.VerifiedToken;
+import com.gharsaathi.common.util.ClientIp;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
-public class AuthService implements UserDetailsService {
+public class AuthService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
@@ -36,19 +42,25 @@ public class AuthService implements UserDetailsService {
     private final AuthenticationManager authenticationManager;
     private final RefreshTokenService refreshTokenService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final PrincipalCache principalCache;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     public AuthService(UserRepository userRepository, 
                       PasswordEncoder passwordEncoder, 
                       JwtUtil jwtUtil, 
                       @Lazy AuthenticationManager authenticationManager,
                       RefreshTokenService refreshTokenService,
-                      TokenBlacklistService tokenBlacklistService) {
+                      TokenBlacklistService tokenBlacklistService,
+                      PrincipalCache principalCache,
+                      LoginAttemptLimiter loginAttemptLimiter) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.jwtUtil = jwtUtil;
         this.authenticationManager = authenticationManager;
         this.refreshTokenService = refreshTokenService;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.principalCache = principalCache;
+        this.loginAttemptLimiter = loginAttemptLimiter;
     }
 
     @Override
@@ -57,8 +69,26 @@ public class AuthService implements UserDetailsService {
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
     }
 
+    /**
+     * Store a re-encoded password after a successful login when the stored hash uses an
+     * outdated algorithm or cost (called by DaoAuthenticationProvider)
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userRepository.findByEmail(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + userDetails.getUsername()));
+        user.setPassword(newPassword);
+        userRepository.save(user);
+        principalCache.evictUser(user.getId());
+        log.info("Upgraded password hash for user {}", user.getId());
+        return user;
+    }
+
     @Transactional
     public AuthResponse register(RegisterRequest request, HttpServletRequest httpRequest) {
+        loginAttemptLimiter.checkRegister(ClientIp.of(httpRequest));
+
         if (userRepository.existsByEmail(request.getEmail())) {
             throw new EmailAlreadyExistsException("Email already registered: " + request.getEmail());
         }
@@ -93,12 +123,19 @@ public class AuthService implements UserDetailsService {
 
     @Transactional
     public AuthResponse login(LoginRequest request, HttpServletRequest httpRequest) {
-        authenticationManager.authenticate(
-                new UsernamePasswordAuthenticationToken(
-                        request.getEmail(),
-                        request.getPassword()
-                )
-        );
+        loginAttemptLimiter.checkLogin(request.getEmail(), ClientIp.of(httpRequest));
+
+        try {
+            authenticationManager.authenticate(
+                    new UsernamePasswordAuthenticationToken(
+                            request.getEmail(),
+                            request.getPassword()
+                    )
+            );
+        } catch (BadCredentialsException e) {
+            loginAttemptLimiter.recordLoginFailure(request.getEmail());
+            throw e;
+        }
 
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -124,11 +161,11 @@ public class AuthService implements UserDetailsService {
     @Transactional
     public void logout(String token) {
         try {
-            String tokenId = jwtUtil.extractTokenId(token);
-            var expiration = jwtUtil.extractExpiration(token);
+            VerifiedToken verified = jwtUtil.verify(token);
+            String tokenId = verified.getTokenId();
             
             LocalDateTime expiryTime = LocalDateTime.ofInstant(
-                expiration.toInstant(), 
+                verified.getExpiration().toInstant(), 
                 java.time.ZoneId.systemDefault()
             );
             
@@ -0,0 +1,96 @@
+package com.gharsaathi.auth.service;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.common.util.TokenDigest;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves refresh_tokens from the raw JWT column to token_hash on databases created before the change.
+ * ddl-auto=update adds token_hash (as '' on existing rows) but keeps the old NOT NULL token column,
+ * which makes every insert fail. Runs once Hibernate has updated the schema and before any request:
+ * legacy rows get the digest of their stored JWT, then the token column is dropped. Does nothing
+ * when the column is already gone.
+ */
+@Component
+@DependsOn("entityManagerFactory")
+@Slf4j
+public class RefreshTokenSchemaMigration {
+
+    private static final String TABLE = "refresh_tokens";
+    private static final String LEGACY_COLUMN = "token";
+    private static final int BATCH_SIZE = 500;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public RefreshTokenSchemaMigration(DataSource dataSource) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        if (!hasLegacyColumn()) {
+            return;
+        }
+        log.info("Migrating {} from the raw token column to token_hash", TABLE);
+
+        int backfilled = 0;
+        while (true) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT id, token FROM refresh_tokens WHERE (token_hash IS NULL OR token_hash = '') "
+                            + "AND token IS NOT NULL ORDER BY id LIMIT " + BATCH_SIZE);
+            if (rows.isEmpty()) {
+                break;
+            }
+            List<Object[]> updates = rows.stream()
+                    .map(row -> new Object[] {TokenDigest.of((String) row.get("token")), row.get("id")})
+                    .toList();
+            jdbcTemplate.batchUpdate("UPDATE refresh_tokens SET token_hash = ? WHERE id = ?", updates);
+            backfilled += rows.size();
+        }
+
+        // Anything still without a digest can never match a presented token
+        int revoked = jdbcTemplate.update("UPDATE refresh_tokens SET revoked = true, "
+                + "revoked_at = COALESCE(revoked_at, CURRENT_TIMESTAMP) "
+                + "WHERE token_hash = '' AND revoked = false");
+
+        jdbcTemplate.execute("ALTER TABLE refresh_tokens DROP COLUMN token");
+        log.info("Refresh token migration done: {} rows hashed, {} revoked, token column dropped", backfilled, revoked);
+    }
+
+    // Helper methods
+
+    private boolean hasLegacyColumn() {
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // Identifier case depends on the database (MySQL keeps it, H2 upper-cases it)
+            for (String table : new String[] {TABLE, TABLE.toUpperCase()}) {
+                try (ResultSet columns = metaData.getColumns(connection.getCatalog(), null, table, null)) {
+                    while (columns.next()) {
+                        if (LEGACY_COLUMN.equalsIgnoreCase(columns.getString("COLUMN_NAME"))) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        } catch (SQLException ex) {
+            throw new IllegalStateException("Could not inspect the " + TABLE + " table", ex);
+        }
+    }
+}
@@ -15,7 +15,10 @@ import com.gharsaathi.common.exception.InvalidTokenException;
 import com.gharsaathi.common.exception.ResourceNotFoundException;
 import com.gharsaathi.common.exception.TokenRevokedException;
 import com.gharsaathi.common.security.JwtUtil;
+import com.gharsaathi.common.security.VerifiedToken;
+import com.gharsaathi.common.util.ClientIp;
 import com.gharsaathi.common.util.JwtProperties;
+import com.gharsaathi.common.util.TokenDigest;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -43,36 +46,51 @@ public class RefreshTokenService {
         RefreshToken refreshToken = RefreshToken.builder()
                 .token(token)
                 .tokenId(tokenId)
+                .tokenHash(TokenDigest.of(token))
                 .user(user)
                 .expiresAt(expiresAt)
-                .ipAddress(getClientIp(request))
+                .ipAddress(ClientIp.of(request))
                 .userAgent(request.getHeader("User-Agent"))
                 .build();
 
         return refreshTokenRepository.save(refreshToken);
     }
 
+    /**
+     * Issue a new access token and rotate the refresh token
+     * The stored row is found by its jti and swapped to the new token in one UPDATE,
+     * so a refresh token can be used only once
+     */
     @Transactional
     public TokenRefreshResponse refreshAccessToken(TokenRefreshRequest request) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(request.getRefreshToken())
+        VerifiedToken presented = jwtUtil.verify(request.getRefreshToken());
+        if (!presented.isRefreshToken()) {
+            throw new InvalidTokenException("Invalid refresh token");
+        }
+
+        User user = userRepository.findById(presented.getUserId())
                 .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
 
-        if (!refreshToken.isValid()) {
+        String newRefreshToken = jwtUtil.generateRefreshToken(user);
+        LocalDateTime now = LocalDateTime.now();
+        int rotated = refreshTokenRepository.rotate(
+                presented.getTokenId(),
+                TokenDigest.of(request.getRefreshToken()),
+                jwtUtil.extractTokenId(newRefreshToken),
+                TokenDigest.of(newRefreshToken),
+                now.plusSeconds(jwtProperties.getRefreshExpiration() / 1000),
+                now);
+        if (rotated == 0) {
             throw new TokenRevokedException("Refresh token is invalid or revoked");
         }
 
-        if (!jwtUtil.validateRefreshToken(request.getRefreshToken())) {
-            throw new InvalidTokenException("Invalid refresh token");
-        }
-
-        User user = refreshToken.getUser();
         String newAccessToken = jwtUtil.generateAccessToken(user);
 
         log.info("Access token refreshed for user: {}", user.getEmail());
 
         return TokenRefreshResponse.builder()
                 .accessToken(newAccessToken)
-                .refreshToken(refreshToken.getToken())
+                .refreshToken(newRefreshToken)
                 .tokenType("Bearer")
                 .expiresIn(jwtProperties.getExpiration())
                 .build();
@@ -80,13 +98,10 @@ public class RefreshTokenService {
 
     @Transactional
     public void revokeRefreshToken(String token) {
-        RefreshToken refreshToken = refreshTokenRepository.findByToken(token)
-                .orElseThrow(() -> new InvalidTokenException("Refresh token not found"));
-
-        refreshToken.setRevoked(true);
-        refreshTokenRepository.save(refreshToken);
+        VerifiedToken verified = jwtUtil.verify(token);
+        refreshTokenRepository.revokeByTokenId(verified.getTokenId());
         
-        log.info("Refresh token revoked for user: {}", refreshToken.getUser().getEmail());
+        log.info("Refresh token revoked for user: {}", verified.getSubject());
     }
 
     @Transactional
@@ -97,12 +112,4 @@ public class RefreshTokenService {
         refreshTokenRepository.revokeAllUserTokens(user);
         log.info("All refresh tokens revoked for user: {}", user.getEmail());
     }
-
-    private String getClientIp(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        return request.getRemoteAddr();
-    }
 }
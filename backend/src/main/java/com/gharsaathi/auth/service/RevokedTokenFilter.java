@@ -0,0 +1,120 @@
+package com.gharsaathi.auth.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.gharsaathi.common.util.KeyHash;
+
+/**
+ * In-memory view of the revoked token ids: a Bloom filter for fast negatives in front of an
+ * exact jti -> expiry map. Reads are lock-free; the Bloom filter only ever gains bits, so
+ * removals are reflected by rebuilding it from the map (see rebuild).
+ */
+final class RevokedTokenFilter {
+
+    private static final int HASH_FUNCTIONS = 7;
+    // ~1% false positive rate at HASH_FUNCTIONS hashes
+    private static final int BITS_PER_ENTRY = 10;
+
+    private final Map<String, LocalDateTime> revoked = new ConcurrentHashMap<>();
+    private volatile Bloom bloom;
+
+    RevokedTokenFilter(int expectedEntries) {
+        this.bloom = new Bloom(Math.max(expectedEntries, 1024));
+    }
+
+    /**
+     * Whether the token id is revoked and not yet expired
+     */
+    boolean isRevoked(String tokenId, LocalDateTime now) {
+        if (!bloom.mightContain(tokenId)) {
+            return false;
+        }
+        LocalDateTime expiresAt = revoked.get(tokenId);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (!expiresAt.isAfter(now)) {
+            revoked.remove(tokenId, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    void add(String tokenId, LocalDateTime expiresAt) {
+        // Map first so a reader that sees the Bloom bits also finds the entry
+        revoked.put(tokenId, expiresAt);
+        Bloom current = bloom;
+        current.add(tokenId);
+        if (revoked.size() > current.capacity) {
+            rebuild();
+        }
+    }
+
+    int size() {
+        return revoked.size();
+    }
+
+    /**
+     * Drop expired entries and rebuild the Bloom filter from what is left
+     */
+    synchronized int removeExpired(LocalDateTime now) {
+        int before = revoked.size();
+        revoked.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        int removed = before - revoked.size();
+        if (removed > 0) {
+            rebuild();
+        }
+        return removed;
+    }
+
+    private synchronized void rebuild() {
+        Bloom rebuilt = new Bloom(Math.max(revoked.size() * 2, bloom.capacity));
+        revoked.keySet().forEach(rebuilt::add);
+        bloom = rebuilt;
+        // Pick up anything added while the new filter was being filled
+        revoked.keySet().forEach(rebuilt::add);
+    }
+
+    private static final class Bloom {
+        private final int capacity;
+        private final long bitCount;
+        private final AtomicLongArray words;
+
+        private Bloom(int capacity) {
+            this.capacity = capacity;
+            this.bitCount = (long) capacity * BITS_PER_ENTRY;
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        void add(String key) {
+            long hash = KeyHash.of(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTIONS; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String key) {
+            long hash = KeyHash.of(key);
+            int h1 = (int) hash;
+            int h2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTIONS; i++) {
+                long bit = Integer.toUnsignedLong(h1 + i * h2) % bitCount;
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
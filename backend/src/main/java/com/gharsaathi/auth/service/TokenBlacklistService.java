@@ -1,28 +1,75 @@
 package com.gharsaathi.auth.service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.auth.model.TokenBlacklist;
-import com.gharsaathi.auth.repository.RefreshTokenRepository;
 import com.gharsaathi.auth.repository.TokenBlacklistRepository;
+import com.gharsaathi.common.security.VerifiedTokenCache;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Token revocation backed by the token_blacklist table
+ * Unexpired entries are mirrored in memory so the per-request check never queries the database;
+ * the table stays the source of truth and is re-read periodically to pick up revocations made
+ * by other instances.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class TokenBlacklistService {
 
+    // Re-read a little before the last sync so rows committed out of order are not missed
+    private static final long SYNC_OVERLAP_SECONDS = 60;
+
     private final TokenBlacklistRepository tokenBlacklistRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final boolean cacheEnabled;
+    private final RevokedTokenFilter revokedTokens;
+
+    private volatile boolean ready;
+    private volatile LocalDateTime lastSync;
+
+    public TokenBlacklistService(TokenBlacklistRepository tokenBlacklistRepository,
+                                 VerifiedTokenCache verifiedTokenCache,
+                                 @Value("${auth.token-blacklist.cache-enabled:true}") boolean cacheEnabled,
+                                 @Value("${auth.token-blacklist.expected-entries:10000}") int expectedEntries) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.cacheEnabled = cacheEnabled;
+        this.revokedTokens = new RevokedTokenFilter(expectedEntries);
+    }
+
+    /**
+     * Load all unexpired blacklist entries once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadOnStartup() {
+        if (!cacheEnabled) {
+            log.info("Token blacklist cache disabled; revocation checks query the database");
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<TokenBlacklist> entries = tokenBlacklistRepository.findUnexpired(now);
+        entries.forEach(entry -> revokedTokens.add(entry.getTokenId(), entry.getExpiresAt()));
+        lastSync = now;
+        ready = true;
+        log.info("Token blacklist cache loaded with {} revoked tokens", entries.size());
+    }
 
     public boolean isTokenBlacklisted(String tokenId) {
-        return tokenBlacklistRepository.existsByTokenId(tokenId);
+        if (!ready) {
+            return tokenBlacklistRepository.existsByTokenId(tokenId);
+        }
+        return revokedTokens.isRevoked(tokenId, LocalDateTime.now());
     }
 
     @Transactional
@@ -36,14 +83,29 @@ public class TokenBlacklistService {
             tokenBlacklistRepository.save(blacklist);
             log.info("Token blacklisted: {} for reason: {}", tokenId, reason);
         }
+        // Applied before commit so the token stops working as soon as the logout returns
+        revokedTokens.add(tokenId, expiresAt);
+        verifiedTokenCache.evictTokenId(tokenId);
     }
 
-    @Scheduled(cron = "0 0 2 * * ?") // Run daily at 2 AM
-    @Transactional
-    public void cleanupExpiredTokens() {
+    /**
+     * Pick up revocations written by other instances and drop expired entries from memory
+     */
+    @Scheduled(fixedDelayString = "${auth.token-blacklist.sync-interval-ms:30000}")
+    @Transactional(readOnly = true)
+    public void syncFromDatabase() {
+        if (!ready) {
+            return;
+        }
         LocalDateTime now = LocalDateTime.now();
-        tokenBlacklistRepository.deleteExpiredTokens(now);
-        refreshTokenRepository.deleteExpiredTokens(now);
-        log.info("Cleaned up expired tokens at {}", now);
+        List<TokenBlacklist> entries = tokenBlacklistRepository.findBlacklistedSince(
+                lastSync.minusSeconds(SYNC_OVERLAP_SECONDS), now);
+        entries.forEach(entry -> revokedTokens.add(entry.getTokenId(), entry.getExpiresAt()));
+        int removed = revokedTokens.removeExpired(now);
+        lastSync = now;
+        if (!entries.isEmpty() || removed > 0) {
+            log.debug("Token blacklist cache synced: {} fetched, {} expired, {} held",
+                    entries.size(), removed, revokedTokens.size());
+        }
     }
 }
@@ -0,0 +1,155 @@
+package com.gharsaathi.auth.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.gharsaathi.auth.repository.RefreshTokenRepository;
+import com.gharsaathi.auth.repository.TokenBlacklistRepository;
+import com.gharsaathi.common.dto.TokenPurgeRun;
+import com.gharsaathi.common.dto.TokenPurgeStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Purges expired blacklist entries, expired refresh tokens and revoked refresh tokens past
+ * their retention period
+ * Rows are deleted by id in bounded batches, each in its own short transaction, with a pause
+ * between batches so logins writing to the same tables are never blocked for long.
+ * Totals since startup and the last run are reported by getStats.
+ */
+@Service
+@Slf4j
+public class TokenPurgeService {
+
+    private final TokenBlacklistRepository tokenBlacklistRepository;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int revokedRetentionDays;
+
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong blacklistDeleted = new AtomicLong();
+    private final AtomicLong expiredRefreshTokensDeleted = new AtomicLong();
+    private final AtomicLong revokedRefreshTokensDeleted = new AtomicLong();
+    private final AtomicLong totalBatches = new AtomicLong();
+    private final AtomicLong totalDurationMs = new AtomicLong();
+    private volatile TokenPurgeRun lastRun;
+
+    public TokenPurgeService(TokenBlacklistRepository tokenBlacklistRepository,
+                             RefreshTokenRepository refreshTokenRepository,
+                             @Value("${auth.token-cleanup.batch-size:1000}") int batchSize,
+                             @Value("${auth.token-cleanup.pause-ms:50}") long pauseMillis,
+                             @Value("${auth.token-cleanup.revoked-retention-days:30}") int revokedRetentionDays) {
+        this.tokenBlacklistRepository = tokenBlacklistRepository;
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.revokedRetentionDays = revokedRetentionDays;
+    }
+
+    /**
+     * Run every purge and return the number of rows deleted
+     */
+    public synchronized int purgeAll() {
+        long startNanos = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        PurgeCount blacklist = purge("expired blacklist entries",
+                page -> tokenBlacklistRepository.findExpiredIds(now, page),
+                tokenBlacklistRepository::deleteByIdIn);
+        PurgeCount expired = purge("expired refresh tokens",
+                page -> refreshTokenRepository.findExpiredIds(now, page),
+                refreshTokenRepository::deleteByIdIn);
+        LocalDateTime revokedCutoff = now.minusDays(revokedRetentionDays);
+        PurgeCount revoked = purge("revoked refresh tokens older than " + revokedRetentionDays + " days",
+                page -> refreshTokenRepository.findRevokedIdsBefore(revokedCutoff, page),
+                refreshTokenRepository::deleteByIdIn);
+
+        TokenPurgeRun run = TokenPurgeRun.builder()
+                .startedAt(now)
+                .durationMs((System.nanoTime() - startNanos) / 1_000_000)
+                .blacklistDeleted(blacklist.deleted)
+                .expiredRefreshTokensDeleted(expired.deleted)
+                .revokedRefreshTokensDeleted(revoked.deleted)
+                .batches(blacklist.batches + expired.batches + revoked.batches)
+                .build();
+        runs.incrementAndGet();
+        blacklistDeleted.addAndGet(run.getBlacklistDeleted());
+        expiredRefreshTokensDeleted.addAndGet(run.getExpiredRefreshTokensDeleted());
+        revokedRefreshTokensDeleted.addAndGet(run.getRevokedRefreshTokensDeleted());
+        totalBatches.addAndGet(run.getBatches());
+        totalDurationMs.addAndGet(run.getDurationMs());
+        lastRun = run;
+        return blacklist.deleted + expired.deleted + revoked.deleted;
+    }
+
+    /**
+     * Rows deleted and batches run since startup, plus the last run
+     */
+    public TokenPurgeStats getStats() {
+        return TokenPurgeStats.builder()
+                .runs(runs.get())
+                .blacklistDeleted(blacklistDeleted.get())
+                .expiredRefreshTokensDeleted(expiredRefreshTokensDeleted.get())
+                .revokedRefreshTokensDeleted(revokedRefreshTokensDeleted.get())
+                .batches(totalBatches.get())
+                .totalDurationMs(totalDurationMs.get())
+                .lastRun(lastRun)
+                .build();
+    }
+
+    // Helper methods
+
+    private PurgeCount purge(String label, Function<Pageable, List<Long>> nextBatch, Function<List<Long>, Integer> delete) {
+        long startedAt = System.nanoTime();
+        Pageable firstPage = PageRequest.of(0, batchSize);
+        int deleted = 0;
+        int batches = 0;
+        while (true) {
+            // Deleted rows drop out of the query, so the first page is always the next batch
+            List<Long> ids = nextBatch.apply(firstPage);
+            if (ids.isEmpty()) {
+                break;
+            }
+            deleted += delete.apply(ids);
+            batches++;
+            log.debug("Token purge: {} batch {} deleted {} rows ({} so far)", label, batches, ids.size(), deleted);
+            if (ids.size() < batchSize || !pause()) {
+                break;
+            }
+        }
+        log.info("Token purge: deleted {} {} in {} batches, {} ms",
+                deleted, label, batches, (System.nanoTime() - startedAt) / 1_000_000);
+        return new PurgeCount(deleted, batches);
+    }
+
+    private boolean pause() {
+        if (pauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Token purge interrupted");
+            return false;
+        }
+    }
+
+    private static final class PurgeCount {
+        private final int deleted;
+        private final int batches;
+
+        private PurgeCount(int deleted, int batches) {
+            this.deleted = deleted;
+            this.batches = batches;
+        }
+    }
+}
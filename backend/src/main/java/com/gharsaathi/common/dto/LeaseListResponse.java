@@ -17,10 +17,13 @@ import lombok.NoArgsConstructor;
 public class LeaseListResponse {
     
     private List<LeaseResponse> leases;
-    private Long totalElements;
+    private Long totalElements; // null in cursor mode unless includeTotal=true
     private Integer totalPages;
     private Integer currentPage;
     private Integer pageSize;
     private Boolean hasNext;
     private Boolean hasPrevious;
+    
+    // Keyset mode: token for the next page, null on the last page
+    private String nextCursor;
 }
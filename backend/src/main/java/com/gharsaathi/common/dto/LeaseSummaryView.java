@@ -0,0 +1,86 @@
+package com.gharsaathi.common.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.gharsaathi.lease.model.LeaseStatus;
+import com.gharsaathi.property.model.PropertyType;
+
+/**
+ * Projection backing LeaseResponse in list views
+ * Amenities are a collection and are loaded separately
+ */
+public interface LeaseSummaryView {
+
+    Long getId();
+
+    Long getApplicationId();
+
+    LocalDate getLeaseStartDate();
+
+    LocalDate getLeaseEndDate();
+
+    BigDecimal getMonthlyRent();
+
+    BigDecimal getSecurityDeposit();
+
+    LeaseStatus getStatus();
+
+    Integer getNumberOfOccupants();
+
+    String getSpecialTerms();
+
+    Boolean getAutoRenew();
+
+    Integer getEarlyTerminationNoticeDays();
+
+    LocalDate getTerminationDate();
+
+    String getTerminationReason();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    LocalDateTime getSignedAt();
+
+    Long getPropertyId();
+
+    String getPropertyTitle();
+
+    PropertyType getPropertyType();
+
+    String getPropertyAddress();
+
+    String getPropertyCity();
+
+    // Property.area, the locality name
+    String getPropertyLocality();
+
+    Integer getPropertyBedrooms();
+
+    Integer getPropertyBathrooms();
+
+    Double getPropertyArea();
+
+    Boolean getPropertyFurnished();
+
+    String getPrimaryImageUrl();
+
+    Long getTenantId();
+
+    String getTenantName();
+
+    String getTenantEmail();
+
+    String getTenantPhone();
+
+    Long getLandlordId();
+
+    String getLandlordName();
+
+    String getLandlordEmail();
+
+    String getLandlordPhone();
+}
@@ -0,0 +1,11 @@
+package com.gharsaathi.common.dto;
+
+/**
+ * Projection for one amenity of a property
+ */
+public interface PropertyAmenityView {
+
+    Long getPropertyId();
+
+    String getAmenity();
+}
@@ -77,6 +77,9 @@ public class PropertyDetailResponse {
     public static class PropertyImageResponse {
         private Long id;
         private String imageUrl;
+        private String thumbnailUrl;
+        private String cardUrl;
+        private String largeUrl;
         private String mediaType;
         private Boolean isPrimary;
         private Integer displayOrder;
@@ -1,6 +1,7 @@
 package com.gharsaathi.common.dto;
 
 import java.util.List;
+import java.util.Map;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -17,10 +18,16 @@ import lombok.NoArgsConstructor;
 public class PropertyListResponse {
     
     private List<PropertyResponse> properties;
-    private long totalElements;
-    private int totalPages;
-    private int currentPage;
+    private Long totalElements; // null in cursor mode unless includeTotal=true
+    private Integer totalPages;
+    private Integer currentPage;
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+    
+    // Keyset mode: token for the next page, null on the last page
+    private String nextCursor;
+    
+    // Facet name -> value -> count; only populated when served by the search index
+    private Map<String, Map<String, Long>> facets;
 }
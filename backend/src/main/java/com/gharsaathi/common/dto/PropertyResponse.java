@@ -26,12 +26,20 @@ public class PropertyResponse {
     private PropertyStatus status;
     private String city;
     private String area;
+    private Double latitude;
+    private Double longitude;
     private BigDecimal price;
     private Integer bedrooms;
     private Integer bathrooms;
     private Double propertyArea;
     private Boolean furnished;
     private String primaryImageUrl;
+    // Downscaled variants of the primary image for list cards; same as primaryImageUrl for external images
+    private String primaryImageThumbnailUrl;
+    private String primaryImageCardUrl;
+    
+    // Distance from the search center in km; only set for geo searches with latitude/longitude
+    private Double distanceKm;
     
     // Landlord basic info
     private Long landlordId;
@@ -61,7 +61,16 @@ public class PropertySearchCriteria {
     // Availability filter
     private LocalDate availableFrom;
     
-    // Search keyword (searches in title and description)
+    // Geo filters: radius in km around latitude/longitude, and/or a bounding box in degrees
+    private Double latitude;
+    private Double longitude;
+    private Double radiusKm;
+    private Double minLatitude;
+    private Double maxLatitude;
+    private Double minLongitude;
+    private Double maxLongitude;
+    
+    // Search keyword (all terms must match title, description, area or city; terms match by prefix)
     private String keyword;
     
     // Landlord filter (for landlord-specific queries)
@@ -75,7 +84,7 @@ public class PropertySearchCriteria {
     private Integer size = 10;
     
     @Builder.Default
-    private String sortBy = "createdAt"; // createdAt, price, bedrooms, propertyArea
+    private String sortBy = "createdAt"; // createdAt, price, bedrooms, propertyArea, relevance (with keyword), distance (with latitude/longitude)
     
     @Builder.Default
     private String sortDirection = "DESC"; // ASC or DESC
@@ -0,0 +1,46 @@
+package com.gharsaathi.common.dto;
+
+import java.math.BigDecimal;
+
+import com.gharsaathi.property.model.PropertyStatus;
+import com.gharsaathi.property.model.PropertyType;
+
+/**
+ * Projection backing PropertyResponse in list views
+ */
+public interface PropertySummaryView {
+
+    Long getId();
+
+    String getTitle();
+
+    PropertyType getPropertyType();
+
+    PropertyStatus getStatus();
+
+    String getCity();
+
+    String getArea();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    BigDecimal getPrice();
+
+    Integer getBedrooms();
+
+    Integer getBathrooms();
+
+    Double getPropertyArea();
+
+    Boolean getFurnished();
+
+    String getPrimaryImageUrl();
+
+    Long getLandlordId();
+
+    String getLandlordName();
+
+    String getLandlordEmail();
+}
@@ -0,0 +1,24 @@
+package com.gharsaathi.common.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one token purge run
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenPurgeRun {
+    private LocalDateTime startedAt;
+    private Long durationMs;
+    private Integer blacklistDeleted;
+    private Integer expiredRefreshTokensDeleted;
+    private Integer revokedRefreshTokensDeleted;
+    private Integer batches;
+}
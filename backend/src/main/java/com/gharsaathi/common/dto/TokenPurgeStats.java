@@ -0,0 +1,23 @@
+package com.gharsaathi.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Token purge totals since startup and the last run, for admins
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenPurgeStats {
+    private Long runs;
+    private Long blacklistDeleted;
+    private Long expiredRefreshTokensDeleted;
+    private Long revokedRefreshTokensDeleted;
+    private Long batches;
+    private Long totalDurationMs;
+    private TokenPurgeRun lastRun;
+}
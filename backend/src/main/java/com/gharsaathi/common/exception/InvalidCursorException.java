@@ -0,0 +1,11 @@
+package com.gharsaathi.common.exception;
+
+/**
+ * Exception thrown when a pagination cursor cannot be decoded or does not match the request
+ */
+public class InvalidCursorException extends RuntimeException {
+    
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
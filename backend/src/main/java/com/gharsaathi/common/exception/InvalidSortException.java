@@ -0,0 +1,11 @@
+package com.gharsaathi.common.exception;
+
+/**
+ * Exception thrown when a list request asks for an unknown sort field or direction
+ */
+public class InvalidSortException extends RuntimeException {
+    
+    public InvalidSortException(String message) {
+        super(message);
+    }
+}
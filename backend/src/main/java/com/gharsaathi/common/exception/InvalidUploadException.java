@@ -0,0 +1,11 @@
+package com.gharsaathi.common.exception;
+
+/**
+ * Exception thrown when an upload request body is malformed or incomplete
+ */
+public class InvalidUploadException extends RuntimeException {
+    
+    public InvalidUploadException(String message) {
+        super(message);
+    }
+}
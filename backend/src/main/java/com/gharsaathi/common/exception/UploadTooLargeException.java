@@ -0,0 +1,11 @@
+package com.gharsaathi.common.exception;
+
+/**
+ * Exception thrown when an upload request body exceeds the configured total size
+ */
+public class UploadTooLargeException extends RuntimeException {
+    
+    public UploadTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,149 @@
+package com.gharsaathi.common.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.gharsaathi.common.exception.PasswordHashingBusyException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Runs the delegate's encode and matches on a small dedicated pool with a bounded queue
+ * Caps the CPU that password hashing can take during a login burst so other requests keep
+ * their share; when the queue is full, or a hash waits longer than the timeout, the call fails
+ * fast with PasswordHashingBusyException instead of piling up servlet threads.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rejected = new LongAdder();
+    private long lastLoggedHashes;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, long waitTimeoutMillis) {
+        this.delegate = delegate;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        // Only inspects the stored hash prefix, no hashing
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Log hash latency and queue wait since the last report, when there was any hashing
+     */
+    @Scheduled(fixedDelayString = "${auth.password.metrics-log-interval-ms:60000}")
+    public void logMetrics() {
+        long count = hashes.sum();
+        if (count == lastLoggedHashes) {
+            return;
+        }
+        lastLoggedHashes = count;
+        log.info("Password hashing: {} hashes, avg {} ms, avg queue wait {} ms, max queue wait {} ms, "
+                        + "{} rejected, queue depth {}",
+                count,
+                TimeUnit.NANOSECONDS.toMillis(hashNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMillis(queueWaitNanos.sum() / count),
+                TimeUnit.NANOSECONDS.toMillis(maxQueueWaitNanos.get()),
+                rejected.sum(),
+                executor.getQueue().size());
+    }
+
+    public long getHashCount() {
+        return hashes.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public int getQueueDepth() {
+        return executor.getQueue().size();
+    }
+
+    // Helper methods
+
+    private <T> T run(Callable<T> hash) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                long waited = startedAt - submittedAt;
+                queueWaitNanos.add(waited);
+                maxQueueWaitNanos.accumulate(waited);
+                try {
+                    return hash.call();
+                } finally {
+                    hashNanos.add(System.nanoTime() - startedAt);
+                    hashes.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many sign-in requests, please retry shortly");
+        }
+
+        try {
+            return future.get(waitTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejected.increment();
+            throw new PasswordHashingBusyException("Too many sign-in requests, please retry shortly");
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException("Password hashing interrupted");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+}
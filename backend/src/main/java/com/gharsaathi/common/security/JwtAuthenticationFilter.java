@@ -27,13 +27,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtUtil jwtUtil;
     private final UserDetailsService userDetailsService;
     private final TokenBlacklistService tokenBlacklistService;
+    private final PrincipalCache principalCache;
+    private final VerifiedTokenCache verifiedTokenCache;
 
     public JwtAuthenticationFilter(JwtUtil jwtUtil, 
                                    @Lazy UserDetailsService userDetailsService,
-                                   TokenBlacklistService tokenBlacklistService) {
+                                   TokenBlacklistService tokenBlacklistService,
+                                   PrincipalCache principalCache,
+                                   VerifiedTokenCache verifiedTokenCache) {
         this.jwtUtil = jwtUtil;
         this.userDetailsService = userDetailsService;
         this.tokenBlacklistService = tokenBlacklistService;
+        this.principalCache = principalCache;
+        this.verifiedTokenCache = verifiedTokenCache;
     }
 
     @Override
@@ -52,9 +58,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             jwt = authHeader.substring(7);
+            VerifiedToken token = verifiedTokenCache.get(jwt, jwtUtil::verify);
             
             // Check if token is blacklisted
-            String tokenId = jwtUtil.extractTokenId(jwt);
+            String tokenId = token.getTokenId();
             if (tokenBlacklistService.isTokenBlacklisted(tokenId)) {
                 log.warn("Attempted use of blacklisted token: {}", tokenId);
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -63,20 +70,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
             
             // Check if it's an access token (not refresh token)
-            String tokenType = jwtUtil.extractTokenType(jwt);
-            if (!"ACCESS".equals(tokenType)) {
-                log.warn("Invalid token type used for authentication: {}", tokenType);
+            if (!token.isAccessToken()) {
+                log.warn("Invalid token type used for authentication: {}", token.getType());
                 response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
                 response.getWriter().write("{\"error\":\"Invalid token type\"}");
                 return;
             }
             
-            userEmail = jwtUtil.extractUsername(jwt);
+            userEmail = token.getSubject();
 
             if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
+                UserDetails userDetails = principalCache.get(userEmail, userDetailsService::loadUserByUsername);
                 
-                if (jwtUtil.validateToken(jwt, userDetails)) {
+                if (jwtUtil.validateToken(token, userDetails)) {
                     UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
                             userDetails,
                             null,
@@ -18,22 +18,38 @@ import com.gharsaathi.common.util.JwtProperties;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import io.jsonwebtoken.security.SignatureException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtUtil {
 
     private final JwtProperties jwtProperties;
 
+    // Decoded and built once; JwtParser is immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    public JwtUtil(JwtProperties jwtProperties) {
+        this.jwtProperties = jwtProperties;
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(jwtProperties.getSecret()));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+    }
+
+    /**
+     * Verify the signature and expiry once and return every claim the app reads
+     */
+    public VerifiedToken verify(String token) {
+        return VerifiedToken.from(extractAllClaims(token));
+    }
+
     public String extractUsername(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -43,7 +59,7 @@ public class JwtUtil {
     }
 
     public String extractTokenId(String token) {
-        return extractClaim(token, claims -> claims.get("jti", String.class));
+        return extractClaim(token, Claims::getId);
     }
 
     public Long extractUserId(String token) {
@@ -65,11 +81,7 @@ public class JwtUtil {
 
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             log.error("JWT token is expired: {}", e.getMessage());
             throw new InvalidTokenException("Token has expired");
@@ -121,7 +133,7 @@ public class JwtUtil {
                 .id(tokenId)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -135,18 +147,19 @@ public class JwtUtil {
         }
     }
 
+    public Boolean validateToken(VerifiedToken token, UserDetails userDetails) {
+        return token.getSubject() != null
+                && token.getSubject().equals(userDetails.getUsername())
+                && !token.isExpired();
+    }
+
     public Boolean validateRefreshToken(String token) {
         try {
-            String tokenType = extractTokenType(token);
-            return "REFRESH".equals(tokenType) && !isTokenExpired(token);
+            VerifiedToken verified = verify(token);
+            return verified.isRefreshToken() && !verified.isExpired();
         } catch (InvalidTokenException e) {
             log.error("Refresh token validation failed: {}", e.getMessage());
             return false;
         }
     }
-
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
-    }
 }
@@ -0,0 +1,87 @@
+package com.gharsaathi.common.security;
+
+import java.util.Locale;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.common.exception.TooManyAttemptsException;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process limiter for the public login and register endpoints
+ * Every attempt counts against the client IP; failed logins also count against the email.
+ * Checks run before any database lookup or password hashing.
+ */
+@Component
+@Slf4j
+public class LoginAttemptLimiter {
+
+    private final boolean enabled;
+    private final int ipLimit;
+    private final int emailFailureLimit;
+    private final SlidingWindowCounter ipAttempts;
+    private final SlidingWindowCounter emailFailures;
+
+    public LoginAttemptLimiter(@Value("${auth.rate-limit.enabled:true}") boolean enabled,
+                               @Value("${auth.rate-limit.ip.max-attempts:20}") int ipLimit,
+                               @Value("${auth.rate-limit.ip.window-seconds:60}") long ipWindowSeconds,
+                               @Value("${auth.rate-limit.email.max-failures:5}") int emailFailureLimit,
+                               @Value("${auth.rate-limit.email.window-seconds:900}") long emailWindowSeconds,
+                               @Value("${auth.rate-limit.slots:65536}") int slots) {
+        this.enabled = enabled;
+        this.ipLimit = ipLimit;
+        this.emailFailureLimit = emailFailureLimit;
+        this.ipAttempts = new SlidingWindowCounter(ipWindowSeconds * 1000, slots);
+        this.emailFailures = new SlidingWindowCounter(emailWindowSeconds * 1000, slots);
+    }
+
+    /**
+     * Count a login attempt, rejecting it if the IP or the email is over its limit
+     */
+    public void checkLogin(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        String emailKey = normalize(email);
+        if (emailFailures.count(emailKey, now) >= emailFailureLimit) {
+            long retryAfter = emailFailures.retryAfterSeconds(emailKey, emailFailureLimit, now);
+            log.warn("Login for {} rejected: too many failed attempts, retry after {}s", emailKey, retryAfter);
+            throw new TooManyAttemptsException("Too many failed login attempts, please try again later", retryAfter);
+        }
+        checkIp(clientIp, now);
+    }
+
+    /**
+     * Count a registration attempt against the IP
+     */
+    public void checkRegister(String clientIp) {
+        if (!enabled) {
+            return;
+        }
+        checkIp(clientIp, System.currentTimeMillis());
+    }
+
+    public void recordLoginFailure(String email) {
+        if (enabled) {
+            emailFailures.increment(normalize(email), System.currentTimeMillis());
+        }
+    }
+
+    // Helper methods
+
+    private void checkIp(String clientIp, long now) {
+        if (ipAttempts.count(clientIp, now) >= ipLimit) {
+            long retryAfter = ipAttempts.retryAfterSeconds(clientIp, ipLimit, now);
+            log.warn("Auth request from {} rejected: too many attempts, retry after {}s", clientIp, retryAfter);
+            throw new TooManyAttemptsException("Too many requests, please try again later", retryAfter);
+        }
+        ipAttempts.increment(clientIp, now);
+    }
+
+    private static String normalize(String email) {
+        return email == null ? "" : email.trim().toLowerCase(Locale.ROOT);
+    }
+}
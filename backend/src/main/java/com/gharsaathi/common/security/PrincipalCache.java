@@ -0,0 +1,147 @@
+package com.gharsaathi.common.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.common.util.BoundedLruMap;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, TTL-evicting cache of authenticated principals keyed by email (the JWT subject)
+ * Saves the user lookup on every authenticated request. Services that change a user's
+ * role, status, credentials or profile call evictUser so the next request reloads it.
+ * Each hit returns a fresh copy so callers can never mutate the cached principal.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<String, Entry> entries;
+
+    public PrincipalCache(@Value("${auth.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${auth.principal-cache.max-size:10000}") int maxSize) {
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+        this.entries = new BoundedLruMap<>(maxSize);
+    }
+
+    /**
+     * Get the principal for an email, loading and caching it on a miss or after expiry
+     */
+    public UserDetails get(String email, Function<String, UserDetails> loader) {
+        if (ttlNanos <= 0 || maxSize <= 0) {
+            return loader.apply(email);
+        }
+
+        long now = System.nanoTime();
+        Entry loading;
+        int changesBefore;
+        synchronized (entries) {
+            Entry entry = entries.get(email);
+            if (entry != null && entry.loaded && now - entry.loadedAt < ttlNanos) {
+                return copyOf(entry.principal);
+            }
+            if (entry == null || entry.loaded) {
+                // Placeholder that records evictions made while the user is loaded
+                entry = new Entry();
+                entries.put(email, entry);
+            }
+            loading = entry;
+            changesBefore = entry.changes;
+        }
+
+        // Load outside the lock; a concurrent miss for the same email just loads twice
+        UserDetails principal;
+        try {
+            principal = loader.apply(email);
+        } catch (RuntimeException e) {
+            synchronized (entries) {
+                entries.remove(email, loading);
+            }
+            throw e;
+        }
+        synchronized (entries) {
+            // Only cache the principal if no eviction ran meanwhile; it may have loaded the old row
+            if (entries.get(email) == loading && loading.changes == changesBefore) {
+                loading.principal = copyOf(principal);
+                loading.loadedAt = now;
+                loading.loaded = true;
+            }
+        }
+        return principal;
+    }
+
+    /**
+     * Drop any cached principal for the user now and again once the current transaction commits,
+     * so a request racing the update cannot re-cache the old row
+     */
+    public void evictUser(Long userId) {
+        evict(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        }
+    }
+
+    // Helper methods
+
+    private void evict(Long userId) {
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (!entry.loaded) {
+                    // The user being loaded is not known yet, so any in-flight load may be stale
+                    entry.changes++;
+                } else if (entry.principal instanceof User user && userId.equals(user.getId())) {
+                    iterator.remove();
+                    log.debug("Evicted cached principal for user {}", userId);
+                }
+            }
+        }
+    }
+
+    private static UserDetails copyOf(UserDetails principal) {
+        if (!(principal instanceof User user)) {
+            return principal;
+        }
+        return User.builder()
+            .id(user.getId())
+            .fullName(user.getFullName())
+            .email(user.getEmail())
+            .password(user.getPassword())
+            .phoneNumber(user.getPhoneNumber())
+            .role(user.getRole())
+            .enabled(user.getEnabled())
+            .profilePicture(user.getProfilePicture())
+            .emailVerified(user.getEmailVerified())
+            .phoneVerified(user.getPhoneVerified())
+            .lastLogin(user.getLastLogin())
+            .createdAt(user.getCreatedAt())
+            .updatedAt(user.getUpdatedAt())
+            .build();
+    }
+
+    private static final class Entry {
+        private UserDetails principal;
+        private long loadedAt;
+        private boolean loaded;
+        private int changes;
+    }
+}
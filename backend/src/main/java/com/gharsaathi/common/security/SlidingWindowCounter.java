@@ -0,0 +1,129 @@
+package com.gharsaathi.common.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import com.gharsaathi.common.util.KeyHash;
+
+/**
+ * Lock-free, fixed-memory sliding-window counter over arbitrary string keys
+ * Keys hash into ROWS rows of striped slots (a count-min sketch); each slot packs the current
+ * window id with the previous and current window counts into one long updated by CAS. The
+ * sliding count weights the previous window by how much of it still overlaps. Collisions can
+ * only over-count, and taking the minimum across rows keeps that rare.
+ */
+final class SlidingWindowCounter {
+
+    private static final int ROWS = 2;
+    private static final long WINDOW_BITS = 24;
+    private static final long COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+    private static final long WINDOW_MASK = (1L << WINDOW_BITS) - 1;
+
+    private final long windowMillis;
+    private final int slotMask;
+    private final AtomicLongArray slots;
+
+    /**
+     * @param slotsPerRow rounded up to a power of two
+     */
+    SlidingWindowCounter(long windowMillis, int slotsPerRow) {
+        int size = Integer.highestOneBit(Math.max(slotsPerRow - 1, 1)) << 1;
+        this.windowMillis = windowMillis;
+        this.slotMask = size - 1;
+        this.slots = new AtomicLongArray(size * ROWS);
+    }
+
+    /**
+     * Sliding count of the key at the given time
+     */
+    double count(String key, long nowMillis) {
+        long window = nowMillis / windowMillis;
+        double weight = 1.0 - (double) (nowMillis % windowMillis) / windowMillis;
+        long hash = KeyHash.of(key);
+        double min = Double.MAX_VALUE;
+        for (int row = 0; row < ROWS; row++) {
+            long packed = rolled(slots.get(index(hash, row)), window);
+            min = Math.min(min, previous(packed) * weight + current(packed));
+        }
+        return min;
+    }
+
+    /**
+     * Add one to the key in the current window
+     */
+    void increment(String key, long nowMillis) {
+        long window = nowMillis / windowMillis;
+        long hash = KeyHash.of(key);
+        for (int row = 0; row < ROWS; row++) {
+            int index = index(hash, row);
+            long packed;
+            long updated;
+            do {
+                packed = slots.get(index);
+                long rolled = rolled(packed, window);
+                long current = Math.min(current(rolled) + 1, COUNT_MASK);
+                updated = pack(window, previous(rolled), current);
+            } while (!slots.compareAndSet(index, packed, updated));
+        }
+    }
+
+    /**
+     * Seconds until the key's sliding count drops below the limit, at least 1
+     */
+    long retryAfterSeconds(String key, int limit, long nowMillis) {
+        long elapsed = nowMillis % windowMillis;
+        double weight = 1.0 - (double) elapsed / windowMillis;
+        long hash = KeyHash.of(key);
+        long waitMillis = 0;
+        for (int row = 0; row < ROWS; row++) {
+            long packed = rolled(slots.get(index(hash, row)), nowMillis / windowMillis);
+            long previous = previous(packed);
+            long current = current(packed);
+            long rowWait;
+            if (previous * weight + current < limit) {
+                rowWait = 0;
+            } else if (current < limit) {
+                // previous * (1 - t / window) + current < limit
+                rowWait = (long) (windowMillis * (1.0 - (double) (limit - current) / previous)) - elapsed;
+            } else {
+                // Wait for the window to roll, then for the old current count to fade
+                rowWait = (windowMillis - elapsed) + (long) (windowMillis * (1.0 - (double) limit / current));
+            }
+            // The key is limited only as long as every row is over the limit
+            waitMillis = row == 0 ? rowWait : Math.min(waitMillis, rowWait);
+        }
+        return Math.max(1, (waitMillis + 999) / 1000);
+    }
+
+    // Helper methods
+
+    private int index(long hash, int row) {
+        int rowHash = row == 0 ? (int) hash : (int) (hash >>> 32);
+        return row * (slotMask + 1) + (rowHash & slotMask);
+    }
+
+    private static long rolled(long packed, long window) {
+        long storedWindow = packed >>> (2 * COUNT_BITS);
+        long currentWindow = window & WINDOW_MASK;
+        if (storedWindow == currentWindow) {
+            return packed;
+        }
+        if (((storedWindow + 1) & WINDOW_MASK) == currentWindow) {
+            return pack(window, current(packed), 0);
+        }
+        return pack(window, 0, 0);
+    }
+
+    private static long pack(long window, long previous, long current) {
+        return ((window & WINDOW_MASK) << (2 * COUNT_BITS)) | (previous << COUNT_BITS) | current;
+    }
+
+    private static long previous(long packed) {
+        return (packed >>> COUNT_BITS) & COUNT_MASK;
+    }
+
+    private static long current(long packed) {
+        return packed & COUNT_MASK;
+    }
+
+}
@@ -0,0 +1,46 @@
+package com.gharsaathi.common.security;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * Claims of a JWT whose signature has already been checked
+ * Produced by JwtUtil.verify and cached per token by VerifiedTokenCache
+ */
+@Getter
+@Builder
+public class VerifiedToken {
+
+    private final String tokenId;
+    private final String subject;
+    private final String type;
+    private final Long userId;
+    private final String role;
+    private final Date expiration;
+
+    static VerifiedToken from(Claims claims) {
+        return VerifiedToken.builder()
+                .tokenId(claims.getId())
+                .subject(claims.getSubject())
+                .type(claims.get("type", String.class))
+                .userId(claims.get("userId", Long.class))
+                .role(claims.get("role", String.class))
+                .expiration(claims.getExpiration())
+                .build();
+    }
+
+    public boolean isAccessToken() {
+        return "ACCESS".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "REFRESH".equals(type);
+    }
+
+    public boolean isExpired() {
+        return expiration == null || expiration.before(new Date());
+    }
+}
@@ -0,0 +1,115 @@
+package com.gharsaathi.common.security;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.common.util.TokenDigest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded cache from a bearer token's SHA-256 digest to its verified claims
+ * Repeat requests with the same token skip signature verification and JSON parsing.
+ * Lookups are lock-free; once the cache grows past max-size one thread trims it, dropping
+ * expired entries first and then arbitrary ones, so eviction is approximate rather than LRU.
+ * Revocation is still checked on every request, evictTokenId just frees the entry early.
+ */
+@Component
+@Slf4j
+public class VerifiedTokenCache {
+
+    private final int maxSize;
+
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    // jti -> digest, so a revoked token can be dropped without scanning
+    private final Map<String, String> digestsByTokenId = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean trimming = new AtomicBoolean();
+
+    public VerifiedTokenCache(@Value("${auth.token-cache.max-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Get the verified claims for a token, verifying and caching them on a miss or after expiry
+     */
+    public VerifiedToken get(String token, Function<String, VerifiedToken> verifier) {
+        if (maxSize <= 0) {
+            return verifier.apply(token);
+        }
+
+        String key = TokenDigest.of(token);
+        VerifiedToken cached = entries.get(key);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            remove(key, cached);
+        }
+
+        // Throws for invalid or expired tokens, which are never cached
+        VerifiedToken verified = verifier.apply(token);
+        entries.put(key, verified);
+        if (verified.getTokenId() != null) {
+            digestsByTokenId.put(verified.getTokenId(), key);
+        }
+        if (entries.size() > maxSize) {
+            trim();
+        }
+        return verified;
+    }
+
+    /**
+     * Drop the cached claims of a revoked token
+     */
+    public void evictTokenId(String tokenId) {
+        String key = digestsByTokenId.remove(tokenId);
+        if (key != null && entries.remove(key) != null) {
+            log.debug("Evicted cached claims for token {}", tokenId);
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // Helper methods
+
+    private void remove(String key, VerifiedToken token) {
+        if (entries.remove(key, token) && token.getTokenId() != null) {
+            digestsByTokenId.remove(token.getTokenId(), key);
+        }
+    }
+
+    /**
+     * Bring the cache back to 90% of max-size; other threads skip the trim while one runs
+     */
+    private void trim() {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            int target = maxSize - maxSize / 10;
+            for (Iterator<Map.Entry<String, VerifiedToken>> it = entries.entrySet().iterator(); it.hasNext();) {
+                Map.Entry<String, VerifiedToken> entry = it.next();
+                if (entry.getValue().isExpired()) {
+                    remove(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Iterator<Map.Entry<String, VerifiedToken>> it = entries.entrySet().iterator();
+                    it.hasNext() && entries.size() > target;) {
+                Map.Entry<String, VerifiedToken> entry = it.next();
+                remove(entry.getKey(), entry.getValue());
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.gharsaathi.common.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Access-ordered map that drops its least recently used entry once it holds more than maxSize
+ * Not thread-safe; callers synchronize on the map around each (compound) operation.
+ */
+public final class BoundedLruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maxSize;
+
+    public BoundedLruMap(int maxSize) {
+        super(16, 0.75f, true);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > maxSize;
+    }
+}
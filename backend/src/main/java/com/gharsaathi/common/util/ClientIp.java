@@ -0,0 +1,18 @@
+package com.gharsaathi.common.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Client address of a request
+ * X-Forwarded-For is resolved by the container for trusted proxies only (server.forward-headers-strategy),
+ * so a client cannot choose its own address by sending the header.
+ */
+public final class ClientIp {
+
+    private ClientIp() {
+    }
+
+    public static String of(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
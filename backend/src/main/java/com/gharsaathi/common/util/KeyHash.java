@@ -0,0 +1,27 @@
+package com.gharsaathi.common.util;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fast, well-mixed 64-bit hash of a string key for in-memory probabilistic structures
+ * FNV-1a over the UTF-8 bytes followed by the murmur3 finalizer; not for anything security related.
+ */
+public final class KeyHash {
+
+    private KeyHash() {
+    }
+
+    public static long of(String key) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
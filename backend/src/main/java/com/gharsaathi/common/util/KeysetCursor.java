@@ -0,0 +1,150 @@
+package com.gharsaathi.common.util;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.gharsaathi.common.exception.InvalidCursorException;
+
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import lombok.Getter;
+
+/**
+ * Opaque keyset pagination cursor: the (sort key, id) of the last row of a page
+ * Encoded as URL-safe Base64 so clients treat it as a token rather than a query
+ */
+@Getter
+public final class KeysetCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "|";
+    private static final String NULL_VALUE = "~";
+    private static final String VALUE_PREFIX = "=";
+
+    private final String sortBy;
+    private final Sort.Direction direction;
+    private final long id;
+    private final String value; // null when the sort key of the last row was null
+
+    private KeysetCursor(String sortBy, Sort.Direction direction, long id, String value) {
+        this.sortBy = sortBy;
+        this.direction = direction;
+        this.id = id;
+        this.value = value;
+    }
+
+    /**
+     * Cursor pointing just after the given entity in (sortBy, id) order
+     */
+    public static KeysetCursor after(Object entity, String sortBy, Sort.Direction direction, long id) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+        Object sortValue = wrapper.getPropertyValue(sortBy);
+        return new KeysetCursor(sortBy, direction, id, sortValue != null ? sortValue.toString() : null);
+    }
+
+    public static KeysetCursor decode(String token) {
+        String decoded;
+        try {
+            decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+
+        String[] parts = decoded.split("\\" + SEPARATOR, 5);
+        if (parts.length != 5 || !VERSION.equals(parts[0])
+                || (!parts[4].equals(NULL_VALUE) && !parts[4].startsWith(VALUE_PREFIX))) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+        try {
+            return new KeysetCursor(
+                parts[1],
+                Sort.Direction.valueOf(parts[2]),
+                Long.parseLong(parts[3]),
+                parts[4].equals(NULL_VALUE) ? null : parts[4].substring(VALUE_PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, VERSION, sortBy, direction.name(), Long.toString(id),
+            value == null ? NULL_VALUE : VALUE_PREFIX + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Rows strictly after this cursor in (sortBy, id) order
+     * Follows the MySQL null ordering: nulls first ascending, last descending
+     */
+    public <T> Specification<T> toSpecification() {
+        return (root, query, criteriaBuilder) -> {
+            Path<Comparable<Object>> key = root.get(sortBy);
+            Path<Long> idPath = root.get("id");
+            boolean ascending = direction.isAscending();
+            Predicate idAfter = ascending ? criteriaBuilder.greaterThan(idPath, id) : criteriaBuilder.lessThan(idPath, id);
+
+            if (value == null) {
+                Predicate sameKey = criteriaBuilder.and(criteriaBuilder.isNull(key), idAfter);
+                return ascending ? criteriaBuilder.or(sameKey, criteriaBuilder.isNotNull(key)) : sameKey;
+            }
+
+            Comparable<Object> typedValue = parse(value, key.getJavaType());
+            Predicate keyAfter = ascending
+                ? criteriaBuilder.greaterThan(key, typedValue)
+                : criteriaBuilder.lessThan(key, typedValue);
+            Predicate sameKey = criteriaBuilder.and(criteriaBuilder.equal(key, typedValue), idAfter);
+            return ascending
+                ? criteriaBuilder.or(keyAfter, sameKey)
+                : criteriaBuilder.or(keyAfter, sameKey, criteriaBuilder.isNull(key));
+        };
+    }
+
+    /**
+     * Whether cursor values of this attribute type can be encoded and parsed back
+     */
+    static boolean supportsType(Class<?> type) {
+        return type == LocalDateTime.class || type == LocalDate.class || type == BigDecimal.class
+            || type == Integer.class || type == int.class || type == Long.class || type == long.class
+            || type == Double.class || type == double.class || type.isEnum() || type == String.class;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> parse(String raw, Class<?> type) {
+        try {
+            Object parsed;
+            if (type == LocalDateTime.class) {
+                parsed = LocalDateTime.parse(raw);
+            } else if (type == LocalDate.class) {
+                parsed = LocalDate.parse(raw);
+            } else if (type == BigDecimal.class) {
+                parsed = new BigDecimal(raw);
+            } else if (type == Integer.class || type == int.class) {
+                parsed = Integer.valueOf(raw);
+            } else if (type == Long.class || type == long.class) {
+                parsed = Long.valueOf(raw);
+            } else if (type == Double.class || type == double.class) {
+                parsed = Double.valueOf(raw);
+            } else if (type.isEnum()) {
+                parsed = Enum.valueOf((Class<Enum>) type, raw);
+            } else if (type == String.class) {
+                parsed = raw;
+            } else {
+                throw new InvalidCursorException("Cannot paginate by cursor on this sort field");
+            }
+            return (Comparable<Object>) parsed;
+        } catch (RuntimeException e) {
+            if (e instanceof InvalidCursorException) {
+                throw e;
+            }
+            throw new InvalidCursorException("Malformed pagination cursor");
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.gharsaathi.common.util;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * One page of a keyset (cursor) query
+ * totalElements is only set when the caller asked for a count
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+    private final List<T> content;
+    private final String nextCursor;
+    private final boolean hasNext;
+    private final Long totalElements;
+}
@@ -0,0 +1,89 @@
+package com.gharsaathi.common.util;
+
+import java.beans.PropertyDescriptor;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+
+import com.gharsaathi.common.exception.InvalidCursorException;
+import com.gharsaathi.common.exception.InvalidSortException;
+
+/**
+ * Keyset pagination over a Specification, ordered by (sortBy, id)
+ * Each page is one LIMIT query seeking past the previous cursor; COUNT(*) only runs when requested
+ */
+public final class KeysetPagination {
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * Bring a client-supplied page size into 1..MAX_PAGE_SIZE
+     */
+    public static int clampSize(int size) {
+        return Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+    }
+
+    /**
+     * Check a client-supplied sort field before it reaches the query or the cursor
+     * Only top-level attributes whose values a cursor can carry are accepted.
+     */
+    public static void requireSortable(Class<?> entityType, String sortBy) {
+        PropertyDescriptor descriptor = sortBy != null ? BeanUtils.getPropertyDescriptor(entityType, sortBy) : null;
+        if (descriptor == null || descriptor.getReadMethod() == null
+                || !KeysetCursor.supportsType(descriptor.getPropertyType())) {
+            throw new InvalidSortException("Cannot sort by '" + sortBy + "'");
+        }
+    }
+
+    /**
+     * Parse a client-supplied sort direction (ASC or DESC, any case)
+     */
+    public static Sort.Direction parseDirection(String sortDirection) {
+        try {
+            return Sort.Direction.fromString(sortDirection);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidSortException("Sort direction must be ASC or DESC");
+        }
+    }
+
+    /**
+     * Fetch the page after the cursor; an empty cursor starts from the beginning
+     * The size is clamped; callers clamp it first when they echo it back as the page size.
+     */
+    public static <T> KeysetPage<T> fetch(JpaSpecificationExecutor<T> repository, Specification<T> spec,
+                                          String sortBy, Sort.Direction direction, String cursor, int size,
+                                          boolean includeTotal, Function<T, Long> idGetter) {
+        int limit = clampSize(size);
+
+        Specification<T> pageSpec = spec;
+        if (cursor != null && !cursor.isEmpty()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            if (!after.getSortBy().equals(sortBy) || after.getDirection() != direction) {
+                throw new InvalidCursorException("Pagination cursor does not match the requested sort");
+            }
+            pageSpec = spec.and(after.toSpecification());
+        }
+
+        Sort sort = Sort.by(direction, sortBy).and(Sort.by(direction, "id"));
+        // One extra row tells whether another page exists without counting
+        List<T> rows = repository.findBy(pageSpec, query -> query.sortBy(sort).limit(limit + 1).all());
+
+        boolean hasNext = rows.size() > limit;
+        List<T> content = hasNext ? rows.subList(0, limit) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            T last = content.get(content.size() - 1);
+            nextCursor = KeysetCursor.after(last, sortBy, direction, idGetter.apply(last)).encode();
+        }
+
+        Long totalElements = includeTotal ? repository.count(spec) : null;
+        return new KeysetPage<>(content, nextCursor, hasNext, totalElements);
+    }
+}
@@ -0,0 +1,11 @@
+package com.gharsaathi.dashboard.dto;
+
+/**
+ * Projection for the number of properties owned by a landlord
+ */
+public interface LandlordPropertyCount {
+
+    Long getLandlordId();
+
+    Long getPropertyCount();
+}
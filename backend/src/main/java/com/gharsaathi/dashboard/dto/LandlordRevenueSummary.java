@@ -0,0 +1,13 @@
+package com.gharsaathi.dashboard.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for confirmed revenue grouped by landlord
+ */
+public interface LandlordRevenueSummary {
+
+    Long getLandlordId();
+
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,13 @@
+package com.gharsaathi.dashboard.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for confirmed revenue grouped by paid month (format: "2026-02")
+ */
+public interface MonthlyRevenueSummary {
+
+    String getRevenueMonth();
+
+    BigDecimal getRevenue();
+}
@@ -0,0 +1,11 @@
+package com.gharsaathi.dashboard.dto;
+
+/**
+ * Projection for the number of rental applications received by a property
+ */
+public interface PropertyApplicationCount {
+
+    Long getPropertyId();
+
+    Long getApplicationCount();
+}
@@ -0,0 +1,15 @@
+package com.gharsaathi.dashboard.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for confirmed revenue grouped by property
+ */
+public interface PropertyRevenueSummary {
+
+    Long getPropertyId();
+
+    String getPropertyTitle();
+
+    BigDecimal getRevenue();
+}
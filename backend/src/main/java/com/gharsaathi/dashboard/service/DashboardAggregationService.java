@@ -0,0 +1,132 @@
+package com.gharsaathi.dashboard.service;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.dashboard.dto.LandlordPropertyCount;
+import com.gharsaathi.dashboard.dto.LandlordRevenueSummary;
+import com.gharsaathi.dashboard.dto.MonthlyRevenueSummary;
+import com.gharsaathi.dashboard.dto.PropertyApplicationCount;
+import com.gharsaathi.dashboard.dto.PropertyRevenueSummary;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.payment.repository.PaymentRepository;
+import com.gharsaathi.payment.repository.RevenueRollupRepository;
+import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.rental.application.repository.RentalApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Service for set-based dashboard aggregations
+ * Each method issues a fixed number of GROUP BY queries regardless of portfolio size
+ * Revenue time series read the pre-aggregated revenue rollup instead of payments
+ * READ-ONLY operations for dashboard display
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class DashboardAggregationService {
+
+    private final PaymentRepository paymentRepository;
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final PropertyRepository propertyRepository;
+    private final RentalApplicationRepository rentalApplicationRepository;
+
+    /**
+     * Get confirmed revenue per property title for a landlord (1 query)
+     */
+    public Map<String, BigDecimal> getRevenueByProperty(Long landlordId) {
+        List<PropertyRevenueSummary> summaries = paymentRepository
+            .sumAmountByPropertyForLandlord(landlordId, PaymentStatus.CONFIRMED);
+
+        Map<String, BigDecimal> revenueByProperty = new HashMap<>();
+        for (PropertyRevenueSummary summary : summaries) {
+            revenueByProperty.put(summary.getPropertyTitle(), summary.getRevenue());
+        }
+        return revenueByProperty;
+    }
+
+    /**
+     * Get confirmed revenue per month for a landlord over the last N months (1 rollup query)
+     * Months without revenue are reported as zero
+     */
+    public Map<String, BigDecimal> getRevenueByMonth(Long landlordId, int months) {
+        YearMonth firstMonth = YearMonth.now().minusMonths(months - 1);
+        return fillMonths(
+            revenueRollupRepository.sumByMonthForLandlord(landlordId, firstMonth.toString()), months);
+    }
+
+    /**
+     * Get platform-wide confirmed revenue per month over the last N months (1 rollup query)
+     * Months without revenue are reported as zero
+     */
+    public Map<String, BigDecimal> getGlobalRevenueByMonth(int months) {
+        YearMonth firstMonth = YearMonth.now().minusMonths(months - 1);
+        return fillMonths(revenueRollupRepository.sumByMonth(firstMonth.toString()), months);
+    }
+
+    /**
+     * Get confirmed revenue per landlord ID across all months (1 rollup query)
+     */
+    public Map<Long, BigDecimal> getRevenueByLandlord() {
+        return revenueRollupRepository.sumByLandlord()
+            .stream()
+            .collect(Collectors.toMap(LandlordRevenueSummary::getLandlordId, LandlordRevenueSummary::getRevenue));
+    }
+
+    /**
+     * Get property count per landlord ID (1 query)
+     */
+    public Map<Long, Long> getPropertyCountByLandlord() {
+        return propertyRepository.countPropertiesPerLandlord()
+            .stream()
+            .collect(Collectors.toMap(LandlordPropertyCount::getLandlordId, LandlordPropertyCount::getPropertyCount));
+    }
+
+    /**
+     * Get the IDs of a landlord's properties ranked by application count (1 query)
+     */
+    public List<Long> getTopPropertyIdsByApplications(Long landlordId, int limit) {
+        return rentalApplicationRepository
+            .countApplicationsPerPropertyForLandlord(landlordId, PageRequest.of(0, limit))
+            .stream()
+            .map(PropertyApplicationCount::getPropertyId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Get the IDs of platform-wide properties ranked by application count (1 query)
+     */
+    public List<Long> getTopPropertyIdsByApplications(int limit) {
+        return rentalApplicationRepository
+            .countApplicationsPerProperty(PageRequest.of(0, limit))
+            .stream()
+            .map(PropertyApplicationCount::getPropertyId)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Helper: Lay out monthly totals over the last N months in chronological order
+     */
+    private Map<String, BigDecimal> fillMonths(List<MonthlyRevenueSummary> summaries, int months) {
+        Map<String, BigDecimal> totals = summaries.stream()
+            .collect(Collectors.toMap(MonthlyRevenueSummary::getRevenueMonth, MonthlyRevenueSummary::getRevenue));
+
+        Map<String, BigDecimal> revenueMap = new LinkedHashMap<>();
+        YearMonth currentMonth = YearMonth.now();
+        for (int i = months - 1; i >= 0; i--) {
+            String monthKey = currentMonth.minusMonths(i).toString();
+            revenueMap.put(monthKey, totals.getOrDefault(monthKey, BigDecimal.ZERO));
+        }
+        return revenueMap;
+    }
+}
@@ -3,14 +3,12 @@ package com.gharsaathi.dashboard.service;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.YearMonth;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,16 +24,15 @@ import com.gharsaathi.dashboard.dto.TenantDashboardResponse;
 import com.gharsaathi.lease.model.Lease;
 import com.gharsaathi.lease.model.LeaseStatus;
 import com.gharsaathi.lease.repository.LeaseRepository;
+import com.gharsaathi.lease.service.LeaseReadModel;
 import com.gharsaathi.payment.dto.PaymentResponse;
 import com.gharsaathi.payment.model.Payment;
-import com.gharsaathi.payment.model.PaymentStatus;
 import com.gharsaathi.payment.repository.PaymentRepository;
-import com.gharsaathi.property.model.Property;
-import com.gharsaathi.property.model.PropertyImage;
-import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.payment.service.PaymentReadModel;
+import com.gharsaathi.property.service.PropertyReadModel;
 import com.gharsaathi.rental.application.dto.ApplicationResponse;
-import com.gharsaathi.rental.application.model.RentalApplication;
 import com.gharsaathi.rental.application.repository.RentalApplicationRepository;
+import com.gharsaathi.rental.application.service.ApplicationReadModel;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -52,11 +49,15 @@ import lombok.extern.slf4j.Slf4j;
 public class DashboardService {
 
     private final StatisticsService statisticsService;
+    private final DashboardAggregationService dashboardAggregationService;
     private final UserRepository userRepository;
-    private final PropertyRepository propertyRepository;
     private final RentalApplicationRepository rentalApplicationRepository;
     private final LeaseRepository leaseRepository;
     private final PaymentRepository paymentRepository;
+    private final PropertyReadModel propertyReadModel;
+    private final LeaseReadModel leaseReadModel;
+    private final PaymentReadModel paymentReadModel;
+    private final ApplicationReadModel applicationReadModel;
 
     /**
      * Get tenant dashboard with personalized data
@@ -74,13 +75,8 @@ public class DashboardService {
         var paymentStats = statisticsService.getPaymentStatisticsByTenant(tenantId);
         
         // Get recent applications (last 5)
-        PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<RentalApplication> applications = rentalApplicationRepository
-            .findByTenantId(tenantId, pageRequest)
-            .getContent();
-        List<ApplicationResponse> recentApplications = applications.stream()
-            .map(this::mapApplicationToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationResponse> recentApplications = applicationReadModel.findResponses(
+            rentalApplicationRepository.findRecentIdsByTenantId(tenantId, PageRequest.of(0, 5)));
         
         // Get upcoming payments (next 30 days)
         LocalDate today = LocalDate.now();
@@ -90,18 +86,18 @@ public class DashboardService {
             .filter(p -> p.getTenant().getId().equals(tenantId))
             .limit(5)
             .collect(Collectors.toList());
-        List<PaymentResponse> upcomingPaymentsList = upcomingPayments.stream()
-            .map(this::mapPaymentToResponse)
-            .collect(Collectors.toList());
+        List<PaymentResponse> upcomingPaymentsList = paymentReadModel.findResponses(upcomingPayments.stream()
+            .map(Payment::getId)
+            .collect(Collectors.toList()));
         
         // Get active leases (last 5)
         List<Lease> activeLeases = leaseRepository.findByTenantIdAndStatus(tenantId, LeaseStatus.ACTIVE)
             .stream()
             .limit(5)
             .collect(Collectors.toList());
-        List<LeaseResponse> activeLeasesList = activeLeases.stream()
-            .map(this::mapLeaseToResponse)
-            .collect(Collectors.toList());
+        List<LeaseResponse> activeLeasesList = leaseReadModel.findResponses(activeLeases.stream()
+            .map(Lease::getId)
+            .collect(Collectors.toList()));
         
         return TenantDashboardResponse.builder()
             .activeLeases(leaseStats.getActiveLeases())
@@ -151,26 +147,12 @@ public class DashboardService {
         }
         
         // Get top properties by application count
-        List<Property> allProperties = propertyRepository.findByLandlordId(landlordId, PageRequest.of(0, Integer.MAX_VALUE))
-            .getContent();
-        List<PropertyResponse> topProperties = allProperties.stream()
-            .map(property -> {
-                long appCount = rentalApplicationRepository.countByPropertyId(property.getId());
-                PropertyResponse response = this.mapPropertyToResponse(property);
-                // Note: PropertyResponse doesn't have applicationCount field, but this ranks them
-                return response;
-            })
-            .limit(5)
-            .collect(Collectors.toList());
+        List<PropertyResponse> topProperties = propertyReadModel.findResponses(
+            dashboardAggregationService.getTopPropertyIdsByApplications(landlordId, 5));
         
         // Get recent applications
-        PageRequest pageRequest = PageRequest.of(0, 5, Sort.by(Sort.Direction.DESC, "createdAt"));
-        List<RentalApplication> applications = rentalApplicationRepository
-            .findByLandlordId(landlordId, pageRequest)
-            .getContent();
-        List<ApplicationResponse> recentApplications = applications.stream()
-            .map(this::mapApplicationToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationResponse> recentApplications = applicationReadModel.findResponses(
+            rentalApplicationRepository.findRecentIdsByLandlordId(landlordId, PageRequest.of(0, 5)));
         
         // Get expiring leases (next 30 days)
         LocalDate today = LocalDate.now();
@@ -180,33 +162,20 @@ public class DashboardService {
             .stream()
             .filter(lease -> lease.getLandlord().getId().equals(landlordId))
             .collect(Collectors.toList());
-        List<LeaseResponse> expiringLeasesList = expiringLeases.stream()
-            .map(this::mapLeaseToResponse)
-            .collect(Collectors.toList());
+        List<LeaseResponse> expiringLeasesList = leaseReadModel.findResponses(expiringLeases.stream()
+            .map(Lease::getId)
+            .collect(Collectors.toList()));
         
         // Revenue by property
-        Map<String, BigDecimal> revenueByProperty = new HashMap<>();
-        for (Property property : allProperties) {
-            List<Payment> propertyPayments = paymentRepository.findByPropertyId(property.getId())
-                .stream()
-                .filter(p -> p.getStatus() == PaymentStatus.CONFIRMED)
-                .collect(Collectors.toList());
-            BigDecimal propertyRevenue = propertyPayments.stream()
-                .map(Payment::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            revenueByProperty.put(property.getTitle(), propertyRevenue);
-        }
+        Map<String, BigDecimal> revenueByProperty = dashboardAggregationService.getRevenueByProperty(landlordId);
         
         // Revenue by month (last 6 months)
-        Map<String, BigDecimal> revenueByMonth = calculateRevenueByMonth(landlordId, 6);
+        Map<String, BigDecimal> revenueByMonth = dashboardAggregationService.getRevenueByMonth(landlordId, 6);
         
         // Count applications this month
         LocalDate startOfMonth = LocalDate.now().withDayOfMonth(1);
-        List<RentalApplication> thisMonthApps = rentalApplicationRepository.findByLandlordId(landlordId, pageRequest)
-            .getContent()
-            .stream()
-            .filter(app -> !app.getCreatedAt().toLocalDate().isBefore(startOfMonth))
-            .collect(Collectors.toList());
+        long applicationsThisMonth = rentalApplicationRepository.countByLandlordIdCreatedSince(
+            landlordId, startOfMonth.atStartOfDay());
         
         return LandlordDashboardResponse.builder()
             .totalProperties(propertyStats.getTotalProperties())
@@ -216,7 +185,7 @@ public class DashboardService {
             .activeLeases(leaseStats.getActiveLeases())
             .expiringLeases(leaseStats.getExpiringLeases())
             .pendingApplications(appStats.getPendingApplications())
-            .totalApplicationsThisMonth(thisMonthApps.size())
+            .totalApplicationsThisMonth((int) applicationsThisMonth)
             .monthlyRentalIncome(monthlyIncome)
             .expectedMonthlyIncome(monthlyIncome)
             .totalRevenue(paymentStats.getConfirmedAmount())
@@ -254,63 +223,30 @@ public class DashboardService {
             .map(Lease::getSecurityDeposit)
             .reduce(BigDecimal.ZERO, BigDecimal::add);
         
-        // Calculate current month revenue
-        YearMonth currentMonth = YearMonth.now();
-        List<Payment> currentMonthPayments = paymentRepository.findByStatus(PaymentStatus.CONFIRMED)
-            .stream()
-            .filter(p -> p.getPaidDate() != null)
-            .filter(p -> {
-                YearMonth paymentMonth = YearMonth.from(p.getPaidDate());
-                return paymentMonth.equals(currentMonth);
-            })
-            .collect(Collectors.toList());
-        BigDecimal monthlyRevenue = currentMonthPayments.stream()
-            .map(Payment::getAmount)
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
         // User growth (last 12 months)
         Map<String, Integer> userGrowth = calculateUserGrowth(12);
         
-        // Revenue growth (last 12 months)
-        Map<String, BigDecimal> revenueGrowth = calculateGlobalRevenueByMonth(12);
+        // Revenue growth (last 12 months) and current month revenue
+        Map<String, BigDecimal> revenueGrowth = dashboardAggregationService.getGlobalRevenueByMonth(12);
+        BigDecimal monthlyRevenue = revenueGrowth.get(YearMonth.now().toString());
         
         // Top properties by application count
-        List<Property> allProperties = propertyRepository.findAll();
-        List<PropertyResponse> topProperties = allProperties.stream()
-            .sorted((p1, p2) -> {
-                long count1 = rentalApplicationRepository.countByPropertyId(p1.getId());
-                long count2 = rentalApplicationRepository.countByPropertyId(p2.getId());
-                return Long.compare(count2, count1); // Descending
-            })
-            .limit(10)
-            .map(this::mapPropertyToResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> topProperties = propertyReadModel.findResponses(
+            dashboardAggregationService.getTopPropertyIdsByApplications(10));
         
         // Top landlords by revenue
-        List<User> landlords = userRepository.findAll()
-            .stream()
-            .filter(u -> u.getRole() == Role.LANDLORD)
-            .collect(Collectors.toList());
+        List<User> landlords = userRepository.findByRole(Role.LANDLORD);
+        Map<Long, BigDecimal> revenueByLandlord = dashboardAggregationService.getRevenueByLandlord();
+        Map<Long, Long> propertyCountByLandlord = dashboardAggregationService.getPropertyCountByLandlord();
         
         List<AdminDashboardResponse.LandlordInfo> topLandlords = landlords.stream()
-            .map(landlord -> {
-                int propertiesCount = (int) propertyRepository.countByLandlordId(landlord.getId());
-                List<Payment> landlordPayments = paymentRepository.findByLandlordId(landlord.getId())
-                    .stream()
-                    .filter(p -> p.getStatus() == PaymentStatus.CONFIRMED)
-                    .collect(Collectors.toList());
-                BigDecimal totalRevenue = landlordPayments.stream()
-                    .map(Payment::getAmount)
-                    .reduce(BigDecimal.ZERO, BigDecimal::add);
-                
-                return AdminDashboardResponse.LandlordInfo.builder()
-                    .landlordId(landlord.getId())
-                    .landlordName(landlord.getFullName())
-                    .landlordEmail(landlord.getEmail())
-                    .propertiesCount(propertiesCount)
-                    .totalRevenue(totalRevenue)
-                    .build();
-            })
+            .map(landlord -> AdminDashboardResponse.LandlordInfo.builder()
+                .landlordId(landlord.getId())
+                .landlordName(landlord.getFullName())
+                .landlordEmail(landlord.getEmail())
+                .propertiesCount(propertyCountByLandlord.getOrDefault(landlord.getId(), 0L).intValue())
+                .totalRevenue(revenueByLandlord.getOrDefault(landlord.getId(), BigDecimal.ZERO))
+                .build())
             .sorted((l1, l2) -> l2.getTotalRevenue().compareTo(l1.getTotalRevenue())) // Descending
             .limit(10)
             .collect(Collectors.toList());
@@ -347,66 +283,6 @@ public class DashboardService {
             .build();
     }
 
-    /**
-     * Helper: Calculate revenue by month for a landlord
-     */
-    private Map<String, BigDecimal> calculateRevenueByMonth(Long landlordId, int months) {
-        Map<String, BigDecimal> revenueMap = new LinkedHashMap<>();
-        YearMonth currentMonth = YearMonth.now();
-        
-        for (int i = months - 1; i >= 0; i--) {
-            YearMonth month = currentMonth.minusMonths(i);
-            String monthKey = month.toString(); // Format: "2026-01"
-            
-            List<Payment> monthPayments = paymentRepository.findByLandlordId(landlordId)
-                .stream()
-                .filter(p -> p.getStatus() == PaymentStatus.CONFIRMED && p.getPaidDate() != null)
-                .filter(p -> {
-                    YearMonth paymentMonth = YearMonth.from(p.getPaidDate());
-                    return paymentMonth.equals(month);
-                })
-                .collect(Collectors.toList());
-            
-            BigDecimal monthRevenue = monthPayments.stream()
-                .map(Payment::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            revenueMap.put(monthKey, monthRevenue);
-        }
-        
-        return revenueMap;
-    }
-
-    /**
-     * Helper: Calculate global revenue by month
-     */
-    private Map<String, BigDecimal> calculateGlobalRevenueByMonth(int months) {
-        Map<String, BigDecimal> revenueMap = new LinkedHashMap<>();
-        YearMonth currentMonth = YearMonth.now();
-        
-        for (int i = months - 1; i >= 0; i--) {
-            YearMonth month = currentMonth.minusMonths(i);
-            String monthKey = month.toString();
-            
-            List<Payment> monthPayments = paymentRepository.findByStatus(PaymentStatus.CONFIRMED)
-                .stream()
-                .filter(p -> p.getPaidDate() != null)
-                .filter(p -> {
-                    YearMonth paymentMonth = YearMonth.from(p.getPaidDate());
-                    return paymentMonth.equals(month);
-                })
-                .collect(Collectors.toList());
-            
-            BigDecimal monthRevenue = monthPayments.stream()
-                .map(Payment::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-            
-            revenueMap.put(monthKey, monthRevenue);
-        }
-        
-        return revenueMap;
-    }
-
     /**
      * Helper: Calculate user growth by month
      */
@@ -431,152 +307,4 @@ public class DashboardService {
         
         return growthMap;
     }
-
-    // ===== Mapping Methods =====
-
-    /**
-     * Map Property to PropertyResponse
-     */
-    private PropertyResponse mapPropertyToResponse(Property property) {
-        String primaryImageUrl = property.getImages().stream()
-            .filter(PropertyImage::getIsPrimary)
-            .findFirst()
-            .map(PropertyImage::getImageUrl)
-            .orElse(property.getImages().isEmpty() ? null : property.getImages().get(0).getImageUrl());
-        
-        return PropertyResponse.builder()
-            .id(property.getId())
-            .title(property.getTitle())
-            .propertyType(property.getPropertyType())
-            .status(property.getStatus())
-            .city(property.getCity())
-            .area(property.getArea())
-            .price(property.getPrice())
-            .bedrooms(property.getBedrooms())
-            .bathrooms(property.getBathrooms())
-            .propertyArea(property.getPropertyArea())
-            .furnished(property.getFurnished())
-            .primaryImageUrl(primaryImageUrl)
-            .landlordId(property.getLandlord().getId())
-            .landlordName(property.getLandlord().getFullName())
-            .landlordEmail(property.getLandlord().getEmail())
-            .build();
-    }
-
-    /**
-     * Map RentalApplication to ApplicationResponse
-     */
-    private ApplicationResponse mapApplicationToResponse(RentalApplication application) {
-        ApplicationResponse.PropertyInfo propertyInfo = ApplicationResponse.PropertyInfo.builder()
-            .id(application.getProperty().getId())
-            .title(application.getProperty().getTitle())
-            .address(application.getProperty().getAddress())
-            .city(application.getProperty().getCity())
-            .price(application.getProperty().getPrice())
-            .bedrooms(application.getProperty().getBedrooms())
-            .bathrooms(application.getProperty().getBathrooms())
-            .build();
-        
-        ApplicationResponse.TenantInfo tenantInfo = ApplicationResponse.TenantInfo.builder()
-            .id(application.getTenant().getId())
-            .fullName(application.getTenant().getFullName())
-            .email(application.getTenant().getEmail())
-            .phoneNumber(application.getTenant().getPhoneNumber())
-            .build();
-        
-        return ApplicationResponse.builder()
-            .id(application.getId())
-            .property(propertyInfo)
-            .tenant(tenantInfo)
-            .status(application.getStatus())
-            .message(application.getMessage())
-            .landlordResponse(application.getLandlordResponse())
-            .createdAt(application.getCreatedAt())
-            .updatedAt(application.getUpdatedAt())
-            .build();
-    }
-
-    /**
-     * Map Lease to LeaseResponse
-     */
-    private LeaseResponse mapLeaseToResponse(Lease lease) {
-        LeaseResponse.PropertyInfo propertyInfo = LeaseResponse.PropertyInfo.builder()
-            .id(lease.getProperty().getId())
-            .title(lease.getProperty().getTitle())
-            .address(lease.getProperty().getAddress())
-            .city(lease.getProperty().getCity())
-            .build();
-        
-        LeaseResponse.TenantInfo tenantInfo = LeaseResponse.TenantInfo.builder()
-            .id(lease.getTenant().getId())
-            .fullName(lease.getTenant().getFullName())
-            .email(lease.getTenant().getEmail())
-            .build();
-        
-        LeaseResponse.LandlordInfo landlordInfo = LeaseResponse.LandlordInfo.builder()
-            .id(lease.getLandlord().getId())
-            .fullName(lease.getLandlord().getFullName())
-            .email(lease.getLandlord().getEmail())
-            .build();
-        
-        return LeaseResponse.builder()
-            .id(lease.getId())
-            .property(propertyInfo)
-            .tenant(tenantInfo)
-            .landlord(landlordInfo)
-            .leaseStartDate(lease.getLeaseStartDate())
-            .leaseEndDate(lease.getLeaseEndDate())
-            .monthlyRent(lease.getMonthlyRent())
-            .securityDeposit(lease.getSecurityDeposit())
-            .status(lease.getStatus())
-            .specialTerms(lease.getSpecialTerms())
-            .createdAt(lease.getCreatedAt())
-            .updatedAt(lease.getUpdatedAt())
-            .build();
-    }
-
-    /**
-     * Map Payment to PaymentResponse
-     */
-    private PaymentResponse mapPaymentToResponse(Payment payment) {
-        PaymentResponse.LeaseInfo leaseInfo = PaymentResponse.LeaseInfo.builder()
-            .id(payment.getLease().getId())
-            .startDate(payment.getLease().getLeaseStartDate())
-            .endDate(payment.getLease().getLeaseEndDate())
-            .build();
-        
-        PaymentResponse.TenantInfo tenantInfo = PaymentResponse.TenantInfo.builder()
-            .id(payment.getTenant().getId())
-            .fullName(payment.getTenant().getFullName())
-            .email(payment.getTenant().getEmail())
-            .build();
-        
-        PaymentResponse.LandlordInfo landlordInfo = PaymentResponse.LandlordInfo.builder()
-            .id(payment.getLandlord().getId())
-            .fullName(payment.getLandlord().getFullName())
-            .email(payment.getLandlord().getEmail())
-            .build();
-        
-        PaymentResponse.PropertyInfo propertyInfo = PaymentResponse.PropertyInfo.builder()
-            .id(payment.getProperty().getId())
-            .title(payment.getProperty().getTitle())
-            .address(payment.getProperty().getAddress())
-            .build();
-        
-        return PaymentResponse.builder()
-            .id(payment.getId())
-            .lease(leaseInfo)
-            .tenant(tenantInfo)
-            .landlord(landlordInfo)
-            .property(propertyInfo)
-            .amount(payment.getAmount())
-            .dueDate(payment.getDueDate())
-            .paidDate(payment.getPaidDate())
-            .confirmedByLandlord(payment.getConfirmedByLandlord())
-            .status(payment.getStatus())
-            .lateFee(payment.getLateFee())
-            .createdAt(payment.getCreatedAt())
-            .updatedAt(payment.getUpdatedAt())
-            .build();
-    }
 }
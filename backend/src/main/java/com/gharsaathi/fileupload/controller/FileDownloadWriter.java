@@ -0,0 +1,182 @@
+package com.gharsaathi.fileupload.controller;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.fileupload.dto.StoredFile;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes a stored file to the response with conditional GET and single byte-range support
+ * The body goes out through Tomcat sendfile when the connector offers it, otherwise through
+ * FileChannel.transferTo into the response stream
+ */
+@Component
+@Slf4j
+public class FileDownloadWriter {
+
+    // Stored files are never rewritten in place, so clients may cache them for good
+    private static final String CACHE_CONTROL = "private, max-age=31536000, immutable";
+
+    // Only types a browser renders without running script are shown inline; anything else
+    // (SVG, HTML, XML, ...) is downloaded so it cannot execute in this origin
+    private static final Set<String> INLINE_CONTENT_TYPES = Set.of(
+            "image/jpeg", "image/png", "image/gif", "image/webp", "application/pdf");
+
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    public void write(StoredFile file, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        String etag = "\"" + file.getContentHash() + "\"";
+        Instant lastModified = file.getLastModified().truncatedTo(ChronoUnit.SECONDS);
+
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified.toEpochMilli());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader("X-Content-Type-Options", "nosniff");
+
+        if (notModified(request, etag, lastModified)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        long length = file.getSize();
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && rangeApplies(request, etag)) {
+            HttpRange range = singleRange(rangeHeader);
+            if (range != null) {
+                if (length == 0 || !satisfiable(rangeHeader, length)) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                start = range.getRangeStart(length);
+                end = range.getRangeEnd(length);
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+            }
+        }
+
+        long count = end - start + 1;
+        boolean inline = isInline(file.getContentType());
+        response.setContentType(inline ? file.getContentType() : "application/octet-stream");
+        ContentDisposition.Builder disposition = inline ? ContentDisposition.inline() : ContentDisposition.attachment();
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, disposition
+                .filename(file.getFileName(), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+        response.setContentLengthLong(Math.max(count, 0));
+        if (count <= 0 || "HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat streams the file from the kernel once the response is committed
+            request.setAttribute(SENDFILE_FILENAME, file.getPath().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file.getPath(), StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            WritableByteChannel target = Channels.newChannel(out);
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, target);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+            out.flush();
+        }
+    }
+
+    // Helper methods
+
+    private static boolean isInline(String contentType) {
+        return contentType != null && INLINE_CONTENT_TYPES.contains(contentType.toLowerCase(Locale.ROOT));
+    }
+
+    private boolean notModified(HttpServletRequest request, String etag, Instant lastModified) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            return etagMatches(ifNoneMatch, etag);
+        }
+        long ifModifiedSince = dateHeader(request, HttpHeaders.IF_MODIFIED_SINCE);
+        return ifModifiedSince >= 0 && lastModified.toEpochMilli() <= ifModifiedSince;
+    }
+
+    /**
+     * If-Range: serve the range only while the client's validator still matches
+     */
+    private boolean rangeApplies(HttpServletRequest request, String etag) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.trim().equals(etag);
+    }
+
+    /**
+     * The single requested range, or null to ignore the header and send the whole file
+     */
+    private HttpRange singleRange(String rangeHeader) {
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring malformed Range header: {}", rangeHeader);
+            return null;
+        }
+    }
+
+    private boolean satisfiable(String rangeHeader, long length) {
+        String spec = rangeHeader.substring(rangeHeader.indexOf('=') + 1).trim();
+        if (spec.startsWith("-")) {
+            return !spec.equals("-0");
+        }
+        return Long.parseLong(spec.substring(0, spec.indexOf('-')).trim()) < length;
+    }
+
+    private static boolean etagMatches(String header, String etag) {
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (value.equals("*") || value.equals(etag) || value.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long dateHeader(HttpServletRequest request, String name) {
+        try {
+            return request.getDateHeader(name);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -1,9 +1,8 @@
 package com.gharsaathi.fileupload.controller;
 
+import java.io.IOException;
 import java.util.List;
 
-import org.springframework.core.io.Resource;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -18,10 +17,18 @@ import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.gharsaathi.auth.model.User;
+import com.gharsaathi.common.exception.ResourceNotFoundException;
+import com.gharsaathi.fileupload.dto.BatchUploadResponse;
 import com.gharsaathi.fileupload.dto.FileUploadResponse;
+import com.gharsaathi.fileupload.dto.StoredFile;
 import com.gharsaathi.fileupload.model.FileCategory;
+import com.gharsaathi.fileupload.model.ImageVariant;
+import com.gharsaathi.fileupload.service.BatchUploadService;
 import com.gharsaathi.fileupload.service.FileStorageService;
+import com.gharsaathi.fileupload.service.ImageVariantService;
 
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -36,6 +43,9 @@ import lombok.extern.slf4j.Slf4j;
 public class FileUploadController {
 
     private final FileStorageService fileStorageService;
+    private final BatchUploadService batchUploadService;
+    private final FileDownloadWriter fileDownloadWriter;
+    private final ImageVariantService imageVariantService;
 
     /**
      * Upload a file
@@ -53,24 +63,57 @@ public class FileUploadController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Upload several files in one request, streamed without multipart buffering
+     * Send the category field first, then the files; unacceptable files are listed in failed
+     * Accessible by: ALL authenticated users
+     */
+    @PostMapping(value = "/upload/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<BatchUploadResponse> uploadFiles(
+            @AuthenticationPrincipal User currentUser,
+            HttpServletRequest request) throws IOException {
+        log.info("User {} uploading a batch of files", currentUser.getEmail());
+
+        BatchUploadResponse response = batchUploadService.upload(request, currentUser.getId());
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * Download a file
      * Accessible by: ALL authenticated users
      */
     @GetMapping("/{fileId}/download")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<Resource> downloadFile(
+    public void downloadFile(
             @AuthenticationPrincipal User currentUser,
-            @PathVariable Long fileId) {
-        log.info("User {} downloading file {}", currentUser.getEmail(), fileId);
+            @PathVariable Long fileId,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.debug("User {} downloading file {}", currentUser.getEmail(), fileId);
         
-        Resource resource = fileStorageService.downloadFile(fileId);
-        
-        return ResponseEntity.ok()
-                .contentType(MediaType.APPLICATION_OCTET_STREAM)
-                .header(HttpHeaders.CONTENT_DISPOSITION, 
-                        "attachment; filename=\"" + resource.getFilename() + "\"")
-                .body(resource);
+        StoredFile storedFile = fileStorageService.getStoredFile(fileId);
+        fileDownloadWriter.write(storedFile, request, response);
+    }
+
+    /**
+     * Download a downscaled variant of an image (thumbnail, card or large)
+     * Accessible by: ALL authenticated users
+     */
+    @GetMapping("/{fileId}/variants/{variant}")
+    @PreAuthorize("isAuthenticated()")
+    public void downloadVariant(
+            @AuthenticationPrincipal User currentUser,
+            @PathVariable Long fileId,
+            @PathVariable String variant,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+        log.debug("User {} downloading {} variant of file {}", currentUser.getEmail(), variant, fileId);
+
+        ImageVariant imageVariant = ImageVariant.fromKey(variant)
+                .orElseThrow(() -> new ResourceNotFoundException("Unknown image variant: " + variant));
+        StoredFile storedFile = fileStorageService.getStoredFile(fileId);
+        fileDownloadWriter.write(imageVariantService.getVariant(storedFile, imageVariant), request, response);
     }
 
     /**
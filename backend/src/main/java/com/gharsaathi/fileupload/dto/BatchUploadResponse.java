@@ -0,0 +1,33 @@
+package com.gharsaathi.fileupload.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for a multi-file upload: the stored files in request order and the rejected ones
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUploadResponse {
+    
+    private List<FileUploadResponse> uploaded;
+    private List<FailedUpload> failed;
+    
+    /**
+     * Nested DTO for a file that was not stored
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FailedUpload {
+        private String fileName;
+        private String error;
+    }
+}
@@ -0,0 +1,18 @@
+package com.gharsaathi.fileupload.dto;
+
+import java.nio.file.Path;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Content written to a temp file and hashed, not yet linked to a blob
+ */
+@Data
+@Builder
+public class StagedContent {
+
+    private Path tempPath;
+    private String contentHash;
+    private long size;
+}
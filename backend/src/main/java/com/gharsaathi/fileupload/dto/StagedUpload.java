@@ -0,0 +1,16 @@
+package com.gharsaathi.fileupload.dto;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * One file of a batch upload, staged and validated, waiting to be saved
+ */
+@Data
+@Builder
+public class StagedUpload {
+
+    private String fileName;
+    private String contentType;
+    private StagedContent content;
+}
@@ -0,0 +1,22 @@
+package com.gharsaathi.fileupload.dto;
+
+import java.nio.file.Path;
+import java.time.Instant;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * A stored file resolved for download
+ */
+@Data
+@Builder
+public class StoredFile {
+
+    private Path path;
+    private String fileName;
+    private String contentType;
+    private long size;
+    private String contentHash;
+    private Instant lastModified;
+}
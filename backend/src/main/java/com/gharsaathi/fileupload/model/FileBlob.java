@@ -0,0 +1,55 @@
+package com.gharsaathi.fileupload.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity representing one unique stored file content, shared by every upload with the same hash
+ */
+@Entity
+@Table(name = "file_blobs")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FileBlob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // SHA-256 of the content (hex)
+    @Column(nullable = false, unique = true, length = 64)
+    private String contentHash;
+
+    @Column(nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(nullable = false)
+    private Long fileSize;
+
+    // Number of FileUpload rows pointing at this blob
+    @Column(nullable = false)
+    private Integer refCount;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+}
@@ -48,6 +48,15 @@ public class FileUpload {
     @Column(nullable = false, length = 100)
     private String contentType;
 
+    // SHA-256 of the content (hex); used as the download ETag
+    @Column(length = 64)
+    private String contentHash;
+
+    // Shared stored content; null for files stored before deduplication
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "blob_id")
+    private FileBlob blob;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "uploaded_by", nullable = false)
     private User uploadedBy;
@@ -0,0 +1,53 @@
+package com.gharsaathi.fileupload.model;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Downscaled JPEG renditions generated for property images
+ */
+public enum ImageVariant {
+    THUMBNAIL(160),
+    CARD(480),
+    LARGE(1280);
+
+    // Image URLs pointing at our own download endpoint, optionally absolute
+    private static final Pattern DOWNLOAD_URL = Pattern.compile("^(.*/api/files/\\d+)/download$");
+
+    private final int maxWidth;
+
+    ImageVariant(int maxWidth) {
+        this.maxWidth = maxWidth;
+    }
+
+    public int getMaxWidth() {
+        return maxWidth;
+    }
+
+    /**
+     * Lowercase name used in variant URLs and file names
+     */
+    public String getKey() {
+        return name().toLowerCase();
+    }
+
+    public static Optional<ImageVariant> fromKey(String key) {
+        return Arrays.stream(values())
+                .filter(variant -> variant.getKey().equalsIgnoreCase(key))
+                .findFirst();
+    }
+
+    /**
+     * URL of this variant for an uploaded image URL
+     * Images hosted elsewhere have no variants and keep their original URL
+     */
+    public String urlFor(String imageUrl) {
+        if (imageUrl == null) {
+            return null;
+        }
+        Matcher matcher = DOWNLOAD_URL.matcher(imageUrl);
+        return matcher.matches() ? matcher.group(1) + "/variants/" + getKey() : imageUrl;
+    }
+}
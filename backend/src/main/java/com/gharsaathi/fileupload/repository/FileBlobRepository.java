@@ -0,0 +1,39 @@
+package com.gharsaathi.fileupload.repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gharsaathi.fileupload.model.FileBlob;
+
+@Repository
+public interface FileBlobRepository extends JpaRepository<FileBlob, Long> {
+
+    Optional<FileBlob> findByContentHash(String contentHash);
+
+    /**
+     * Insert the blob with one reference, or add a reference if the hash already exists
+     * The row stays locked until the transaction ends, serialising uploads and deletes of the same content
+     */
+    @Modifying
+    @Query("INSERT INTO FileBlob (contentHash, storagePath, fileSize, refCount, createdAt) " +
+           "VALUES (:contentHash, :storagePath, :fileSize, 1, :now) " +
+           "ON CONFLICT(contentHash) DO UPDATE SET refCount = refCount + 1")
+    int acquire(@Param("contentHash") String contentHash,
+                @Param("storagePath") String storagePath,
+                @Param("fileSize") Long fileSize,
+                @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE FileBlob b SET b.refCount = b.refCount - 1 WHERE b.id = :id")
+    int release(@Param("id") Long id);
+
+    @Modifying
+    @Query("DELETE FROM FileBlob b WHERE b.id = :id AND b.refCount <= 0")
+    int deleteIfUnreferenced(@Param("id") Long id);
+}
@@ -0,0 +1,224 @@
+package com.gharsaathi.fileupload.service;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+
+import com.gharsaathi.common.exception.InvalidUploadException;
+import com.gharsaathi.common.exception.UploadTooLargeException;
+import com.gharsaathi.fileupload.dto.BatchUploadResponse;
+import com.gharsaathi.fileupload.dto.FileUploadResponse;
+import com.gharsaathi.fileupload.dto.StagedContent;
+import com.gharsaathi.fileupload.dto.StagedUpload;
+import com.gharsaathi.fileupload.model.FileCategory;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Multi-file uploads streamed straight from the request body
+ * Each file part is checked against its magic bytes as soon as they arrive and streamed into
+ * the blob store's temp area while being hashed; nothing is buffered by the multipart resolver.
+ * No transaction is open while the client is sending: all rows are saved at the end in one.
+ */
+@Service
+@Slf4j
+public class BatchUploadService {
+
+    private static final String CATEGORY_FIELD = "category";
+    private static final int MAX_FIELD_BYTES = 256;
+
+    private final FileStorageService fileStorageService;
+    private final BlobStore blobStore;
+    private final int maxFiles;
+    private final long maxFileSize;
+    private final long maxRequestSize;
+
+    public BatchUploadService(FileStorageService fileStorageService,
+                              BlobStore blobStore,
+                              @Value("${file.upload.batch.max-files:20}") int maxFiles,
+                              @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize maxFileSize,
+                              @Value("${file.upload.batch.max-request-size:100MB}") DataSize maxRequestSize) {
+        this.fileStorageService = fileStorageService;
+        this.blobStore = blobStore;
+        this.maxFiles = maxFiles;
+        this.maxFileSize = maxFileSize.toBytes();
+        this.maxRequestSize = maxRequestSize.toBytes();
+    }
+
+    /**
+     * Store every acceptable file of a multipart/form-data request
+     * The category field must come before the files; rejected files are reported, not fatal.
+     * The whole request fails once the body exceeds max-request-size or holds more than max-files files.
+     */
+    public BatchUploadResponse upload(HttpServletRequest request, Long userId) throws IOException {
+        String boundary = MultipartStreamReader.boundaryOf(request.getContentType());
+        if (boundary == null) {
+            throw new InvalidUploadException("Expected a multipart/form-data request");
+        }
+        // Refuse a declared oversized body before reading any of it; the stream limit covers chunked bodies
+        if (request.getContentLengthLong() > maxRequestSize) {
+            throw new UploadTooLargeException(requestTooLargeMessage());
+        }
+
+        List<StagedUpload> staged = new ArrayList<>();
+        List<BatchUploadResponse.FailedUpload> failed = new ArrayList<>();
+        try {
+            InputStream body = limit(request.getInputStream(), maxRequestSize,
+                    () -> new RequestTooLargeException(requestTooLargeMessage()));
+            MultipartStreamReader reader = new MultipartStreamReader(body, boundary);
+            FileCategory category = null;
+            MultipartStreamReader.Part part;
+            while ((part = reader.nextPart()) != null) {
+                if (!part.isFile()) {
+                    if (CATEGORY_FIELD.equals(part.getName())) {
+                        category = parseCategory(readField(part));
+                    }
+                    continue;
+                }
+                if (category == null) {
+                    throw new InvalidUploadException("The category field must be sent before the files");
+                }
+
+                if (staged.size() + failed.size() >= maxFiles) {
+                    throw new InvalidUploadException("Too many files in one request (max " + maxFiles + ")");
+                }
+                String fileName = StringUtils.cleanPath(part.getFileName());
+                try {
+                    staged.add(stage(part, fileName));
+                } catch (RejectedFileException ex) {
+                    failed.add(failure(fileName, ex.getMessage()));
+                }
+            }
+
+            if (staged.isEmpty()) {
+                if (failed.isEmpty()) {
+                    throw new InvalidUploadException("No files in request");
+                }
+                return BatchUploadResponse.builder().uploaded(List.of()).failed(failed).build();
+            }
+            List<FileUploadResponse> uploaded = fileStorageService.saveUploads(staged, userId, category);
+            return BatchUploadResponse.builder().uploaded(uploaded).failed(failed).build();
+
+        } catch (RequestTooLargeException ex) {
+            throw new UploadTooLargeException(ex.getMessage());
+        } catch (EOFException ex) {
+            // Truncated or malformed body (or the client went away mid-upload)
+            throw new InvalidUploadException("Incomplete upload: " + ex.getMessage());
+        } finally {
+            // Content moved into the blob store is gone already; this drops the rest
+            staged.forEach(upload -> blobStore.discard(upload.getContent()));
+        }
+    }
+
+    // Helper methods
+
+    private StagedUpload stage(MultipartStreamReader.Part part, String fileName) throws IOException {
+        if (fileName.isEmpty() || fileName.contains("..")) {
+            throw new RejectedFileException("Invalid file name: " + fileName);
+        }
+
+        InputStream body = part.getBody();
+        byte[] header = body.readNBytes(FileSignature.HEADER_LENGTH);
+        if (header.length == 0) {
+            throw new RejectedFileException("Cannot upload empty file");
+        }
+        // The declared Content-Type is not trusted; the stored type comes from the content
+        String contentType = FileSignature.detect(header, header.length);
+        if (contentType == null) {
+            throw new RejectedFileException("Only JPEG, PNG, GIF, WebP and PDF files are allowed");
+        }
+
+        InputStream content = new SequenceInputStream(new ByteArrayInputStream(header),
+                limit(body, maxFileSize - header.length, () -> new RejectedFileException("File exceeds the maximum size of "
+                        + DataSize.ofBytes(maxFileSize).toMegabytes() + "MB")));
+        StagedContent stagedContent = blobStore.stage(content);
+        return StagedUpload.builder()
+                .fileName(fileName)
+                .contentType(contentType)
+                .content(stagedContent)
+                .build();
+    }
+
+    private static String readField(MultipartStreamReader.Part part) throws IOException {
+        byte[] value = part.getBody().readNBytes(MAX_FIELD_BYTES);
+        return new String(value, StandardCharsets.UTF_8).trim();
+    }
+
+    private static FileCategory parseCategory(String value) {
+        try {
+            return FileCategory.valueOf(value);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidUploadException("Unknown file category: " + value);
+        }
+    }
+
+    private String requestTooLargeMessage() {
+        return "Upload exceeds the maximum request size of " + DataSize.ofBytes(maxRequestSize).toMegabytes() + "MB";
+    }
+
+    /**
+     * Stream that fails with the supplied exception once more than maxBytes have been read
+     */
+    private static InputStream limit(InputStream in, long maxBytes, Supplier<IOException> tooLarge) {
+        return new FilterInputStream(in) {
+            private long remaining = maxBytes;
+
+            @Override
+            public int read() throws IOException {
+                byte[] single = new byte[1];
+                return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+            }
+
+            @Override
+            public int read(byte[] target, int offset, int length) throws IOException {
+                int read = super.read(target, offset, length);
+                if (read > 0) {
+                    remaining -= read;
+                    if (remaining < 0) {
+                        throw tooLarge.get();
+                    }
+                }
+                return read;
+            }
+        };
+    }
+
+    private static BatchUploadResponse.FailedUpload failure(String fileName, String error) {
+        log.debug("Rejected upload {}: {}", fileName, error);
+        return BatchUploadResponse.FailedUpload.builder()
+                .fileName(fileName)
+                .error(error)
+                .build();
+    }
+
+    /**
+     * A single file of the batch is unacceptable; thrown from inside its stream so staging stops early
+     */
+    private static final class RejectedFileException extends IOException {
+        private RejectedFileException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * The request body as a whole is over the limit; aborts the batch
+     */
+    private static final class RequestTooLargeException extends IOException {
+        private RequestTooLargeException(String message) {
+            super(message);
+        }
+    }
+}
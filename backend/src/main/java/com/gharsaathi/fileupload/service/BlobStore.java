@@ -0,0 +1,185 @@
+package com.gharsaathi.fileupload.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.fileupload.dto.StagedContent;
+import com.gharsaathi.fileupload.model.FileBlob;
+import com.gharsaathi.fileupload.repository.FileBlobRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Content-addressed, reference-counted file store
+ * Each unique content is written once under blobs/<first two hex chars>/<sha-256>; uploads
+ * share it through FileBlob.refCount. Both store and release must run inside the caller's
+ * transaction: the FileBlob row lock taken there serialises every change to the same content.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlobStore {
+
+    private static final String BLOB_DIR = "blobs";
+    private static final String TEMP_DIR = "tmp";
+
+    private final FileBlobRepository fileBlobRepository;
+    private final ImageVariantService imageVariantService;
+
+    @Value("${file.upload.dir:./uploads}")
+    private String uploadDir;
+
+    private Path root;
+
+    @PostConstruct
+    public void init() throws IOException {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize();
+        Files.createDirectories(root.resolve(BLOB_DIR));
+        Files.createDirectories(root.resolve(TEMP_DIR));
+    }
+
+    /**
+     * Stream content to disk while hashing it and take a reference on the matching blob
+     * Content already stored is not written again
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public FileBlob store(InputStream content) throws IOException {
+        StagedContent staged = stage(content);
+        try {
+            return store(staged);
+        } finally {
+            discard(staged);
+        }
+    }
+
+    /**
+     * Stream content to a temp file while hashing it; needs no transaction
+     * The caller must pass the result to store or discard
+     */
+    public StagedContent stage(InputStream content) throws IOException {
+        Path temp = root.resolve(TEMP_DIR).resolve(UUID.randomUUID() + ".part");
+        try {
+            MessageDigest digest = sha256();
+            long size;
+            try (InputStream in = new DigestInputStream(content, digest)) {
+                size = Files.copy(in, temp);
+            }
+            return StagedContent.builder()
+                    .tempPath(temp)
+                    .contentHash(HexFormat.of().formatHex(digest.digest()))
+                    .size(size)
+                    .build();
+        } catch (IOException | RuntimeException ex) {
+            Files.deleteIfExists(temp);
+            throw ex;
+        }
+    }
+
+    /**
+     * Take a reference on the blob for staged content, moving the temp file into place if
+     * the content is new
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public FileBlob store(StagedContent staged) throws IOException {
+        String hash = staged.getContentHash();
+        String storagePath = BLOB_DIR + "/" + hash.substring(0, 2) + "/" + hash;
+
+        fileBlobRepository.acquire(hash, storagePath, staged.getSize(), LocalDateTime.now());
+
+        // Holding the row lock: nothing else can add or drop this content until we commit
+        Path target = root.resolve(storagePath);
+        if (Files.exists(target)) {
+            log.debug("Blob {} already stored, reusing it", hash);
+        } else {
+            Files.createDirectories(target.getParent());
+            Files.move(staged.getTempPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        }
+        return fileBlobRepository.findByContentHash(hash)
+                .orElseThrow(() -> new IllegalStateException("Blob row missing after acquire: " + hash));
+    }
+
+    /**
+     * Delete the temp file of staged content, if it was not moved into place
+     */
+    public void discard(StagedContent staged) {
+        try {
+            Files.deleteIfExists(staged.getTempPath());
+        } catch (IOException ex) {
+            log.warn("Failed to delete staged upload {}: {}", staged.getTempPath(), ex.getMessage());
+        }
+    }
+
+    /**
+     * Drop one reference; the last reference removes the blob row and, after commit, its file
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(FileBlob blob) throws IOException {
+        // Read everything needed up front: blob may be a lazy proxy whose row is deleted below
+        Long blobId = blob.getId();
+        String contentHash = blob.getContentHash();
+        Path target = resolve(blob);
+
+        fileBlobRepository.release(blobId);
+        if (fileBlobRepository.deleteIfUnreferenced(blobId) == 0) {
+            return;
+        }
+
+        // Move the file aside now so an upload of the same content after our commit writes a
+        // fresh copy; delete it once the row deletion is committed, restore it on rollback
+        Path tombstone = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".deleted");
+        if (!Files.exists(target)) {
+            log.warn("Blob file already missing: {}", contentHash);
+            return;
+        }
+        Files.move(target, tombstone, StandardCopyOption.ATOMIC_MOVE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        Files.deleteIfExists(tombstone);
+                        imageVariantService.deleteVariants(contentHash);
+                        log.info("Removed unreferenced blob {}", contentHash);
+                    } else {
+                        Files.move(tombstone, target, StandardCopyOption.ATOMIC_MOVE);
+                    }
+                } catch (IOException e) {
+                    log.error("Failed to finish removing blob {}: {}", contentHash, e.getMessage());
+                }
+            }
+        });
+    }
+
+    public Path resolve(FileBlob blob) {
+        return root.resolve(blob.getStoragePath()).normalize();
+    }
+
+    // Helper methods
+
+    static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
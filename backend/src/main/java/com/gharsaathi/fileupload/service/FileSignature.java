@@ -0,0 +1,64 @@
+package com.gharsaathi.fileupload.service;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Detects the accepted upload types from their leading magic bytes
+ */
+final class FileSignature {
+
+    // Enough for every signature below (WEBP needs 12)
+    static final int HEADER_LENGTH = 12;
+
+    private FileSignature() {
+    }
+
+    /**
+     * Content type for the first bytes of a file, or null when it is not an accepted type
+     */
+    static String detect(byte[] header, int length) {
+        if (startsWith(header, length, 0, 0xFF, 0xD8, 0xFF)) {
+            return "image/jpeg";
+        }
+        if (startsWith(header, length, 0, 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return "image/png";
+        }
+        if (startsWith(header, length, 0, "GIF87a") || startsWith(header, length, 0, "GIF89a")) {
+            return "image/gif";
+        }
+        if (startsWith(header, length, 0, "RIFF") && startsWith(header, length, 8, "WEBP")) {
+            return "image/webp";
+        }
+        if (startsWith(header, length, 0, "%PDF-")) {
+            return "application/pdf";
+        }
+        return null;
+    }
+
+    // Helper methods
+
+    private static boolean startsWith(byte[] header, int length, int offset, String ascii) {
+        byte[] expected = ascii.getBytes(StandardCharsets.US_ASCII);
+        if (length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if (header[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] header, int length, int offset, int... expected) {
+        if (length < offset + expected.length) {
+            return false;
+        }
+        for (int i = 0; i < expected.length; i++) {
+            if ((header[offset + i] & 0xFF) != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
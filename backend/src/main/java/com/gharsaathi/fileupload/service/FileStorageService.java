@@ -1,17 +1,21 @@
 package com.gharsaathi.fileupload.service;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -20,6 +24,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.repository.UserRepository;
 import com.gharsaathi.fileupload.dto.FileUploadResponse;
+import com.gharsaathi.fileupload.dto.StagedUpload;
+import com.gharsaathi.fileupload.dto.StoredFile;
+import com.gharsaathi.fileupload.model.FileBlob;
 import com.gharsaathi.fileupload.model.FileCategory;
 import com.gharsaathi.fileupload.model.FileUpload;
 import com.gharsaathi.fileupload.repository.FileUploadRepository;
@@ -39,6 +46,8 @@ public class FileStorageService {
 
     private final FileUploadRepository fileUploadRepository;
     private final UserRepository userRepository;
+    private final BlobStore blobStore;
+    private final ImageVariantService imageVariantService;
 
     @Value("${file.upload.dir:./uploads}")
     private String uploadDir;
@@ -69,26 +78,23 @@ public class FileStorageService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
 
-        // Generate unique filename
         String originalFileName = StringUtils.cleanPath(file.getOriginalFilename());
-        String fileExtension = getFileExtension(originalFileName);
-        String uniqueFileName = UUID.randomUUID().toString() + fileExtension;
 
         try {
-            // Create category subdirectory
-            Path categoryPath = this.fileStorageLocation.resolve(category.name().toLowerCase());
-            Files.createDirectories(categoryPath);
-
-            // Store file
-            Path targetLocation = categoryPath.resolve(uniqueFileName);
-            Files.copy(file.getInputStream(), targetLocation, StandardCopyOption.REPLACE_EXISTING);
+            // Store content once per unique hash; duplicates only add a reference
+            FileBlob blob;
+            try (InputStream in = file.getInputStream()) {
+                blob = blobStore.store(in);
+            }
 
             // Save metadata to database
             FileUpload fileUpload = FileUpload.builder()
                     .fileName(originalFileName)
-                    .filePath(category.name().toLowerCase() + "/" + uniqueFileName)
-                    .fileSize(file.getSize())
+                    .filePath(blob.getStoragePath())
+                    .fileSize(blob.getFileSize())
                     .contentType(file.getContentType())
+                    .contentHash(blob.getContentHash())
+                    .blob(blob)
                     .uploadedBy(user)
                     .fileCategory(category)
                     .build();
@@ -96,6 +102,10 @@ public class FileStorageService {
             FileUpload savedFile = fileUploadRepository.save(fileUpload);
             log.info("File uploaded successfully: {}", savedFile.getId());
 
+            if (category == FileCategory.PROPERTY_IMAGE && file.getContentType().startsWith("image/")) {
+                imageVariantService.generateAfterCommit(blob.getContentHash(), blobStore.resolve(blob));
+            }
+
             return mapToResponse(savedFile);
 
         } catch (IOException ex) {
@@ -105,27 +115,91 @@ public class FileStorageService {
     }
 
     /**
-     * Download a file
+     * Save a batch of staged uploads in one transaction, returning them in the given order
      */
-    @Transactional(readOnly = true)
-    public Resource downloadFile(Long fileId) {
-        log.info("Downloading file with ID: {}", fileId);
+    @Transactional
+    public List<FileUploadResponse> saveUploads(List<StagedUpload> uploads, Long userId, FileCategory category) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
+
+        try {
+            // Take blob row locks in hash order so concurrent batches sharing content cannot deadlock
+            Map<String, FileBlob> blobsByHash = new HashMap<>();
+            List<StagedUpload> byHash = uploads.stream()
+                    .sorted(Comparator.comparing(upload -> upload.getContent().getContentHash()))
+                    .toList();
+            for (StagedUpload upload : byHash) {
+                FileBlob blob = blobStore.store(upload.getContent());
+                blobsByHash.put(blob.getContentHash(), blob);
+            }
+
+            List<FileUpload> fileUploads = uploads.stream()
+                    .map(upload -> {
+                        FileBlob blob = blobsByHash.get(upload.getContent().getContentHash());
+                        return FileUpload.builder()
+                                .fileName(upload.getFileName())
+                                .filePath(blob.getStoragePath())
+                                .fileSize(blob.getFileSize())
+                                .contentType(upload.getContentType())
+                                .contentHash(blob.getContentHash())
+                                .blob(blob)
+                                .uploadedBy(user)
+                                .fileCategory(category)
+                                .build();
+                    })
+                    .collect(Collectors.toList());
+            List<FileUpload> savedFiles = fileUploadRepository.saveAll(fileUploads);
+            log.info("User {} uploaded {} files ({})", userId, savedFiles.size(), category);
+
+            if (category == FileCategory.PROPERTY_IMAGE) {
+                savedFiles.stream()
+                        .filter(saved -> saved.getContentType().startsWith("image/"))
+                        .map(FileUpload::getBlob)
+                        .distinct()
+                        .forEach(blob -> imageVariantService.generateAfterCommit(
+                                blob.getContentHash(), blobStore.resolve(blob)));
+            }
+
+            return savedFiles.stream()
+                    .map(this::mapToResponse)
+                    .collect(Collectors.toList());
+
+        } catch (IOException ex) {
+            log.error("Failed to store uploaded files: {}", ex.getMessage());
+            throw new RuntimeException("Failed to store files: " + ex.getMessage());
+        }
+    }
 
+    /**
+     * Resolve a file for download
+     * Files uploaded before content hashes were recorded are hashed once here
+     */
+    @Transactional
+    public StoredFile getStoredFile(Long fileId) {
         FileUpload fileUpload = fileUploadRepository.findById(fileId)
                 .orElseThrow(() -> new RuntimeException("File not found with id: " + fileId));
 
-        try {
-            Path filePath = this.fileStorageLocation.resolve(fileUpload.getFilePath()).normalize();
-            Resource resource = new UrlResource(filePath.toUri());
+        Path filePath = this.fileStorageLocation.resolve(fileUpload.getFilePath()).normalize();
+        if (!Files.isReadable(filePath)) {
+            throw new RuntimeException("File not found or not readable: " + fileUpload.getFileName());
+        }
 
-            if (resource.exists() && resource.isReadable()) {
-                return resource;
-            } else {
-                throw new RuntimeException("File not found or not readable: " + fileUpload.getFileName());
+        try {
+            if (fileUpload.getContentHash() == null) {
+                fileUpload.setContentHash(hashFile(filePath));
+                fileUploadRepository.save(fileUpload);
             }
-        } catch (Exception ex) {
-            log.error("Failed to download file: {}", ex.getMessage());
-            throw new RuntimeException("Failed to download file: " + ex.getMessage());
+            return StoredFile.builder()
+                    .path(filePath)
+                    .fileName(fileUpload.getFileName())
+                    .contentType(fileUpload.getContentType())
+                    .size(Files.size(filePath))
+                    .contentHash(fileUpload.getContentHash())
+                    .lastModified(Files.getLastModifiedTime(filePath).toInstant())
+                    .build();
+        } catch (IOException ex) {
+            log.error("Failed to read file {}: {}", fileId, ex.getMessage());
+            throw new RuntimeException("Failed to read file: " + ex.getMessage());
         }
     }
 
@@ -145,12 +219,21 @@ public class FileStorageService {
         }
 
         try {
-            // Delete physical file
-            Path filePath = this.fileStorageLocation.resolve(fileUpload.getFilePath()).normalize();
-            Files.deleteIfExists(filePath);
-
-            // Delete database record
+            // Delete database record first so the blob reference can be dropped
             fileUploadRepository.delete(fileUpload);
+            fileUploadRepository.flush();
+
+            if (fileUpload.getBlob() != null) {
+                // Shared content: the file goes only with its last reference
+                blobStore.release(fileUpload.getBlob());
+            } else {
+                // Stored before deduplication, owned by this upload alone
+                Path filePath = this.fileStorageLocation.resolve(fileUpload.getFilePath()).normalize();
+                Files.deleteIfExists(filePath);
+                if (fileUpload.getContentHash() != null) {
+                    imageVariantService.deleteVariants(fileUpload.getContentHash());
+                }
+            }
             log.info("File deleted successfully: {}", fileId);
 
         } catch (IOException ex) {
@@ -220,12 +303,12 @@ public class FileStorageService {
         }
     }
 
-    /**
-     * Get file extension
-     */
-    private String getFileExtension(String fileName) {
-        int lastDot = fileName.lastIndexOf('.');
-        return (lastDot == -1) ? "" : fileName.substring(lastDot);
+    private String hashFile(Path filePath) throws IOException {
+        MessageDigest digest = BlobStore.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(filePath), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return HexFormat.of().formatHex(digest.digest());
     }
 
     /**
@@ -0,0 +1,362 @@
+package com.gharsaathi.fileupload.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.fileupload.dto.StoredFile;
+import com.gharsaathi.fileupload.model.ImageVariant;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Generates and serves downscaled JPEG variants of uploaded images
+ * Variants are keyed by content hash under variants/<first two hex chars>/<hash>-<variant>.jpg,
+ * so deduplicated uploads share them. Property images are queued on a small low-priority pool
+ * after upload; anything missing (queue full, restart, older uploads) is queued on first request,
+ * which waits a bounded time for it and otherwise serves the original.
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    private static final String VARIANT_DIR = "variants";
+    // Largest first: each smaller variant is scaled down from the previous one
+    private static final List<ImageVariant> LARGEST_FIRST = List.of(
+            ImageVariant.LARGE, ImageVariant.CARD, ImageVariant.THUMBNAIL);
+    private static final int MAX_REMEMBERED_FAILURES = 10_000;
+
+    private final Path root;
+    private final boolean generateOnUpload;
+    private final long maxSourcePixels;
+    private final float jpegQuality;
+    private final long requestTimeoutMillis;
+    private final ThreadPoolExecutor executor;
+
+    private final Map<String, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+    // Content that ImageIO cannot decode; served as the original without retrying
+    private final Set<String> undecodable = ConcurrentHashMap.newKeySet();
+
+    public ImageVariantService(
+            @Value("${file.upload.dir:./uploads}") String uploadDir,
+            @Value("${file.image-variants.generate-on-upload:true}") boolean generateOnUpload,
+            @Value("${file.image-variants.threads:2}") int threads,
+            @Value("${file.image-variants.queue-capacity:200}") int queueCapacity,
+            @Value("${file.image-variants.max-source-pixels:50000000}") long maxSourcePixels,
+            @Value("${file.image-variants.jpeg-quality:0.82}") float jpegQuality,
+            @Value("${file.image-variants.request-timeout-ms:2000}") long requestTimeoutMillis) {
+        this.root = Paths.get(uploadDir).toAbsolutePath().normalize().resolve(VARIANT_DIR);
+        this.generateOnUpload = generateOnUpload;
+        this.maxSourcePixels = maxSourcePixels;
+        this.jpegQuality = jpegQuality;
+        this.requestTimeoutMillis = requestTimeoutMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variants-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    thread.setPriority(Thread.NORM_PRIORITY - 1);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue variant generation for an uploaded image once the current transaction commits
+     */
+    public void generateAfterCommit(String contentHash, Path source) {
+        if (!generateOnUpload) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(contentHash, source);
+                }
+            });
+        } else {
+            enqueue(contentHash, source);
+        }
+    }
+
+    /**
+     * Resolve a variant of a stored image, generating it if it does not exist yet
+     * Falls back to the original when it is not an image ImageIO can decode, or when the
+     * variant is not ready within the request timeout
+     */
+    public StoredFile getVariant(StoredFile original, ImageVariant variant) {
+        if (original.getContentType() == null || !original.getContentType().startsWith("image/")) {
+            return original;
+        }
+        String contentHash = original.getContentHash();
+        Path target = variantPath(contentHash, variant);
+        if (!Files.exists(target) && !awaitVariants(contentHash, original.getPath())) {
+            return original;
+        }
+
+        try {
+            return StoredFile.builder()
+                    .path(target)
+                    .fileName(baseName(original.getFileName()) + "-" + variant.getKey() + ".jpg")
+                    .contentType("image/jpeg")
+                    .size(Files.size(target))
+                    .contentHash(contentHash + "-" + variant.getKey())
+                    .lastModified(Files.getLastModifiedTime(target).toInstant())
+                    .build();
+        } catch (IOException ex) {
+            // Not generated (undecodable) or removed in the meantime
+            return original;
+        }
+    }
+
+    /**
+     * Remove the variants of content that is no longer stored
+     */
+    public void deleteVariants(String contentHash) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            try {
+                Files.deleteIfExists(variantPath(contentHash, variant));
+            } catch (IOException ex) {
+                log.warn("Failed to delete {} variant of {}: {}", variant.getKey(), contentHash, ex.getMessage());
+            }
+        }
+        undecodable.remove(contentHash);
+    }
+
+    // Helper methods
+
+    private void enqueue(String contentHash, Path source) {
+        if (allVariantsExist(contentHash)) {
+            return;
+        }
+        try {
+            executor.execute(() -> ensureVariants(contentHash, source));
+        } catch (RejectedExecutionException ex) {
+            log.warn("Image variant queue full, {} will be generated on first request", contentHash);
+        }
+    }
+
+    /**
+     * Generate the variants on the pool, or join a generation already running, and wait for it
+     * Returns false when the pool is saturated or the wait times out; the generation then carries on
+     * in the background so a later request finds the variants
+     */
+    private boolean awaitVariants(String contentHash, Path source) {
+        CompletableFuture<Void> generation = inFlight.get(contentHash);
+        try {
+            if (generation == null) {
+                generation = CompletableFuture.runAsync(() -> ensureVariants(contentHash, source), executor);
+            }
+            generation.get(requestTimeoutMillis, TimeUnit.MILLISECONDS);
+            return true;
+        } catch (RejectedExecutionException ex) {
+            log.debug("Image variant queue full, serving the original of {}", contentHash);
+            return false;
+        } catch (TimeoutException ex) {
+            log.debug("Image variants of {} not ready in {} ms, serving the original", contentHash, requestTimeoutMillis);
+            return false;
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Generate all variants of the content unless they exist; concurrent callers for the
+     * same content wait for the one generation instead of decoding the image again
+     */
+    private void ensureVariants(String contentHash, Path source) {
+        CompletableFuture<Void> generation = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(contentHash, generation);
+        if (running != null) {
+            running.join();
+            return;
+        }
+        try {
+            if (!allVariantsExist(contentHash) && !undecodable.contains(contentHash)) {
+                generate(contentHash, source);
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Failed to generate image variants for {}: {}", contentHash, ex.getMessage());
+        } finally {
+            inFlight.remove(contentHash, generation);
+            generation.complete(null);
+        }
+    }
+
+    private void generate(String contentHash, Path source) throws IOException {
+        long startedAt = System.nanoTime();
+        BufferedImage decoded = decode(source, LARGEST_FIRST.get(0).getMaxWidth());
+        if (decoded == null) {
+            if (undecodable.size() >= MAX_REMEMBERED_FAILURES) {
+                undecodable.clear();
+            }
+            undecodable.add(contentHash);
+            log.debug("No image variants for {}: not decodable", contentHash);
+            return;
+        }
+
+        BufferedImage current = toRgb(decoded);
+        for (ImageVariant variant : LARGEST_FIRST) {
+            current = scaleToWidth(current, variant.getMaxWidth());
+            writeJpeg(current, variantPath(contentHash, variant));
+        }
+        log.debug("Generated image variants for {} in {} ms", contentHash,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * Decode the image, subsampling while reading when it is far wider than needed
+     * Returns null for formats ImageIO cannot read and for oversized images
+     */
+    private BufferedImage decode(Path source, int maxWidth) throws IOException {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            if (in == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(in);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxSourcePixels) {
+                    log.warn("Skipping image variants: {}x{} exceeds the source pixel limit", width, height);
+                    return null;
+                }
+                // Keep at least twice the widest variant so the final downscale can filter properly
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / (2 * maxWidth));
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    private static BufferedImage toRgb(BufferedImage image) {
+        if (image.getType() == BufferedImage.TYPE_INT_RGB) {
+            return image;
+        }
+        BufferedImage rgb = new BufferedImage(image.getWidth(), image.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        try {
+            // JPEG has no alpha: flatten transparency onto white
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, rgb.getWidth(), rgb.getHeight());
+            graphics.drawImage(image, 0, 0, null);
+        } finally {
+            graphics.dispose();
+        }
+        return rgb;
+    }
+
+    /**
+     * Downscale by repeated halving, then one final bilinear step; never upscales
+     */
+    private static BufferedImage scaleToWidth(BufferedImage image, int maxWidth) {
+        BufferedImage current = image;
+        while (current.getWidth() > maxWidth) {
+            int width = Math.max(current.getWidth() / 2, maxWidth);
+            int height = Math.max(1, (int) Math.round((double) current.getHeight() * width / current.getWidth()));
+            BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+            Graphics2D graphics = scaled.createGraphics();
+            try {
+                graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+                graphics.drawImage(current, 0, 0, width, height, null);
+            } finally {
+                graphics.dispose();
+            }
+            current = scaled;
+        }
+        return current;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(jpegQuality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(temp.toFile())) {
+                writer.setOutput(out);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            writer.dispose();
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private boolean allVariantsExist(String contentHash) {
+        for (ImageVariant variant : ImageVariant.values()) {
+            if (!Files.exists(variantPath(contentHash, variant))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private Path variantPath(String contentHash, ImageVariant variant) {
+        return root.resolve(contentHash.substring(0, 2)).resolve(contentHash + "-" + variant.getKey() + ".jpg");
+    }
+
+    private static String baseName(String fileName) {
+        int dot = fileName.lastIndexOf('.');
+        return dot > 0 ? fileName.substring(0, dot) : fileName;
+    }
+}
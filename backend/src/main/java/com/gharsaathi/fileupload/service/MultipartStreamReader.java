@@ -0,0 +1,288 @@
+package com.gharsaathi.fileupload.service;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.MediaType;
+
+/**
+ * Streaming multipart/form-data reader (RFC 7578) over a raw request body
+ * Parts are handed out one at a time as streams over a fixed buffer, so nothing is spooled
+ * to memory or disk by the reader itself. A part not read to the end is skipped on nextPart.
+ */
+final class MultipartStreamReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int MAX_HEADER_BYTES = 8 * 1024;
+    private static final byte[] CRLF = {'\r', '\n'};
+
+    private final InputStream in;
+    // "\r\n--boundary": the CRLF before a delimiter belongs to the delimiter, not the part
+    private final byte[] delimiter;
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+    private int head;
+    private int tail;
+    private boolean eof;
+    private boolean finished;
+    private PartStream current;
+
+    MultipartStreamReader(InputStream in, String boundary) {
+        this.in = in;
+        this.delimiter = ("\r\n--" + boundary).getBytes(StandardCharsets.ISO_8859_1);
+        // Pretend the body starts with CRLF so the first delimiter matches like the others
+        System.arraycopy(CRLF, 0, buffer, 0, CRLF.length);
+        this.tail = CRLF.length;
+    }
+
+    /**
+     * Boundary parameter of a multipart Content-Type header, or null when there is none
+     */
+    static String boundaryOf(String contentType) {
+        if (contentType == null) {
+            return null;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (!MediaType.MULTIPART_FORM_DATA.includes(mediaType)) {
+                return null;
+            }
+            String boundary = mediaType.getParameter("boundary");
+            if (boundary != null && boundary.length() > 1 && boundary.startsWith("\"") && boundary.endsWith("\"")) {
+                boundary = boundary.substring(1, boundary.length() - 1);
+            }
+            return boundary == null || boundary.isEmpty() || boundary.length() > 70 ? null : boundary;
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Advance to the next part, or return null after the closing delimiter
+     */
+    Part nextPart() throws IOException {
+        if (finished) {
+            return null;
+        }
+        if (current == null) {
+            skipPreamble();
+        } else {
+            current.skipRemaining();
+        }
+
+        // After a delimiter: "--" closes the body, CRLF starts another part
+        ensure(2);
+        if (tail - head < 2) {
+            throw new EOFException("Multipart body ended without a closing delimiter");
+        }
+        if (buffer[head] == '-' && buffer[head + 1] == '-') {
+            finished = true;
+            return null;
+        }
+        skipLine();
+
+        Part part = readHeaders();
+        current = new PartStream();
+        part.body = current;
+        return part;
+    }
+
+    // Helper methods
+
+    private void skipPreamble() throws IOException {
+        PartStream preamble = new PartStream();
+        preamble.skipRemaining();
+    }
+
+    private Part readHeaders() throws IOException {
+        Part part = new Part();
+        int headerBytes = 0;
+        while (true) {
+            String line = readLine();
+            headerBytes += line.length() + 2;
+            if (headerBytes > MAX_HEADER_BYTES) {
+                throw new IOException("Multipart part headers too large");
+            }
+            if (line.isEmpty()) {
+                return part;
+            }
+            int colon = line.indexOf(':');
+            if (colon <= 0) {
+                continue;
+            }
+            String name = line.substring(0, colon).trim().toLowerCase(Locale.ROOT);
+            String value = line.substring(colon + 1).trim();
+            if (name.equals("content-disposition")) {
+                ContentDisposition disposition = ContentDisposition.parse(value);
+                part.name = disposition.getName();
+                part.fileName = disposition.getFilename();
+            } else if (name.equals("content-type")) {
+                part.contentType = value;
+            }
+        }
+    }
+
+    private String readLine() throws IOException {
+        int start = head;
+        while (true) {
+            for (int i = start; i + 1 < tail; i++) {
+                if (buffer[i] == '\r' && buffer[i + 1] == '\n') {
+                    String line = new String(buffer, head, i - head, StandardCharsets.UTF_8);
+                    head = i + 2;
+                    return line;
+                }
+            }
+            if (tail - head >= MAX_HEADER_BYTES) {
+                throw new IOException("Multipart header line too long");
+            }
+            int scanned = Math.max(tail - 1 - head, 0);
+            if (!fill()) {
+                throw new EOFException("Multipart body ended inside part headers");
+            }
+            start = head + scanned;
+        }
+    }
+
+    private void skipLine() throws IOException {
+        // Transport padding may precede the CRLF
+        readLine();
+    }
+
+    /**
+     * Make at least count bytes available unless the input ends first
+     */
+    private void ensure(int count) throws IOException {
+        while (tail - head < count && fill()) {
+            // keep reading
+        }
+    }
+
+    /**
+     * Compact the buffer and read more input; false once the input is exhausted
+     */
+    private boolean fill() throws IOException {
+        if (eof) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            tail -= head;
+            head = 0;
+        }
+        int read = in.read(buffer, tail, buffer.length - tail);
+        if (read < 0) {
+            eof = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    private int indexOfDelimiter() {
+        byte first = delimiter[0];
+        int last = tail - delimiter.length;
+        outer:
+        for (int i = head; i <= last; i++) {
+            if (buffer[i] != first) {
+                continue;
+            }
+            for (int j = 1; j < delimiter.length; j++) {
+                if (buffer[i + j] != delimiter[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * A form field or file within the body
+     */
+    static final class Part {
+        private String name;
+        private String fileName;
+        private String contentType;
+        private InputStream body;
+
+        String getName() {
+            return name;
+        }
+
+        String getFileName() {
+            return fileName;
+        }
+
+        String getContentType() {
+            return contentType;
+        }
+
+        boolean isFile() {
+            return fileName != null;
+        }
+
+        InputStream getBody() {
+            return body;
+        }
+    }
+
+    /**
+     * Body of the current part: everything up to the next delimiter
+     */
+    private final class PartStream extends InputStream {
+        private boolean ended;
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xff;
+        }
+
+        @Override
+        public int read(byte[] target, int offset, int length) throws IOException {
+            if (ended) {
+                return -1;
+            }
+            if (length == 0) {
+                return 0;
+            }
+            while (true) {
+                int match = indexOfDelimiter();
+                if (match == head) {
+                    head += delimiter.length;
+                    ended = true;
+                    return -1;
+                }
+                // Without a match, the last delimiter.length - 1 bytes may start one
+                int available = match >= 0 ? match - head : tail - head - (delimiter.length - 1);
+                if (available > 0) {
+                    int count = Math.min(available, length);
+                    System.arraycopy(buffer, head, target, offset, count);
+                    head += count;
+                    return count;
+                }
+                if (!fill()) {
+                    throw new EOFException("Multipart body ended inside a part");
+                }
+            }
+        }
+
+        void skipRemaining() throws IOException {
+            while (!ended) {
+                int match = indexOfDelimiter();
+                if (match >= 0) {
+                    head = match + delimiter.length;
+                    ended = true;
+                    return;
+                }
+                head = Math.max(head, tail - (delimiter.length - 1));
+                if (!fill()) {
+                    throw new EOFException("Multipart body ended inside a part");
+                }
+            }
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class LeaseController {
     /**
      * Get all leases for authenticated tenant
      * GET /api/tenant/leases?status=ACTIVE&page=0&size=10
+     * GET /api/tenant/leases?status=ACTIVE&cursor=&size=10 (keyset pagination)
      */
     @GetMapping("/tenant/leases")
     @PreAuthorize("hasRole('TENANT')")
@@ -50,10 +51,14 @@ public class LeaseController {
             @AuthenticationPrincipal User user,
             @RequestParam(required = false) LeaseStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
         log.info("Tenant {} fetching their leases", user.getId());
-        LeaseListResponse response = leaseService.getTenantLeases(user.getId(), status, page, size);
+        LeaseListResponse response = cursor != null
+            ? leaseService.getTenantLeasesByCursor(user.getId(), status, cursor, size, includeTotal)
+            : leaseService.getTenantLeases(user.getId(), status, page, size);
         return ResponseEntity.ok(response);
     }
     
@@ -81,10 +86,14 @@ public class LeaseController {
     public ResponseEntity<LeaseListResponse> getTenantActiveLeases(
             @AuthenticationPrincipal User user,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
         log.info("Tenant {} fetching active leases", user.getId());
-        LeaseListResponse response = leaseService.getTenantLeases(user.getId(), LeaseStatus.ACTIVE, page, size);
+        LeaseListResponse response = cursor != null
+            ? leaseService.getTenantLeasesByCursor(user.getId(), LeaseStatus.ACTIVE, cursor, size, includeTotal)
+            : leaseService.getTenantLeases(user.getId(), LeaseStatus.ACTIVE, page, size);
         return ResponseEntity.ok(response);
     }
     
@@ -93,6 +102,7 @@ public class LeaseController {
     /**
      * Get all leases for authenticated landlord
      * GET /api/landlord/leases?status=ACTIVE&page=0&size=10
+     * GET /api/landlord/leases?status=ACTIVE&cursor=&size=10 (keyset pagination)
      */
     @GetMapping("/landlord/leases")
     @PreAuthorize("hasRole('LANDLORD')")
@@ -100,10 +110,14 @@ public class LeaseController {
             @AuthenticationPrincipal User user,
             @RequestParam(required = false) LeaseStatus status,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
         log.info("Landlord {} fetching their leases", user.getId());
-        LeaseListResponse response = leaseService.getLandlordLeases(user.getId(), status, page, size);
+        LeaseListResponse response = cursor != null
+            ? leaseService.getLandlordLeasesByCursor(user.getId(), status, cursor, size, includeTotal)
+            : leaseService.getLandlordLeases(user.getId(), status, page, size);
         return ResponseEntity.ok(response);
     }
     
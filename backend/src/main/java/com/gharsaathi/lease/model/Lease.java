@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
@@ -32,7 +33,12 @@ import lombok.NoArgsConstructor;
  * Entity representing a lease agreement between a landlord and tenant
  */
 @Entity
-@Table(name = "leases")
+@Table(name = "leases", indexes = {
+    @Index(name = "idx_lease_tenant_created", columnList = "tenant_id, created_at, id"),
+    @Index(name = "idx_lease_landlord_created", columnList = "landlord_id, created_at, id"),
+    @Index(name = "idx_lease_tenant_status_created", columnList = "tenant_id, status, created_at"),
+    @Index(name = "idx_lease_landlord_status_created", columnList = "landlord_id, status, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -1,24 +1,28 @@
 package com.gharsaathi.lease.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gharsaathi.common.dto.LeaseSummaryView;
 import com.gharsaathi.lease.model.Lease;
 import com.gharsaathi.lease.model.LeaseStatus;
+import com.gharsaathi.property.repository.PropertyRepository;
 
 /**
  * Repository interface for Lease entity operations
  */
 @Repository
-public interface LeaseRepository extends JpaRepository<Lease, Long> {
+public interface LeaseRepository extends JpaRepository<Lease, Long>, JpaSpecificationExecutor<Lease> {
     
     /**
      * Find lease by the original rental application ID
@@ -65,6 +69,57 @@ public interface LeaseRepository extends JpaRepository<Lease, Long> {
      */
     Page<Lease> findByLandlordId(Long landlordId, Pageable pageable);
     
+    /**
+     * Find a page of a tenant's lease IDs, optionally filtered by status
+     */
+    @Query(value = "SELECT l.id FROM Lease l " +
+                   "WHERE l.tenant.id = :tenantId " +
+                   "AND (:status IS NULL OR l.status = :status)",
+           countQuery = "SELECT COUNT(l) FROM Lease l " +
+                        "WHERE l.tenant.id = :tenantId " +
+                        "AND (:status IS NULL OR l.status = :status)")
+    Page<Long> findIdPageByTenantId(@Param("tenantId") Long tenantId,
+                                    @Param("status") LeaseStatus status,
+                                    Pageable pageable);
+    
+    /**
+     * Find a page of a landlord's lease IDs, optionally filtered by status
+     */
+    @Query(value = "SELECT l.id FROM Lease l " +
+                   "WHERE l.landlord.id = :landlordId " +
+                   "AND (:status IS NULL OR l.status = :status)",
+           countQuery = "SELECT COUNT(l) FROM Lease l " +
+                        "WHERE l.landlord.id = :landlordId " +
+                        "AND (:status IS NULL OR l.status = :status)")
+    Page<Long> findIdPageByLandlordId(@Param("landlordId") Long landlordId,
+                                      @Param("status") LeaseStatus status,
+                                      Pageable pageable);
+    
+    /**
+     * Find list-view summaries of leases by IDs (unordered)
+     */
+    @Query("SELECT l.id AS id, a.id AS applicationId, l.leaseStartDate AS leaseStartDate, " +
+           "l.leaseEndDate AS leaseEndDate, l.monthlyRent AS monthlyRent, l.securityDeposit AS securityDeposit, " +
+           "l.status AS status, l.numberOfOccupants AS numberOfOccupants, l.specialTerms AS specialTerms, " +
+           "l.autoRenew AS autoRenew, l.earlyTerminationNoticeDays AS earlyTerminationNoticeDays, " +
+           "l.terminationDate AS terminationDate, l.terminationReason AS terminationReason, " +
+           "l.createdAt AS createdAt, l.updatedAt AS updatedAt, l.signedAt AS signedAt, " +
+           "p.id AS propertyId, p.title AS propertyTitle, p.propertyType AS propertyType, " +
+           "p.address AS propertyAddress, p.city AS propertyCity, p.area AS propertyLocality, " +
+           "p.bedrooms AS propertyBedrooms, p.bathrooms AS propertyBathrooms, " +
+           "p.propertyArea AS propertyArea, p.furnished AS propertyFurnished, " +
+           PropertyRepository.PRIMARY_IMAGE_URL + " AS primaryImageUrl, " +
+           "t.id AS tenantId, t.fullName AS tenantName, t.email AS tenantEmail, t.phoneNumber AS tenantPhone, " +
+           "ll.id AS landlordId, ll.fullName AS landlordName, ll.email AS landlordEmail, " +
+           "ll.phoneNumber AS landlordPhone " +
+           "FROM Lease l " +
+           "JOIN l.property p " +
+           "JOIN l.tenant t " +
+           "JOIN l.landlord ll " +
+           "LEFT JOIN l.application a " +
+           "WHERE l.id IN :ids")
+    List<LeaseSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
     /**
      * Find leases with specific status that have end date before given date
      * Useful for finding expired leases
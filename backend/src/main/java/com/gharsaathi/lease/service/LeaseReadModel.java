@@ -0,0 +1,119 @@
+package com.gharsaathi.lease.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.common.dto.LeaseResponse;
+import com.gharsaathi.common.dto.LeaseSummaryView;
+import com.gharsaathi.common.dto.PropertyAmenityView;
+import com.gharsaathi.lease.model.Lease;
+import com.gharsaathi.lease.repository.LeaseRepository;
+import com.gharsaathi.property.repository.PropertyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds LeaseResponse list items from a projection instead of entity graphs
+ * Two queries per page regardless of page size: the lease rows and the property amenities
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaseReadModel {
+
+    private final LeaseRepository leaseRepository;
+    private final PropertyRepository propertyRepository;
+
+    /**
+     * Load responses for the given lease IDs, in the same order
+     * IDs that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<LeaseResponse> findResponses(List<Long> leaseIds) {
+        if (leaseIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, LeaseSummaryView> viewsById = leaseRepository.findSummariesByIdIn(leaseIds)
+            .stream()
+            .collect(Collectors.toMap(LeaseSummaryView::getId, Function.identity()));
+
+        Set<Long> propertyIds = viewsById.values().stream()
+            .map(LeaseSummaryView::getPropertyId)
+            .collect(Collectors.toSet());
+        Map<Long, Set<String>> amenitiesByPropertyId = propertyIds.isEmpty()
+            ? Map.of()
+            : propertyRepository.findAmenitiesByPropertyIdIn(propertyIds).stream()
+                .collect(Collectors.groupingBy(PropertyAmenityView::getPropertyId,
+                    Collectors.mapping(PropertyAmenityView::getAmenity, Collectors.toSet())));
+
+        return leaseIds.stream()
+            .map(viewsById::get)
+            .filter(Objects::nonNull)
+            .map(view -> toResponse(view,
+                amenitiesByPropertyId.getOrDefault(view.getPropertyId(), new HashSet<>())))
+            .collect(Collectors.toList());
+    }
+
+    private LeaseResponse toResponse(LeaseSummaryView view, Set<String> amenities) {
+        // Derived fields follow the entity's own rules
+        Lease dates = Lease.builder()
+            .leaseStartDate(view.getLeaseStartDate())
+            .leaseEndDate(view.getLeaseEndDate())
+            .build();
+
+        return LeaseResponse.builder()
+            .id(view.getId())
+            .property(LeaseResponse.PropertyInfo.builder()
+                .id(view.getPropertyId())
+                .title(view.getPropertyTitle())
+                .propertyType(view.getPropertyType())
+                .address(view.getPropertyAddress())
+                .city(view.getPropertyCity())
+                .area(view.getPropertyLocality())
+                .bedrooms(view.getPropertyBedrooms())
+                .bathrooms(view.getPropertyBathrooms())
+                .propertyArea(view.getPropertyArea())
+                .furnished(view.getPropertyFurnished())
+                .amenities(amenities)
+                .primaryImageUrl(view.getPrimaryImageUrl())
+                .build())
+            .tenant(LeaseResponse.TenantInfo.builder()
+                .id(view.getTenantId())
+                .fullName(view.getTenantName())
+                .email(view.getTenantEmail())
+                .phoneNumber(view.getTenantPhone())
+                .build())
+            .landlord(LeaseResponse.LandlordInfo.builder()
+                .id(view.getLandlordId())
+                .fullName(view.getLandlordName())
+                .email(view.getLandlordEmail())
+                .phoneNumber(view.getLandlordPhone())
+                .build())
+            .applicationId(view.getApplicationId())
+            .leaseStartDate(view.getLeaseStartDate())
+            .leaseEndDate(view.getLeaseEndDate())
+            .monthlyRent(view.getMonthlyRent())
+            .securityDeposit(view.getSecurityDeposit())
+            .status(view.getStatus())
+            .numberOfOccupants(view.getNumberOfOccupants())
+            .specialTerms(view.getSpecialTerms())
+            .autoRenew(view.getAutoRenew())
+            .earlyTerminationNoticeDays(view.getEarlyTerminationNoticeDays())
+            .terminationDate(view.getTerminationDate())
+            .terminationReason(view.getTerminationReason())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .signedAt(view.getSignedAt())
+            .daysRemaining(dates.getDaysRemaining())
+            .durationInMonths(dates.getDurationInMonths())
+            .isExpiringSoon(dates.isExpiringSoon(30))
+            .build();
+    }
+}
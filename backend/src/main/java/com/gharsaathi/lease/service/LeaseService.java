@@ -8,6 +8,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +20,8 @@ import com.gharsaathi.common.dto.LeaseResponse;
 import com.gharsaathi.common.dto.TerminateLeaseRequest;
 import com.gharsaathi.common.dto.UpdateLeaseRequest;
 import com.gharsaathi.common.exception.ResourceNotFoundException;
+import com.gharsaathi.common.util.KeysetPage;
+import com.gharsaathi.common.util.KeysetPagination;
 import com.gharsaathi.lease.exception.InvalidLeaseDateException;
 import com.gharsaathi.lease.exception.InvalidLeaseStateException;
 import com.gharsaathi.lease.exception.LeaseAccessDeniedException;
@@ -32,6 +35,7 @@ import com.gharsaathi.property.model.Property;
 import com.gharsaathi.property.model.PropertyImage;
 import com.gharsaathi.property.model.PropertyStatus;
 import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.property.search.PropertySearchIndex;
 import com.gharsaathi.rental.application.model.RentalApplication;
 import com.gharsaathi.rental.application.repository.RentalApplicationRepository;
 
@@ -48,9 +52,11 @@ public class LeaseService {
     
     private final LeaseRepository leaseRepository;
     private final PropertyRepository propertyRepository;
+    private final PropertySearchIndex propertySearchIndex;
     private final UserRepository userRepository;
     private final RentalApplicationRepository rentalApplicationRepository;
     private final PaymentService paymentService;
+    private final LeaseReadModel leaseReadModel;
     
     /**
      * Auto-create lease from approved rental application
@@ -165,6 +171,7 @@ public class LeaseService {
         // Update property status to RENTED
         property.setStatus(PropertyStatus.RENTED);
         propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(property);
         
         log.info("Manual lease created successfully with id: {}", savedLease.getId());
         
@@ -198,29 +205,9 @@ public class LeaseService {
     public LeaseListResponse getTenantLeases(Long tenantId, LeaseStatus status, int page, int size) {
         log.info("Fetching leases for tenant: {} with status: {}", tenantId, status);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
-        
-        Page<Lease> leasePage;
-        if (status != null) {
-            leasePage = leaseRepository.findByTenantId(tenantId, pageable)
-                .map(lease -> {
-                    if (lease.getStatus() == status) {
-                        return lease;
-                    }
-                    return null;
-                });
-            // Filter out nulls
-            List<Lease> filtered = leasePage.getContent().stream()
-                .filter(lease -> lease != null && lease.getStatus() == status)
-                .collect(Collectors.toList());
-            
-            // For simplicity, fetch all and filter
-            List<Lease> allLeases = leaseRepository.findByTenantIdAndStatus(tenantId, status);
-            return mapToListResponse(allLeases, page, size);
-        } else {
-            leasePage = leaseRepository.findByTenantId(tenantId, pageable);
-            return mapToListResponse(leasePage);
-        }
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+        Page<Long> leaseIdPage = leaseRepository.findIdPageByTenantId(tenantId, status, pageable);
+        return mapToListResponse(leaseIdPage);
     }
     
     /**
@@ -230,16 +217,35 @@ public class LeaseService {
     public LeaseListResponse getLandlordLeases(Long landlordId, LeaseStatus status, int page, int size) {
         log.info("Fetching leases for landlord: {} with status: {}", landlordId, status);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending().and(Sort.by("id").descending()));
+        Page<Long> leaseIdPage = leaseRepository.findIdPageByLandlordId(landlordId, status, pageable);
+        return mapToListResponse(leaseIdPage);
+    }
+    
+    /**
+     * Get leases for a tenant with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public LeaseListResponse getTenantLeasesByCursor(Long tenantId, LeaseStatus status, String cursor, int size,
+                                                     boolean includeTotal) {
+        log.info("Fetching leases by cursor for tenant: {} with status: {}", tenantId, status);
         
-        Page<Lease> leasePage;
-        if (status != null) {
-            List<Lease> allLeases = leaseRepository.findByLandlordIdAndStatus(landlordId, status);
-            return mapToListResponse(allLeases, page, size);
-        } else {
-            leasePage = leaseRepository.findByLandlordId(landlordId, pageable);
-            return mapToListResponse(leasePage);
-        }
+        Specification<Lease> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("tenant").get("id"), tenantId);
+        return fetchByCursor(spec, status, cursor, size, includeTotal);
+    }
+    
+    /**
+     * Get leases for a landlord with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public LeaseListResponse getLandlordLeasesByCursor(Long landlordId, LeaseStatus status, String cursor, int size,
+                                                       boolean includeTotal) {
+        log.info("Fetching leases by cursor for landlord: {} with status: {}", landlordId, status);
+        
+        Specification<Lease> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("landlord").get("id"), landlordId);
+        return fetchByCursor(spec, status, cursor, size, includeTotal);
     }
     
     /**
@@ -336,6 +342,7 @@ public class LeaseService {
         Property property = lease.getProperty();
         property.setStatus(PropertyStatus.AVAILABLE);
         propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(property);
         
         // Cancel future payments
         try {
@@ -389,6 +396,7 @@ public class LeaseService {
         if (property.getStatus() != PropertyStatus.RENTED) {
             property.setStatus(PropertyStatus.RENTED);
             propertyRepository.save(property);
+            propertySearchIndex.indexAfterCommit(property);
         }
         
         // Generate payments for the renewal period
@@ -427,6 +435,7 @@ public class LeaseService {
             Property property = lease.getProperty();
             property.setStatus(PropertyStatus.AVAILABLE);
             propertyRepository.save(property);
+            propertySearchIndex.indexAfterCommit(property);
             
             log.info("Marked lease {} as expired and property {} as available", 
                 lease.getId(), property.getId());
@@ -446,9 +455,9 @@ public class LeaseService {
         List<Lease> expiringLeases = leaseRepository.findByStatusAndLeaseEndDateBetween(
             LeaseStatus.ACTIVE, today, futureDate);
         
-        return expiringLeases.stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        return leaseReadModel.findResponses(expiringLeases.stream()
+            .map(Lease::getId)
+            .collect(Collectors.toList()));
     }
     
     // Helper Methods
@@ -548,45 +557,43 @@ public class LeaseService {
     }
     
     /**
-     * Map Page<Lease> to LeaseListResponse
+     * Fetch one keyset page of leases, newest first, optionally filtered by status
      */
-    private LeaseListResponse mapToListResponse(Page<Lease> leasePage) {
-        List<LeaseResponse> leases = leasePage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+    private LeaseListResponse fetchByCursor(Specification<Lease> spec, LeaseStatus status, String cursor, int size,
+                                            boolean includeTotal) {
+        if (status != null) {
+            spec = spec.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), status));
+        }
+        KeysetPage<Lease> keysetPage = KeysetPagination.fetch(leaseRepository, spec, "createdAt",
+            Sort.Direction.DESC, cursor, size, includeTotal, Lease::getId);
+        List<LeaseResponse> leases = leaseReadModel.findResponses(keysetPage.getContent().stream()
+            .map(Lease::getId)
+            .collect(Collectors.toList()));
         
         return LeaseListResponse.builder()
             .leases(leases)
-            .totalElements(leasePage.getTotalElements())
-            .totalPages(leasePage.getTotalPages())
-            .currentPage(leasePage.getNumber())
-            .pageSize(leasePage.getSize())
-            .hasNext(leasePage.hasNext())
-            .hasPrevious(leasePage.hasPrevious())
+            .totalElements(keysetPage.getTotalElements())
+            .pageSize(KeysetPagination.clampSize(size))
+            .hasNext(keysetPage.isHasNext())
+            .hasPrevious(!cursor.isEmpty())
+            .nextCursor(keysetPage.getNextCursor())
             .build();
     }
     
     /**
-     * Map List<Lease> to LeaseListResponse (for filtered results)
+     * Map a page of lease IDs to LeaseListResponse
      */
-    private LeaseListResponse mapToListResponse(List<Lease> leases, int page, int size) {
-        List<LeaseResponse> leaseResponses = leases.stream()
-            .skip((long) page * size)
-            .limit(size)
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
-        
-        int totalElements = leases.size();
-        int totalPages = (int) Math.ceil((double) totalElements / size);
+    private LeaseListResponse mapToListResponse(Page<Long> leaseIdPage) {
+        List<LeaseResponse> leases = leaseReadModel.findResponses(leaseIdPage.getContent());
         
         return LeaseListResponse.builder()
-            .leases(leaseResponses)
-            .totalElements((long) totalElements)
-            .totalPages(totalPages)
-            .currentPage(page)
-            .pageSize(size)
-            .hasNext(page < totalPages - 1)
-            .hasPrevious(page > 0)
+            .leases(leases)
+            .totalElements(leaseIdPage.getTotalElements())
+            .totalPages(leaseIdPage.getTotalPages())
+            .currentPage(leaseIdPage.getNumber())
+            .pageSize(leaseIdPage.getSize())
+            .hasNext(leaseIdPage.hasNext())
+            .hasPrevious(leaseIdPage.hasPrevious())
             .build();
     }
 }
@@ -1,8 +1,10 @@
 package com.gharsaathi.notification.controller;
 
-import java.util.List;
 import java.util.Map;
 
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
@@ -13,12 +15,21 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.common.exception.InvalidTokenException;
 import com.gharsaathi.notification.dto.CreateNotificationRequest;
 import com.gharsaathi.notification.dto.NotificationDTO;
+import com.gharsaathi.notification.dto.NotificationListResponse;
+import com.gharsaathi.notification.dto.NotificationRetentionStats;
 import com.gharsaathi.notification.model.NotificationType;
+import com.gharsaathi.notification.service.NotificationRetentionService;
 import com.gharsaathi.notification.service.NotificationService;
+import com.gharsaathi.notification.service.NotificationStreamService;
+import com.gharsaathi.notification.service.NotificationStreamTokenService;
 
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -32,15 +43,23 @@ import lombok.RequiredArgsConstructor;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationStreamTokenService notificationStreamTokenService;
+    private final NotificationRetentionService notificationRetentionService;
 
     /**
-     * Get all notifications for current user
+     * Get all notifications for current user, newest first
+     * GET /api/notifications?cursor=&size=20 (pass nextCursor from the previous page to continue)
      */
     @GetMapping
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<NotificationDTO>> getMyNotifications(Authentication authentication) {
+    public ResponseEntity<NotificationListResponse> getMyNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        List<NotificationDTO> notifications = notificationService.getUserNotifications(userId);
+        NotificationListResponse notifications = notificationService.getUserNotifications(userId, cursor, size, includeTotal);
         return ResponseEntity.ok(notifications);
     }
 
@@ -49,9 +68,13 @@ public class NotificationController {
      */
     @GetMapping("/unread")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<NotificationDTO>> getUnreadNotifications(Authentication authentication) {
+    public ResponseEntity<NotificationListResponse> getUnreadNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        List<NotificationDTO> notifications = notificationService.getUnreadNotifications(userId);
+        NotificationListResponse notifications = notificationService.getUnreadNotifications(userId, cursor, size, includeTotal);
         return ResponseEntity.ok(notifications);
     }
 
@@ -60,9 +83,13 @@ public class NotificationController {
      */
     @GetMapping("/read")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<NotificationDTO>> getReadNotifications(Authentication authentication) {
+    public ResponseEntity<NotificationListResponse> getReadNotifications(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
+            Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        List<NotificationDTO> notifications = notificationService.getReadNotifications(userId);
+        NotificationListResponse notifications = notificationService.getReadNotifications(userId, cursor, size, includeTotal);
         return ResponseEntity.ok(notifications);
     }
 
@@ -71,11 +98,14 @@ public class NotificationController {
      */
     @GetMapping("/type/{type}")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<List<NotificationDTO>> getNotificationsByType(
+    public ResponseEntity<NotificationListResponse> getNotificationsByType(
             @PathVariable NotificationType type,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        List<NotificationDTO> notifications = notificationService.getNotificationsByType(userId, type);
+        NotificationListResponse notifications = notificationService.getNotificationsByType(userId, type, cursor, size, includeTotal);
         return ResponseEntity.ok(notifications);
     }
 
@@ -90,6 +120,44 @@ public class NotificationController {
         return ResponseEntity.ok(Map.of("unreadCount", count));
     }
 
+    /**
+     * Single-use token for opening the stream from a browser EventSource, which cannot send a Bearer header
+     * POST /api/notifications/stream-token
+     */
+    @PostMapping("/stream-token")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Map<String, Object>> createStreamToken(Authentication authentication) {
+        Long userId = getUserIdFromAuth(authentication);
+        String token = notificationStreamTokenService.issue(userId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(Map.of("token", token, "expiresIn", notificationStreamTokenService.getTtlSeconds()));
+    }
+
+    /**
+     * Server-sent events for the current user: "unread-count" on connect and whenever the count
+     * changes, plus "notification" for each new notification; replaces polling the count
+     * GET /api/notifications/stream with a Bearer header, or ?token= from POST /stream-token
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamNotifications(
+            @RequestParam(required = false) String token,
+            Authentication authentication) {
+        Long userId;
+        if (token != null) {
+            userId = notificationStreamTokenService.consume(token);
+        } else if (authentication != null && authentication.getPrincipal() instanceof User) {
+            userId = getUserIdFromAuth(authentication);
+        } else {
+            throw new InvalidTokenException("A Bearer token or stream token is required");
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                // Stop reverse proxies from buffering the stream
+                .header("X-Accel-Buffering", "no")
+                .body(notificationStreamService.subscribe(userId));
+    }
+
     /**
      * Mark notification as read
      */
@@ -108,10 +176,11 @@ public class NotificationController {
      */
     @PatchMapping("/read-all")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<String> markAllAsRead(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> markAllAsRead(Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        String message = notificationService.markAllAsRead(userId);
-        return ResponseEntity.ok(message);
+        int updated = notificationService.markAllAsRead(userId);
+        String message = updated == 0 ? "No unread notifications" : "All notifications marked as read";
+        return ResponseEntity.ok(Map.of("message", message, "updated", updated));
     }
 
     /**
@@ -132,10 +201,11 @@ public class NotificationController {
      */
     @DeleteMapping("/read-all")
     @PreAuthorize("isAuthenticated()")
-    public ResponseEntity<String> deleteAllRead(Authentication authentication) {
+    public ResponseEntity<Map<String, Object>> deleteAllRead(Authentication authentication) {
         Long userId = getUserIdFromAuth(authentication);
-        String message = notificationService.deleteAllRead(userId);
-        return ResponseEntity.ok(message);
+        int deleted = notificationService.deleteAllRead(userId);
+        String message = deleted == 0 ? "No read notifications to delete" : "All read notifications deleted";
+        return ResponseEntity.ok(Map.of("message", message, "deleted", deleted));
     }
 
     /**
@@ -148,10 +218,36 @@ public class NotificationController {
         return ResponseEntity.ok(notification);
     }
 
+    /**
+     * Notification table sizes, rows purged since startup and the last retention run (admin only)
+     * GET /api/notifications/admin/retention
+     */
+    @GetMapping("/admin/retention")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<NotificationRetentionStats> getRetentionStats() {
+        return ResponseEntity.ok(notificationRetentionService.getStats());
+    }
+
+    /**
+     * Start the retention policy now instead of waiting for the nightly job (admin only)
+     * Runs in the background; poll GET /admin/retention for lastRun
+     * POST /api/notifications/admin/retention/run
+     */
+    @PostMapping("/admin/retention/run")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, String>> runRetention() {
+        if (!notificationRetentionService.requestRun()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .body(Map.of("error", "A retention run is already in progress"));
+        }
+        return ResponseEntity.accepted().body(Map.of("message", "Retention run started"));
+    }
+
     /**
      * Helper method to extract user ID from authentication
      */
     private Long getUserIdFromAuth(Authentication authentication) {
-        return Long.parseLong(authentication.getName());
+        // The principal is the User; getName() is the email
+        return ((User) authentication.getPrincipal()).getId();
     }
 }
@@ -0,0 +1,27 @@
+package com.gharsaathi.notification.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one page of the notification inbox (keyset pagination, newest first)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationListResponse {
+    
+    private List<NotificationDTO> notifications;
+    private Boolean hasNext;
+    
+    // Token for the next page, null on the last page
+    private String nextCursor;
+    
+    private Long totalElements; // null unless includeTotal=true
+    private Long unreadCount;
+}
@@ -0,0 +1,28 @@
+package com.gharsaathi.notification.dto;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.gharsaathi.notification.model.NotificationType;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one notification retention run
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRetentionRun {
+    private LocalDateTime startedAt;
+    private Long durationMs;
+    private Map<NotificationType, Long> purgedByType;
+    private Long purged;
+    private Long archived;
+    private String archiveFile;
+    private Integer failedOutboxPurged;
+}
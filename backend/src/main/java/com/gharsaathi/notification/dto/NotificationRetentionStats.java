@@ -0,0 +1,22 @@
+package com.gharsaathi.notification.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Notification table sizes and retention totals for admins
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationRetentionStats {
+    private Long notifications;
+    private Long unreadNotifications;
+    private Long pendingOutbox;
+    private Long failedOutbox;
+    private Long purgedSinceStartup;
+    private NotificationRetentionRun lastRun;
+}
@@ -12,6 +12,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -26,7 +27,11 @@ import lombok.NoArgsConstructor;
  * payment confirmations, lease updates, etc.
  */
 @Entity
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+    @Index(name = "idx_notification_user_read_created", columnList = "user_id, is_read, created_at"),
+    @Index(name = "idx_notification_user_created", columnList = "user_id, created_at"),
+    @Index(name = "idx_notification_type_read_created", columnList = "type, is_read, created_at")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -64,4 +69,8 @@ public class Notification {
 
     @Column
     private LocalDateTime readAt;
+
+    // Outbox entry this notification was delivered from, if any
+    @Column(name = "outbox_event_id", unique = true)
+    private Long outboxEventId;
 }
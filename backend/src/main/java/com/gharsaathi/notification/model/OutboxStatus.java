@@ -0,0 +1,9 @@
+package com.gharsaathi.notification.model;
+
+/**
+ * State of a notification outbox entry
+ */
+public enum OutboxStatus {
+    PENDING,    // Waiting for (another) delivery attempt
+    FAILED      // Given up: recipient missing or attempts exhausted
+}
@@ -0,0 +1,50 @@
+package com.gharsaathi.notification.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.notification.model.NotificationOutboxEvent;
+import com.gharsaathi.notification.model.OutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+@Repository
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutboxEvent, Long> {
+
+    /**
+     * Ids of the oldest entries due for delivery
+     */
+    @Query("SELECT e.id FROM NotificationOutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("status") OutboxStatus status, @Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * Lock the given entries that are still in the status (FOR UPDATE SKIP LOCKED)
+     * Entries locked by another dispatcher are skipped rather than waited for
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM NotificationOutboxEvent e WHERE e.id IN :ids AND e.status = :status ORDER BY e.id")
+    List<NotificationOutboxEvent> claim(@Param("ids") List<Long> ids, @Param("status") OutboxStatus status);
+
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEvent e WHERE e.id IN :ids")
+    int deleteByIdIn(@Param("ids") List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM NotificationOutboxEvent e WHERE e.status = :status AND e.createdAt < :cutoff")
+    int deleteByStatusBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -3,26 +3,20 @@ package com.gharsaathi.notification.repository;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.notification.model.Notification;
 import com.gharsaathi.notification.model.NotificationType;
 
 @Repository
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    
-    // Find all notifications for a user
-    List<Notification> findByUserIdOrderByCreatedAtDesc(Long userId);
-    
-    // Find unread notifications for a user
-    List<Notification> findByUserIdAndIsReadFalseOrderByCreatedAtDesc(Long userId);
-    
-    // Find read notifications for a user
-    List<Notification> findByUserIdAndIsReadTrueOrderByCreatedAtDesc(Long userId);
-    
-    // Find notifications by type for a user
-    List<Notification> findByUserIdAndTypeOrderByCreatedAtDesc(Long userId, NotificationType type);
+public interface NotificationRepository extends JpaRepository<Notification, Long>, JpaSpecificationExecutor<Notification> {
     
     // Count unread notifications for a user
     Long countByUserIdAndIsReadFalse(Long userId);
@@ -30,6 +24,62 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     // Find notifications created after a certain date
     List<Notification> findByUserIdAndCreatedAtAfterOrderByCreatedAtDesc(Long userId, LocalDateTime date);
     
-    // Delete old read notifications (for cleanup)
-    void deleteByUserIdAndIsReadTrueAndCreatedAtBefore(Long userId, LocalDateTime date);
+    // Count unread notifications across all users
+    long countByIsReadFalse();
+    
+    /**
+     * Mark one of the user's notifications read if it is still unread
+     * Returns 1 only for the call that actually changed it, so the unread count drops once
+     */
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now " +
+           "WHERE n.id = :id AND n.user.id = :userId AND n.isRead = false")
+    int markReadIfUnread(@Param("id") Long id, @Param("userId") Long userId, @Param("now") LocalDateTime now);
+
+    /**
+     * Ids of the user's notifications with the given read status created up to a point,
+     * in index order (user_id, is_read, created_at)
+     */
+    @Query("SELECT n.id FROM Notification n WHERE n.user.id = :userId AND n.isRead = :isRead " +
+           "AND n.createdAt <= :until ORDER BY n.createdAt")
+    List<Long> findIdsByReadStatus(@Param("userId") Long userId, @Param("isRead") boolean isRead,
+                                   @Param("until") LocalDateTime until, Pageable pageable);
+
+    /**
+     * Mark a batch read; rows read concurrently in the meantime are not counted again
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.readAt = :now WHERE n.id IN :ids AND n.isRead = false")
+    int markReadByIdIn(@Param("ids") List<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Delete a batch of notifications that still have the given read status
+     * Rows whose status changed since they were selected are left alone
+     */
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.id IN :ids AND n.isRead = :isRead")
+    int deleteByIdInAndReadStatus(@Param("ids") List<Long> ids, @Param("isRead") boolean isRead);
+
+    /**
+     * Notifications of one type and read status created before the cutoff, oldest first
+     * Served by idx_notification_type_read_created across all users
+     */
+    @Query("SELECT n FROM Notification n WHERE n.type = :type AND n.isRead = :isRead " +
+           "AND n.createdAt < :cutoff ORDER BY n.createdAt")
+    List<Notification> findExpired(@Param("type") NotificationType type, @Param("isRead") boolean isRead,
+                                   @Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Create the notifications of a batch of outbox entries in one statement
+     * Recipients are resolved by the join; entries whose user no longer exists produce nothing
+     */
+    @Modifying
+    @Query("INSERT INTO Notification (user, title, message, type, referenceUrl, isRead, createdAt, outboxEventId) " +
+           "SELECT u, e.title, e.message, e.type, e.referenceUrl, false, e.createdAt, e.id " +
+           "FROM NotificationOutboxEvent e JOIN User u ON u.id = e.recipientId WHERE e.id IN :ids")
+    int insertFromOutbox(@Param("ids") List<Long> ids);
+
+    List<Notification> findByOutboxEventIdIn(List<Long> outboxEventIds);
 }
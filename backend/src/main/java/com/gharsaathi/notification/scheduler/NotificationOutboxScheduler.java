@@ -0,0 +1,24 @@
+package com.gharsaathi.notification.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.notification.service.NotificationOutboxDispatcher;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Polls the notification outbox for retries and for entries no wake-up reached
+ * (written by another instance, or pending across a restart)
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxScheduler {
+
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:5000}")
+    public void pollOutbox() {
+        notificationOutboxDispatcher.requestDispatch();
+    }
+}
@@ -0,0 +1,43 @@
+package com.gharsaathi.notification.scheduler;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.notification.dto.NotificationRetentionRun;
+import com.gharsaathi.notification.service.NotificationRetentionProperties;
+import com.gharsaathi.notification.service.NotificationRetentionService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Scheduler for notification retention
+ * Runs daily at 5:00 AM, after the token cleanup (4:30 AM)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class NotificationRetentionScheduler {
+
+    private final NotificationRetentionService notificationRetentionService;
+    private final NotificationRetentionProperties notificationRetentionProperties;
+
+    /**
+     * Purge expired notifications daily, by default at 05:00:00
+     * Cron format: second minute hour day month weekday
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 0 5 * * *}")
+    public void purgeNotifications() {
+        if (!notificationRetentionProperties.isEnabled()) {
+            return;
+        }
+        log.info("=== Notification Retention Scheduler Started ===");
+
+        try {
+            NotificationRetentionRun run = notificationRetentionService.purgeAll();
+            log.info("=== Notification Retention Scheduler Completed: {} notifications purged ===", run.getPurged());
+        } catch (Exception e) {
+            log.error("=== Notification Retention Scheduler Failed ===", e);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.gharsaathi.notification.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.notification.model.Notification;
+import com.gharsaathi.notification.model.NotificationOutboxEvent;
+import com.gharsaathi.notification.model.OutboxStatus;
+import com.gharsaathi.notification.repository.NotificationOutboxRepository;
+import com.gharsaathi.notification.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Turns outbox entries into notifications, one transaction per call
+ * A batch costs a fixed number of statements: claim, one INSERT ... SELECT that resolves the
+ * recipients by join, read-back of the new rows, and one DELETE of the delivered entries.
+ */
+@Service
+@Slf4j
+@Transactional
+public class NotificationOutboxDelivery {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationRepository notificationRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamService notificationStreamService;
+    private final int maxAttempts;
+    private final long retryBaseMillis;
+    private final long retryMaxMillis;
+
+    public NotificationOutboxDelivery(NotificationOutboxRepository outboxRepository,
+                                      NotificationRepository notificationRepository,
+                                      UnreadNotificationCounter unreadNotificationCounter,
+                                      NotificationStreamService notificationStreamService,
+                                      @Value("${notification.outbox.max-attempts:8}") int maxAttempts,
+                                      @Value("${notification.outbox.retry-base-ms:5000}") long retryBaseMillis,
+                                      @Value("${notification.outbox.retry-max-ms:600000}") long retryMaxMillis) {
+        this.outboxRepository = outboxRepository;
+        this.notificationRepository = notificationRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationStreamService = notificationStreamService;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseMillis = retryBaseMillis;
+        this.retryMaxMillis = retryMaxMillis;
+    }
+
+    /**
+     * Ids of up to limit entries due for delivery, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findDue(int limit) {
+        return outboxRepository.findDueIds(OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, limit));
+    }
+
+    /**
+     * Deliver the given entries that are still pending and not claimed by another dispatcher
+     * Returns the number of entries claimed
+     */
+    public int deliver(List<Long> ids) {
+        List<NotificationOutboxEvent> events = outboxRepository.claim(ids, OutboxStatus.PENDING);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        List<Long> claimedIds = events.stream().map(NotificationOutboxEvent::getId).collect(Collectors.toList());
+
+        notificationRepository.insertFromOutbox(claimedIds);
+        List<Notification> created = notificationRepository.findByOutboxEventIdIn(claimedIds);
+        Set<Long> delivered = created.stream().map(Notification::getOutboxEventId).collect(Collectors.toSet());
+
+        for (NotificationOutboxEvent event : events) {
+            if (!delivered.contains(event.getId())) {
+                // Retrying cannot help once the recipient is gone
+                event.setStatus(OutboxStatus.FAILED);
+                event.setAttempts(event.getAttempts() + 1);
+                event.setLastError("Recipient " + event.getRecipientId() + " not found");
+                log.warn("Dropping notification outbox entry {}: recipient {} not found", event.getId(), event.getRecipientId());
+            }
+        }
+        if (!delivered.isEmpty()) {
+            outboxRepository.deleteByIdIn(List.copyOf(delivered));
+        }
+
+        for (Notification notification : created) {
+            Long userId = notification.getUser().getId();
+            unreadNotificationCounter.adjustAfterCommit(userId, 1);
+            notificationStreamService.publishAfterCommit(userId, 1, NotificationService.mapToDTO(notification));
+        }
+        log.debug("Delivered {} of {} notification outbox entries", created.size(), events.size());
+        return events.size();
+    }
+
+    /**
+     * Record a failed delivery: the entry is retried after an exponential backoff, or marked
+     * FAILED once it has used up its attempts
+     */
+    public void recordFailure(Long id, Exception error) {
+        outboxRepository.findById(id).ifPresent(event -> {
+            int attempts = event.getAttempts() + 1;
+            event.setAttempts(attempts);
+            event.setLastError(truncate(String.valueOf(error.getMessage())));
+            if (attempts >= maxAttempts) {
+                event.setStatus(OutboxStatus.FAILED);
+                log.error("Giving up on notification outbox entry {} after {} attempts: {}", id, attempts, error.getMessage());
+            } else {
+                long delay = Math.min(retryMaxMillis, retryBaseMillis << Math.min(attempts - 1, 20));
+                event.setNextAttemptAt(LocalDateTime.now().plusNanos(delay * 1_000_000));
+                log.warn("Notification outbox entry {} failed (attempt {}), retrying in {} ms: {}",
+                        id, attempts, delay, error.getMessage());
+            }
+        });
+    }
+
+    // Helper methods
+
+    private static String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
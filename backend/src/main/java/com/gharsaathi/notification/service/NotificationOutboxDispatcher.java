@@ -0,0 +1,128 @@
+package com.gharsaathi.notification.service;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the notification outbox on a single background thread
+ * Woken right after a transaction that enqueued notifications commits, and polled on a schedule
+ * for retries and for entries written elsewhere. Wake-ups while a run is queued are coalesced.
+ */
+@Service
+@Slf4j
+public class NotificationOutboxDispatcher {
+
+    private final NotificationOutboxDelivery delivery;
+    private final int batchSize;
+    private final ThreadPoolExecutor worker;
+
+    public NotificationOutboxDispatcher(NotificationOutboxDelivery delivery,
+                                        @Value("${notification.outbox.batch-size:200}") int batchSize) {
+        this.delivery = delivery;
+        this.batchSize = Math.max(1, batchSize);
+        // One running and at most one queued run: anything enqueued meanwhile is picked up by the queued one
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-outbox");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Wake the dispatcher once the current transaction commits
+     */
+    public void dispatchAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    requestDispatch();
+                }
+            });
+        } else {
+            requestDispatch();
+        }
+    }
+
+    /**
+     * Schedule a run on the dispatcher thread unless one is already waiting
+     */
+    public void requestDispatch() {
+        try {
+            worker.execute(this::dispatchDue);
+        } catch (RejectedExecutionException ex) {
+            // Shutting down
+        }
+    }
+
+    /**
+     * Deliver everything currently due, batch by batch; returns the number of entries claimed
+     */
+    public int dispatchDue() {
+        int processed = 0;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Long> due = delivery.findDue(batchSize);
+                if (due.isEmpty()) {
+                    break;
+                }
+                int claimed = deliverBatch(due);
+                processed += claimed;
+                // Nothing claimed: the rest is being delivered by another instance
+                if (claimed == 0 || due.size() < batchSize) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            // Database unavailable; the next poll tries again
+            log.error("Notification outbox dispatch failed: {}", ex.getMessage());
+        }
+        if (processed > 0) {
+            log.debug("Notification outbox: processed {} entries", processed);
+        }
+        return processed;
+    }
+
+    // Helper methods
+
+    /**
+     * Deliver a batch in one transaction; if that fails, deliver its entries one at a time so
+     * a single bad entry only delays itself
+     */
+    private int deliverBatch(List<Long> ids) {
+        try {
+            return delivery.deliver(ids);
+        } catch (RuntimeException batchError) {
+            log.warn("Notification outbox batch of {} failed, delivering entries singly: {}", ids.size(), batchError.getMessage());
+        }
+        int claimed = 0;
+        for (Long id : ids) {
+            try {
+                claimed += delivery.deliver(List.of(id));
+            } catch (RuntimeException ex) {
+                delivery.recordFailure(id, ex);
+                claimed++;
+            }
+        }
+        return claimed;
+    }
+}
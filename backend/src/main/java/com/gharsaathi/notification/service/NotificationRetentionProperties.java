@@ -0,0 +1,52 @@
+package com.gharsaathi.notification.service;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.gharsaathi.notification.model.NotificationType;
+
+import lombok.Data;
+
+/**
+ * Retention policy for notifications (notification.retention.*)
+ * Days are counted from creation; 0 keeps notifications of that kind forever.
+ * Per-type overrides: notification.retention.types.PAYMENT_CONFIRMED.read-days=365
+ */
+@Component
+@ConfigurationProperties(prefix = "notification.retention")
+@Data
+public class NotificationRetentionProperties {
+    private boolean enabled = true;
+    private int readDays = 90;
+    private int unreadDays = 365;
+    private Map<NotificationType, Policy> types = new EnumMap<>(NotificationType.class);
+    private int batchSize = 1000;
+    private long pauseMs = 50;
+    private int failedOutboxDays = 30; // FAILED outbox entries kept for inspection
+    private Archive archive = new Archive();
+
+    public int readDaysFor(NotificationType type) {
+        Policy policy = types.get(type);
+        return policy != null && policy.getReadDays() != null ? policy.getReadDays() : readDays;
+    }
+
+    public int unreadDaysFor(NotificationType type) {
+        Policy policy = types.get(type);
+        return policy != null && policy.getUnreadDays() != null ? policy.getUnreadDays() : unreadDays;
+    }
+
+    @Data
+    public static class Policy {
+        private Integer readDays;
+        private Integer unreadDays;
+    }
+
+    @Data
+    public static class Archive {
+        private boolean enabled = false;
+        private String dir = "./archive/notifications";
+    }
+}
@@ -0,0 +1,273 @@
+package com.gharsaathi.notification.service;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import com.gharsaathi.notification.dto.NotificationRetentionRun;
+import com.gharsaathi.notification.dto.NotificationRetentionStats;
+import com.gharsaathi.notification.model.Notification;
+import com.gharsaathi.notification.model.NotificationType;
+import com.gharsaathi.notification.model.OutboxStatus;
+import com.gharsaathi.notification.repository.NotificationOutboxRepository;
+import com.gharsaathi.notification.repository.NotificationRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Purges notifications past their retention period, per type and read status
+ * Rows go in bounded batches across all users, each deleted in its own short transaction with a
+ * pause in between. With archiving on, every batch is first appended to the run's
+ * .jsonl.gz file as its own gzip member and synced, so nothing is deleted before it is on disk.
+ */
+@Service
+@Slf4j
+public class NotificationRetentionService {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final NotificationRepository notificationRepository;
+    private final NotificationOutboxRepository outboxRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationRetentionProperties properties;
+    private final JsonMapper jsonMapper;
+    // Runs requested through the API; one at a time and none queued
+    private final ThreadPoolExecutor worker;
+
+    private final AtomicLong purgedSinceStartup = new AtomicLong();
+    private volatile NotificationRetentionRun lastRun;
+
+    public NotificationRetentionService(NotificationRepository notificationRepository,
+                                        NotificationOutboxRepository outboxRepository,
+                                        UnreadNotificationCounter unreadNotificationCounter,
+                                        NotificationStreamService notificationStreamService,
+                                        NotificationRetentionProperties properties,
+                                        JsonMapper jsonMapper) {
+        this.notificationRepository = notificationRepository;
+        this.outboxRepository = outboxRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationStreamService = notificationStreamService;
+        this.properties = properties;
+        this.jsonMapper = jsonMapper;
+        this.worker = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new SynchronousQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "notification-retention");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    /**
+     * Start a run in the background; false when a requested run is still going
+     * The outcome is reported as lastRun by getStats.
+     */
+    public boolean requestRun() {
+        try {
+            worker.execute(() -> {
+                try {
+                    purgeAll();
+                } catch (RuntimeException ex) {
+                    log.error("Requested notification retention run failed", ex);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            return false;
+        }
+    }
+
+    /**
+     * Apply the retention policy to every notification type
+     */
+    public synchronized NotificationRetentionRun purgeAll() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long startNanos = System.nanoTime();
+        Path archiveFile = properties.getArchive().isEnabled()
+                ? Paths.get(properties.getArchive().getDir()).toAbsolutePath().normalize()
+                        .resolve("notifications-" + startedAt.format(FILE_TIMESTAMP) + ".jsonl.gz")
+                : null;
+
+        Map<NotificationType, Long> purgedByType = new EnumMap<>(NotificationType.class);
+        long archived = 0;
+        for (NotificationType type : NotificationType.values()) {
+            long purged = 0;
+            int readDays = properties.readDaysFor(type);
+            if (readDays > 0) {
+                BatchTotals totals = purge(type, true, startedAt.minusDays(readDays), archiveFile);
+                purged += totals.deleted;
+                archived += totals.archived;
+            }
+            int unreadDays = properties.unreadDaysFor(type);
+            if (unreadDays > 0) {
+                BatchTotals totals = purge(type, false, startedAt.minusDays(unreadDays), archiveFile);
+                purged += totals.deleted;
+                archived += totals.archived;
+            }
+            if (purged > 0) {
+                purgedByType.put(type, purged);
+            }
+        }
+
+        int failedOutbox = 0;
+        if (properties.getFailedOutboxDays() > 0) {
+            failedOutbox = outboxRepository.deleteByStatusBefore(OutboxStatus.FAILED,
+                    startedAt.minusDays(properties.getFailedOutboxDays()));
+        }
+
+        long total = purgedByType.values().stream().mapToLong(Long::longValue).sum();
+        purgedSinceStartup.addAndGet(total);
+        NotificationRetentionRun run = NotificationRetentionRun.builder()
+                .startedAt(startedAt)
+                .durationMs((System.nanoTime() - startNanos) / 1_000_000)
+                .purgedByType(purgedByType)
+                .purged(total)
+                .archived(archived)
+                .archiveFile(archived > 0 ? archiveFile.toString() : null)
+                .failedOutboxPurged(failedOutbox)
+                .build();
+        lastRun = run;
+        log.info("Notification retention: purged {} notifications ({} archived) and {} failed outbox entries in {} ms",
+                total, archived, failedOutbox, run.getDurationMs());
+        return run;
+    }
+
+    /**
+     * Current table sizes and retention totals
+     */
+    public NotificationRetentionStats getStats() {
+        return NotificationRetentionStats.builder()
+                .notifications(notificationRepository.count())
+                .unreadNotifications(notificationRepository.countByIsReadFalse())
+                .pendingOutbox(outboxRepository.countByStatus(OutboxStatus.PENDING))
+                .failedOutbox(outboxRepository.countByStatus(OutboxStatus.FAILED))
+                .purgedSinceStartup(purgedSinceStartup.get())
+                .lastRun(lastRun)
+                .build();
+    }
+
+    // Helper methods
+
+    private BatchTotals purge(NotificationType type, boolean isRead, LocalDateTime cutoff, Path archiveFile) {
+        Pageable firstPage = PageRequest.of(0, properties.getBatchSize());
+        BatchTotals totals = new BatchTotals();
+        while (true) {
+            // Deleted rows drop out of the query, so the first page is always the next batch
+            List<Notification> batch = notificationRepository.findExpired(type, isRead, cutoff, firstPage);
+            if (batch.isEmpty()) {
+                break;
+            }
+            if (archiveFile != null) {
+                archive(batch, archiveFile);
+                totals.archived += batch.size();
+            }
+            List<Long> ids = batch.stream().map(Notification::getId).collect(Collectors.toList());
+            totals.deleted += notificationRepository.deleteByIdInAndReadStatus(ids, isRead);
+
+            if (!isRead) {
+                // Counts are reloaded rather than adjusted: a row read meanwhile was not deleted.
+                // Open streams get the reloaded count, as after marking notifications read.
+                Map<Long, Long> purgedByUser = batch.stream()
+                        .collect(Collectors.groupingBy(n -> n.getUser().getId(), Collectors.counting()));
+                purgedByUser.forEach((userId, count) -> {
+                    unreadNotificationCounter.evict(userId);
+                    notificationStreamService.publishAfterCommit(userId, -count, null);
+                });
+            }
+            log.debug("Notification retention: {} {} batch deleted ({} so far)",
+                    type, isRead ? "read" : "unread", totals.deleted);
+            if (batch.size() < properties.getBatchSize() || !pause()) {
+                break;
+            }
+        }
+        return totals;
+    }
+
+    /**
+     * Append the batch to the archive as one gzip member and sync it to disk
+     */
+    private void archive(List<Notification> batch, Path archiveFile) {
+        try {
+            Files.createDirectories(archiveFile.getParent());
+            try (FileOutputStream file = new FileOutputStream(archiveFile.toFile(), true);
+                 GZIPOutputStream gzip = new GZIPOutputStream(file);
+                 Writer writer = new OutputStreamWriter(gzip, StandardCharsets.UTF_8)) {
+                for (Notification notification : batch) {
+                    writer.write(jsonMapper.writeValueAsString(toRecord(notification)));
+                    writer.write('\n');
+                }
+                writer.flush();
+                gzip.finish();
+                file.getFD().sync();
+            }
+        } catch (IOException ex) {
+            // Nothing of this batch is deleted
+            throw new UncheckedIOException("Failed to archive notifications to " + archiveFile, ex);
+        }
+    }
+
+    private static Map<String, Object> toRecord(Notification notification) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("id", notification.getId());
+        record.put("userId", notification.getUser().getId());
+        record.put("type", notification.getType());
+        record.put("title", notification.getTitle());
+        record.put("message", notification.getMessage());
+        record.put("referenceUrl", notification.getReferenceUrl());
+        record.put("isRead", notification.getIsRead());
+        record.put("createdAt", notification.getCreatedAt());
+        record.put("readAt", notification.getReadAt());
+        return record;
+    }
+
+    private boolean pause() {
+        if (properties.getPauseMs() <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(properties.getPauseMs());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Notification retention interrupted");
+            return false;
+        }
+    }
+
+    private static final class BatchTotals {
+        private long deleted;
+        private long archived;
+    }
+}
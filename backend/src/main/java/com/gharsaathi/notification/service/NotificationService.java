@@ -2,84 +2,112 @@ package com.gharsaathi.notification.service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.repository.UserRepository;
+import com.gharsaathi.common.util.KeysetPage;
+import com.gharsaathi.common.util.KeysetPagination;
 import com.gharsaathi.notification.dto.CreateNotificationRequest;
 import com.gharsaathi.notification.dto.NotificationDTO;
+import com.gharsaathi.notification.dto.NotificationListResponse;
 import com.gharsaathi.notification.model.Notification;
+import com.gharsaathi.notification.model.NotificationOutboxEvent;
 import com.gharsaathi.notification.model.NotificationType;
+import com.gharsaathi.notification.repository.NotificationOutboxRepository;
 import com.gharsaathi.notification.repository.NotificationRepository;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service for managing notifications
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 @Transactional
 public class NotificationService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationStreamService notificationStreamService;
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final NotificationOutboxDispatcher notificationOutboxDispatcher;
+    private final int bulkBatchSize;
+
+    public NotificationService(NotificationRepository notificationRepository,
+                               UserRepository userRepository,
+                               UnreadNotificationCounter unreadNotificationCounter,
+                               NotificationStreamService notificationStreamService,
+                               NotificationOutboxRepository notificationOutboxRepository,
+                               NotificationOutboxDispatcher notificationOutboxDispatcher,
+                               @Value("${notification.bulk.batch-size:1000}") int bulkBatchSize) {
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.notificationStreamService = notificationStreamService;
+        this.notificationOutboxRepository = notificationOutboxRepository;
+        this.notificationOutboxDispatcher = notificationOutboxDispatcher;
+        this.bulkBatchSize = Math.max(1, bulkBatchSize);
+    }
 
     /**
-     * Get all notifications for a user
+     * Get a page of all notifications for a user, newest first
      */
-    public List<NotificationDTO> getUserNotifications(Long userId) {
-        log.info("Fetching all notifications for user: {}", userId);
-        List<Notification> notifications = notificationRepository.findByUserIdOrderByCreatedAtDesc(userId);
-        return notifications.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public NotificationListResponse getUserNotifications(Long userId, String cursor, int size, boolean includeTotal) {
+        log.info("Fetching notifications for user: {}", userId);
+        return getInbox(userId, ownedBy(userId), cursor, size, includeTotal);
     }
 
     /**
-     * Get unread notifications for a user
+     * Get a page of unread notifications for a user
      */
-    public List<NotificationDTO> getUnreadNotifications(Long userId) {
+    @Transactional(readOnly = true)
+    public NotificationListResponse getUnreadNotifications(Long userId, String cursor, int size, boolean includeTotal) {
         log.info("Fetching unread notifications for user: {}", userId);
-        List<Notification> notifications = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-        return notifications.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return getInbox(userId, ownedBy(userId).and(withReadStatus(false)), cursor, size, includeTotal);
     }
 
     /**
-     * Get read notifications for a user
+     * Get a page of read notifications for a user
      */
-    public List<NotificationDTO> getReadNotifications(Long userId) {
+    @Transactional(readOnly = true)
+    public NotificationListResponse getReadNotifications(Long userId, String cursor, int size, boolean includeTotal) {
         log.info("Fetching read notifications for user: {}", userId);
-        List<Notification> notifications = notificationRepository.findByUserIdAndIsReadTrueOrderByCreatedAtDesc(userId);
-        return notifications.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        return getInbox(userId, ownedBy(userId).and(withReadStatus(true)), cursor, size, includeTotal);
     }
 
     /**
-     * Get notifications by type for a user
+     * Get a page of notifications of one type for a user
      */
-    public List<NotificationDTO> getNotificationsByType(Long userId, NotificationType type) {
+    @Transactional(readOnly = true)
+    public NotificationListResponse getNotificationsByType(Long userId, NotificationType type, String cursor,
+                                                           int size, boolean includeTotal) {
         log.info("Fetching notifications of type {} for user: {}", type, userId);
-        List<Notification> notifications = notificationRepository.findByUserIdAndTypeOrderByCreatedAtDesc(userId, type);
-        return notifications.stream()
-                .map(this::mapToDTO)
-                .collect(Collectors.toList());
+        Specification<Notification> spec = ownedBy(userId)
+                .and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("type"), type));
+        return getInbox(userId, spec, cursor, size, includeTotal);
     }
 
     /**
      * Get unread notification count for a user
      */
+    @Transactional(readOnly = true)
     public Long getUnreadCount(Long userId) {
-        log.info("Counting unread notifications for user: {}", userId);
-        return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        return unreadNotificationCounter.get(userId);
     }
 
     /**
@@ -88,6 +116,9 @@ public class NotificationService {
     public NotificationDTO markAsRead(Long notificationId, Long userId) {
         log.info("Marking notification {} as read for user: {}", notificationId, userId);
         
+        // Conditional update first: only one concurrent caller sees the change
+        int updated = notificationRepository.markReadIfUnread(notificationId, userId, LocalDateTime.now());
+        
         Notification notification = notificationRepository.findById(notificationId)
                 .orElseThrow(() -> new RuntimeException("Notification not found with id: " + notificationId));
         
@@ -96,10 +127,8 @@ public class NotificationService {
             throw new RuntimeException("You don't have permission to update this notification");
         }
         
-        if (!notification.getIsRead()) {
-            notification.setIsRead(true);
-            notification.setReadAt(LocalDateTime.now());
-            notification = notificationRepository.save(notification);
+        if (updated > 0) {
+            unreadCountChanged(userId, -1, null);
             log.info("Notification {} marked as read", notificationId);
         } else {
             log.info("Notification {} was already read", notificationId);
@@ -110,26 +139,27 @@ public class NotificationService {
 
     /**
      * Mark all notifications as read for a user
+     * Runs as bulk updates in batches that each commit on their own, so huge inboxes never hold
+     * one long transaction; notifications arriving meanwhile stay unread. Returns the number marked.
      */
-    public String markAllAsRead(Long userId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int markAllAsRead(Long userId) {
         log.info("Marking all notifications as read for user: {}", userId);
         
-        List<Notification> unreadNotifications = notificationRepository.findByUserIdAndIsReadFalseOrderByCreatedAtDesc(userId);
-        
-        if (unreadNotifications.isEmpty()) {
-            return "No unread notifications";
-        }
-        
         LocalDateTime now = LocalDateTime.now();
-        unreadNotifications.forEach(notification -> {
-            notification.setIsRead(true);
-            notification.setReadAt(now);
-        });
-        
-        notificationRepository.saveAll(unreadNotifications);
-        log.info("Marked {} notifications as read for user: {}", unreadNotifications.size(), userId);
+        int updated;
+        try {
+            updated = inBatches(page -> notificationRepository.findIdsByReadStatus(userId, false, now, page),
+                    ids -> notificationRepository.markReadByIdIn(ids, now));
+        } catch (RuntimeException ex) {
+            // Earlier batches are committed; recount on the next read
+            unreadNotificationCounter.evict(userId);
+            throw ex;
+        }
         
-        return "All notifications marked as read";
+        unreadCountChanged(userId, -updated, null);
+        log.info("Marked {} notifications as read for user: {}", updated, userId);
+        return updated;
     }
 
     /**
@@ -147,6 +177,9 @@ public class NotificationService {
         }
         
         notificationRepository.delete(notification);
+        if (!notification.getIsRead()) {
+            unreadCountChanged(userId, -1, null);
+        }
         log.info("Notification {} deleted successfully", notificationId);
         
         return "Notification deleted successfully";
@@ -154,20 +187,16 @@ public class NotificationService {
 
     /**
      * Delete all read notifications for a user
+     * Bulk deletes in batches that each commit on their own. Returns the number deleted.
      */
-    public String deleteAllRead(Long userId) {
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int deleteAllRead(Long userId) {
         log.info("Deleting all read notifications for user: {}", userId);
         
-        List<Notification> readNotifications = notificationRepository.findByUserIdAndIsReadTrueOrderByCreatedAtDesc(userId);
-        
-        if (readNotifications.isEmpty()) {
-            return "No read notifications to delete";
-        }
-        
-        notificationRepository.deleteAll(readNotifications);
-        log.info("Deleted {} read notifications for user: {}", readNotifications.size(), userId);
-        
-        return "All read notifications deleted";
+        int deleted = inBatches(page -> notificationRepository.findIdsByReadStatus(userId, true, LocalDateTime.now(), page),
+                ids -> notificationRepository.deleteByIdInAndReadStatus(ids, true));
+        log.info("Deleted {} read notifications for user: {}", deleted, userId);
+        return deleted;
     }
 
     /**
@@ -188,94 +217,132 @@ public class NotificationService {
                 .build();
         
         notification = notificationRepository.save(notification);
+        NotificationDTO created = mapToDTO(notification);
+        unreadCountChanged(user.getId(), 1, created);
         log.info("Notification created with id: {}", notification.getId());
         
-        return mapToDTO(notification);
+        return created;
     }
 
     /**
-     * Create notification for application status change
+     * Notify a tenant that their application was approved or rejected
+     * This and the other notify methods only write to the outbox, in the caller's transaction;
+     * the notification is created in the background once that transaction commits.
      */
     public void notifyApplicationStatus(Long tenantId, Long applicationId, String propertyTitle, boolean approved) {
-        User tenant = userRepository.findById(tenantId)
-                .orElseThrow(() -> new RuntimeException("Tenant not found"));
-        
         NotificationType type = approved ? NotificationType.APPLICATION_APPROVED : NotificationType.APPLICATION_REJECTED;
         String status = approved ? "approved" : "rejected";
         
-        Notification notification = Notification.builder()
-                .user(tenant)
-                .title("Application " + (approved ? "Approved" : "Rejected"))
-                .message("Your application for " + propertyTitle + " has been " + status)
-                .type(type)
-                .referenceUrl("/tenant/applications/" + applicationId)
-                .build();
-        
-        notificationRepository.save(notification);
-        log.info("Application status notification sent to tenant: {}", tenantId);
+        enqueue(tenantId, type,
+                "Application " + (approved ? "Approved" : "Rejected"),
+                "Your application for " + propertyTitle + " has been " + status,
+                "/tenant/applications/" + applicationId);
+        log.info("Application status notification queued for tenant: {}", tenantId);
     }
 
     /**
-     * Create notification for new application received
+     * Notify a landlord of a new application
      */
     public void notifyNewApplication(Long landlordId, Long applicationId, String propertyTitle, String tenantName) {
-        User landlord = userRepository.findById(landlordId)
-                .orElseThrow(() -> new RuntimeException("Landlord not found"));
-        
-        Notification notification = Notification.builder()
-                .user(landlord)
-                .title("New Application Received")
-                .message(tenantName + " has applied for your property: " + propertyTitle)
-                .type(NotificationType.APPLICATION_SUBMITTED)
-                .referenceUrl("/landlord/requests/" + applicationId)
-                .build();
-        
-        notificationRepository.save(notification);
-        log.info("New application notification sent to landlord: {}", landlordId);
+        enqueue(landlordId, NotificationType.APPLICATION_SUBMITTED,
+                "New Application Received",
+                tenantName + " has applied for your property: " + propertyTitle,
+                "/landlord/requests/" + applicationId);
+        log.info("New application notification queued for landlord: {}", landlordId);
     }
 
     /**
-     * Create notification for payment received
+     * Notify a landlord that a tenant reported a payment
      */
     public void notifyPaymentReceived(Long landlordId, Long paymentId, Double amount, String tenantName) {
-        User landlord = userRepository.findById(landlordId)
-                .orElseThrow(() -> new RuntimeException("Landlord not found"));
-        
-        Notification notification = Notification.builder()
-                .user(landlord)
-                .title("Payment Received")
-                .message("Payment of NPR " + amount + " received from " + tenantName)
-                .type(NotificationType.PAYMENT_RECEIVED)
-                .referenceUrl("/landlord/payments/" + paymentId)
-                .build();
-        
-        notificationRepository.save(notification);
-        log.info("Payment received notification sent to landlord: {}", landlordId);
+        enqueue(landlordId, NotificationType.PAYMENT_RECEIVED,
+                "Payment Received",
+                "Payment of NPR " + amount + " received from " + tenantName,
+                "/landlord/payments/" + paymentId);
+        log.info("Payment received notification queued for landlord: {}", landlordId);
     }
 
     /**
-     * Create notification for payment confirmed
+     * Notify a tenant that the landlord confirmed their payment
      */
     public void notifyPaymentConfirmed(Long tenantId, Long paymentId, Double amount) {
-        User tenant = userRepository.findById(tenantId)
-                .orElseThrow(() -> new RuntimeException("Tenant not found"));
+        enqueue(tenantId, NotificationType.PAYMENT_CONFIRMED,
+                "Payment Confirmed",
+                "Your payment of NPR " + amount + " has been confirmed",
+                "/tenant/payments/" + paymentId);
+        log.info("Payment confirmed notification queued for tenant: {}", tenantId);
+    }
+
+    // Helper methods
+
+    private void enqueue(Long recipientId, NotificationType type, String title, String message, String referenceUrl) {
+        notificationOutboxRepository.save(NotificationOutboxEvent.builder()
+                .recipientId(recipientId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .referenceUrl(referenceUrl)
+                .build());
+        notificationOutboxDispatcher.dispatchAfterCommit();
+    }
+
+    /**
+     * Apply a bulk statement to id batches until the query runs dry; returns the rows affected
+     */
+    private int inBatches(Function<Pageable, List<Long>> nextBatch, Function<List<Long>, Integer> apply) {
+        Pageable firstPage = PageRequest.of(0, bulkBatchSize);
+        int affected = 0;
+        while (true) {
+            // Processed rows drop out of the query, so the first page is always the next batch
+            List<Long> ids = nextBatch.apply(firstPage);
+            if (ids.isEmpty()) {
+                break;
+            }
+            affected += apply.apply(ids);
+            if (ids.size() < bulkBatchSize) {
+                break;
+            }
+        }
+        return affected;
+    }
+
+    /**
+     * Update the cached unread count and the user's open streams once the change commits
+     */
+    private void unreadCountChanged(Long userId, long delta, NotificationDTO created) {
+        unreadNotificationCounter.adjustAfterCommit(userId, delta);
+        notificationStreamService.publishAfterCommit(userId, delta, created);
+    }
+
+    private NotificationListResponse getInbox(Long userId, Specification<Notification> spec, String cursor,
+                                              int size, boolean includeTotal) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        KeysetPage<Notification> page = KeysetPagination.fetch(notificationRepository, spec, "createdAt",
+                Sort.Direction.DESC, cursor, pageSize, includeTotal, Notification::getId);
         
-        Notification notification = Notification.builder()
-                .user(tenant)
-                .title("Payment Confirmed")
-                .message("Your payment of NPR " + amount + " has been confirmed")
-                .type(NotificationType.PAYMENT_CONFIRMED)
-                .referenceUrl("/tenant/payments/" + paymentId)
+        return NotificationListResponse.builder()
+                .notifications(page.getContent().stream()
+                        .map(NotificationService::mapToDTO)
+                        .collect(Collectors.toList()))
+                .hasNext(page.isHasNext())
+                .nextCursor(page.getNextCursor())
+                .totalElements(page.getTotalElements())
+                .unreadCount(unreadNotificationCounter.get(userId))
                 .build();
-        
-        notificationRepository.save(notification);
-        log.info("Payment confirmed notification sent to tenant: {}", tenantId);
+    }
+
+    private static Specification<Notification> ownedBy(Long userId) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("user").get("id"), userId);
+    }
+
+    private static Specification<Notification> withReadStatus(boolean isRead) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("isRead"), isRead);
     }
 
     /**
      * Map Notification entity to DTO
      */
-    private NotificationDTO mapToDTO(Notification notification) {
+    static NotificationDTO mapToDTO(Notification notification) {
         return NotificationDTO.builder()
                 .id(notification.getId())
                 .title(notification.getTitle())
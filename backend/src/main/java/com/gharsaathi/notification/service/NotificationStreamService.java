@@ -0,0 +1,214 @@
+package com.gharsaathi.notification.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.gharsaathi.notification.dto.NotificationDTO;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes new notifications and unread-count changes to connected browsers over server-sent events
+ * Connections are async servlet requests, so an idle one holds no thread. Events are written from
+ * virtual threads after the change commits; only connections to this instance are reached.
+ */
+@Service
+@Slf4j
+public class NotificationStreamService {
+
+    private static final String NOTIFICATION_EVENT = "notification";
+    private static final String UNREAD_COUNT_EVENT = "unread-count";
+
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final long timeoutMillis;
+    private final int maxConnectionsPerUser;
+
+    // Immutable lists, replaced on every change so publishing never sees a half-updated one
+    private final Map<Long, List<Connection>> connections = new ConcurrentHashMap<>();
+    // Writes block while a client is slow to read; virtual threads keep that off request and commit threads
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationStreamService(UnreadNotificationCounter unreadNotificationCounter,
+                                     @Value("${notification.stream.timeout-ms:1800000}") long timeoutMillis,
+                                     @Value("${notification.stream.max-connections-per-user:5}") int maxConnectionsPerUser) {
+        this.unreadNotificationCounter = unreadNotificationCounter;
+        this.timeoutMillis = timeoutMillis;
+        this.maxConnectionsPerUser = Math.max(1, maxConnectionsPerUser);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        connections.values().forEach(userConnections -> userConnections.forEach(Connection::close));
+        connections.clear();
+        sender.shutdownNow();
+    }
+
+    /**
+     * Open a stream for the user, starting with the current unread count
+     * Beyond the per-user limit the oldest stream of the user is closed
+     */
+    public SseEmitter subscribe(Long userId) {
+        Connection connection = new Connection(userId, new SseEmitter(timeoutMillis));
+        SseEmitter emitter = connection.emitter;
+        emitter.onCompletion(() -> remove(userId, connection));
+        emitter.onError(ex -> remove(userId, connection));
+        // Browsers reconnect on their own; completing avoids an async timeout error response
+        emitter.onTimeout(emitter::complete);
+
+        List<Connection> evicted = new ArrayList<>();
+        connections.compute(userId, (id, current) -> {
+            List<Connection> updated = current == null ? new ArrayList<>() : new ArrayList<>(current);
+            updated.add(connection);
+            while (updated.size() > maxConnectionsPerUser) {
+                evicted.add(updated.remove(0));
+            }
+            return List.copyOf(updated);
+        });
+        evicted.forEach(Connection::close);
+
+        // Counted on the sender: a query on the request thread would pin a pooled connection to the
+        // request's open EntityManager for as long as the stream stays open
+        execute(() -> push(connection, null, 0));
+        log.debug("Notification stream opened for user {}", userId);
+        return emitter;
+    }
+
+    /**
+     * Push a change to the user's open streams once the current transaction commits
+     * created is the new notification, or null when only the unread count changed
+     */
+    public void publishAfterCommit(Long userId, long delta, NotificationDTO created) {
+        if (delta == 0 && created == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publish(userId, delta, created);
+                }
+            });
+        } else {
+            publish(userId, delta, created);
+        }
+    }
+
+    /**
+     * Comment lines keep proxies from closing idle streams and reveal clients that went away
+     */
+    @Scheduled(fixedDelayString = "${notification.stream.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        connections.forEach((userId, userConnections) -> execute(() -> {
+            for (Connection connection : userConnections) {
+                connection.write(SseEmitter.event().comment("heartbeat"));
+            }
+        }));
+    }
+
+    /**
+     * Number of open streams on this instance
+     */
+    public int getConnectionCount() {
+        return connections.values().stream().mapToInt(List::size).sum();
+    }
+
+    // Helper methods
+
+    private void publish(Long userId, long delta, NotificationDTO created) {
+        List<Connection> userConnections = connections.get(userId);
+        if (userConnections == null) {
+            return;
+        }
+        execute(() -> userConnections.forEach(connection -> push(connection, created, delta)));
+    }
+
+    private void push(Connection connection, NotificationDTO created, long delta) {
+        // Count read under the connection's lock, so the last count a client sees is the latest
+        connection.lock.lock();
+        try {
+            if (created != null && !connection.write(SseEmitter.event()
+                    .name(NOTIFICATION_EVENT)
+                    .id(String.valueOf(created.getId()))
+                    .data(created))) {
+                return;
+            }
+            long unreadCount = unreadNotificationCounter.get(connection.userId);
+            connection.write(SseEmitter.event()
+                    .name(UNREAD_COUNT_EVENT)
+                    .data(Map.of("unreadCount", unreadCount, "delta", delta)));
+        } finally {
+            connection.lock.unlock();
+        }
+    }
+
+    private void execute(Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException ex) {
+            // Shutting down
+        }
+    }
+
+    private void remove(Long userId, Connection connection) {
+        connections.computeIfPresent(userId, (id, current) -> {
+            List<Connection> updated = new ArrayList<>(current);
+            updated.remove(connection);
+            return updated.isEmpty() ? null : List.copyOf(updated);
+        });
+    }
+
+    /**
+     * An open stream; writes to it are serialized by its lock
+     */
+    private final class Connection {
+        private final Long userId;
+        private final SseEmitter emitter;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Connection(Long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * Write one event; false when the client is gone, in which case the stream is dropped
+         */
+        private boolean write(SseEmitter.SseEventBuilder event) {
+            lock.lock();
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException ex) {
+                // Client gone (the container completes the request) or stream already completed
+                log.debug("Dropping notification stream of user {}: {}", userId, ex.getMessage());
+                remove(userId, this);
+                return false;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void close() {
+            try {
+                emitter.complete();
+            } catch (IllegalStateException ex) {
+                // Already completed
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.gharsaathi.notification.service;
+
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.gharsaathi.common.exception.InvalidTokenException;
+import com.gharsaathi.common.util.TokenDigest;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Short-lived, single-use tickets for opening a notification stream
+ * Browsers' EventSource cannot send an Authorization header, so an authenticated client first
+ * asks for a ticket and passes it as the token query parameter. Only the ticket's digest is
+ * kept, in memory; the stream it opens is served by the same instance.
+ */
+@Service
+@Slf4j
+public class NotificationStreamTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final SecureRandom random = new SecureRandom();
+    private final long ttlMillis;
+
+    // Token digest -> ticket
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+
+    public NotificationStreamTokenService(@Value("${notification.stream.token-ttl-seconds:60}") long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Issue a ticket for the user's next stream connection
+     */
+    public String issue(Long userId) {
+        long now = System.currentTimeMillis();
+        tickets.values().removeIf(ticket -> ticket.expiresAt <= now);
+
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        tickets.put(TokenDigest.of(token), new Ticket(userId, now + ttlMillis));
+        return token;
+    }
+
+    /**
+     * Redeem a ticket, returning its user; a ticket works once and only until it expires
+     */
+    public Long consume(String token) {
+        Ticket ticket = tickets.remove(TokenDigest.of(token));
+        if (ticket == null || ticket.expiresAt <= System.currentTimeMillis()) {
+            throw new InvalidTokenException("Invalid or expired stream token");
+        }
+        log.debug("Stream token redeemed for user {}", ticket.userId);
+        return ticket.userId;
+    }
+
+    public long getTtlSeconds() {
+        return ttlMillis / 1000;
+    }
+
+    private static final class Ticket {
+        private final Long userId;
+        private final long expiresAt;
+
+        private Ticket(Long userId, long expiresAt) {
+            this.userId = userId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.gharsaathi.notification.service;
+
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.common.util.BoundedLruMap;
+import com.gharsaathi.notification.repository.NotificationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user unread notification counts kept in memory
+ * A user's count is loaded from the database on first use (so also after a restart) and then
+ * adjusted as notifications are created, read or deleted. Entries expire after the TTL, which
+ * also bounds drift from other instances or a change racing the initial load.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounter {
+
+    private final NotificationRepository notificationRepository;
+    private final long ttlNanos;
+    private final int maxSize;
+
+    private final Map<Long, Entry> entries;
+
+    public UnreadNotificationCounter(NotificationRepository notificationRepository,
+                                     @Value("${notification.unread-counter.ttl-seconds:300}") long ttlSeconds,
+                                     @Value("${notification.unread-counter.max-size:50000}") int maxSize) {
+        this.notificationRepository = notificationRepository;
+        this.ttlNanos = ttlSeconds * 1_000_000_000L;
+        this.maxSize = maxSize;
+        this.entries = new BoundedLruMap<>(maxSize);
+    }
+
+    /**
+     * Unread count for the user, loading it from the database on a miss or after expiry
+     */
+    public long get(Long userId) {
+        if (ttlNanos <= 0 || maxSize <= 0) {
+            return notificationRepository.countByUserIdAndIsReadFalse(userId);
+        }
+
+        long now = System.nanoTime();
+        Entry loading;
+        int changesBefore;
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry != null && entry.loaded && now - entry.loadedAt < ttlNanos) {
+                return entry.count;
+            }
+            if (entry == null || entry.loaded) {
+                // Placeholder that records changes committed while the count runs
+                entry = new Entry();
+                entries.put(userId, entry);
+            }
+            loading = entry;
+            changesBefore = entry.changes;
+        }
+
+        // Count outside the lock
+        long count = notificationRepository.countByUserIdAndIsReadFalse(userId);
+        synchronized (entries) {
+            // Only cache the count if nothing changed meanwhile; otherwise the next call counts again
+            if (entries.get(userId) == loading && loading.changes == changesBefore) {
+                loading.count = count;
+                loading.loadedAt = now;
+                loading.loaded = true;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Apply a change to the user's unread count once the current transaction commits
+     */
+    public void adjustAfterCommit(Long userId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    adjust(userId, delta);
+                }
+            });
+        } else {
+            adjust(userId, delta);
+        }
+    }
+
+    /**
+     * Forget the user's count so the next read loads it from the database
+     */
+    public void evict(Long userId) {
+        synchronized (entries) {
+            entries.remove(userId);
+        }
+    }
+
+    // Helper methods
+
+    private void adjust(Long userId, long delta) {
+        synchronized (entries) {
+            Entry entry = entries.get(userId);
+            if (entry == null) {
+                return;
+            }
+            if (entry.loaded) {
+                entry.count = Math.max(0, entry.count + delta);
+            } else {
+                entry.changes++;
+            }
+        }
+        log.debug("Unread notifications for user {} changed by {}", userId, delta);
+    }
+
+    private static final class Entry {
+        private long count;
+        private long loadedAt;
+        private boolean loaded;
+        private int changes;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -18,8 +19,10 @@ import com.gharsaathi.payment.dto.MarkPaymentPaidRequest;
 import com.gharsaathi.payment.dto.PaymentListResponse;
 import com.gharsaathi.payment.dto.PaymentResponse;
 import com.gharsaathi.payment.dto.PaymentStatisticsResponse;
+import com.gharsaathi.payment.dto.RevenueRollupRebuildResponse;
 import com.gharsaathi.payment.model.PaymentStatus;
 import com.gharsaathi.payment.service.PaymentService;
+import com.gharsaathi.payment.service.RevenueRollupService;
 import com.gharsaathi.auth.model.User;
 
 import jakarta.validation.Valid;
@@ -36,6 +39,7 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentController {
     
     private final PaymentService paymentService;
+    private final RevenueRollupService revenueRollupService;
 
     /**
      * Get payment by ID
@@ -79,6 +83,7 @@ public class PaymentController {
 
     /**
      * Get payments for tenant with pagination and optional status filter
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      * Accessible by: Tenant (own), Admin (all)
      */
     @GetMapping("/tenant/{tenantId}")
@@ -88,22 +93,26 @@ public class PaymentController {
             @RequestParam(required = false) PaymentStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         
         User user = (User) authentication.getPrincipal();
         Long userId = user.getId();
         String userRole = user.getRole().name();
         
-        log.info("User {} requesting payments for tenant ID: {} (status: {}, page: {}, size: {})",
-                userId, tenantId, status, page, size);
+        log.info("User {} requesting payments for tenant ID: {} (status: {}, page: {}, size: {}, cursor mode: {})",
+                userId, tenantId, status, page, size, cursor != null);
         
-        PaymentListResponse response = paymentService.getPaymentsForTenant(
-                tenantId, userId, userRole, status, page, size);
+        PaymentListResponse response = cursor != null
+                ? paymentService.getPaymentsForTenantByCursor(tenantId, userId, userRole, status, cursor, size, includeTotal)
+                : paymentService.getPaymentsForTenant(tenantId, userId, userRole, status, page, size);
         return ResponseEntity.ok(response);
     }
 
     /**
      * Get payments for landlord with pagination and optional status filter
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      * Accessible by: Landlord (own), Admin (all)
      */
     @GetMapping("/landlord/{landlordId}")
@@ -113,17 +122,20 @@ public class PaymentController {
             @RequestParam(required = false) PaymentStatus status,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         
         User user = (User) authentication.getPrincipal();
         Long userId = user.getId();
         String userRole = user.getRole().name();
         
-        log.info("User {} requesting payments for landlord ID: {} (status: {}, page: {}, size: {})",
-                userId, landlordId, status, page, size);
+        log.info("User {} requesting payments for landlord ID: {} (status: {}, page: {}, size: {}, cursor mode: {})",
+                userId, landlordId, status, page, size, cursor != null);
         
-        PaymentListResponse response = paymentService.getPaymentsForLandlord(
-                landlordId, userId, userRole, status, page, size);
+        PaymentListResponse response = cursor != null
+                ? paymentService.getPaymentsForLandlordByCursor(landlordId, userId, userRole, status, cursor, size, includeTotal)
+                : paymentService.getPaymentsForLandlord(landlordId, userId, userRole, status, page, size);
         return ResponseEntity.ok(response);
     }
 
@@ -229,4 +241,22 @@ public class PaymentController {
                 tenantId, userId, userRole);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Rebuild the revenue rollup from the payments table (backfill / drift check)
+     * Accessible by: Admin only
+     */
+    @PostMapping("/admin/revenue-rollup/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<RevenueRollupRebuildResponse> rebuildRevenueRollup(
+            @RequestParam(defaultValue = "false") boolean dryRun,
+            Authentication authentication) {
+        
+        User user = (User) authentication.getPrincipal();
+        
+        log.info("Admin {} rebuilding revenue rollup (dryRun: {})", user.getId(), dryRun);
+        
+        RevenueRollupRebuildResponse response = revenueRollupService.rebuild(dryRun);
+        return ResponseEntity.ok(response);
+    }
 }
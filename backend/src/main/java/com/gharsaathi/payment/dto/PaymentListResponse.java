@@ -17,10 +17,13 @@ import lombok.NoArgsConstructor;
 public class PaymentListResponse {
     
     private List<PaymentResponse> payments;
-    private int page;
+    private Integer page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements; // null in cursor mode unless includeTotal=true
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    
+    // Keyset mode: token for the next page, null on the last page
+    private String nextCursor;
 }
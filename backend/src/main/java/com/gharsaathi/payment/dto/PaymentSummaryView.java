@@ -0,0 +1,78 @@
+package com.gharsaathi.payment.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.gharsaathi.lease.model.LeaseStatus;
+import com.gharsaathi.payment.model.PaymentMethod;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.payment.model.PaymentType;
+
+/**
+ * Projection backing PaymentResponse in list views
+ */
+public interface PaymentSummaryView {
+
+    Long getId();
+
+    PaymentType getPaymentType();
+
+    BigDecimal getAmount();
+
+    LocalDate getDueDate();
+
+    LocalDate getPaidDate();
+
+    PaymentStatus getStatus();
+
+    PaymentMethod getPaymentMethod();
+
+    String getTransactionReference();
+
+    String getMonthYear();
+
+    String getNotes();
+
+    BigDecimal getLateFee();
+
+    Boolean getConfirmedByLandlord();
+
+    LocalDateTime getConfirmationDate();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getLeaseId();
+
+    LocalDate getLeaseStartDate();
+
+    LocalDate getLeaseEndDate();
+
+    LeaseStatus getLeaseStatus();
+
+    Long getTenantId();
+
+    String getTenantName();
+
+    String getTenantEmail();
+
+    String getTenantPhone();
+
+    Long getLandlordId();
+
+    String getLandlordName();
+
+    String getLandlordEmail();
+
+    String getLandlordPhone();
+
+    Long getPropertyId();
+
+    String getPropertyTitle();
+
+    String getPropertyAddress();
+
+    String getPropertyCity();
+}
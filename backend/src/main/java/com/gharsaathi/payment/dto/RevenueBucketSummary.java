@@ -0,0 +1,22 @@
+package com.gharsaathi.payment.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for confirmed payments grouped by landlord, property and paid month
+ * Used to rebuild the revenue rollup from the payments table
+ */
+public interface RevenueBucketSummary {
+
+    Long getLandlordId();
+
+    Long getPropertyId();
+
+    Integer getPaidYear();
+
+    Integer getPaidMonth();
+
+    BigDecimal getRevenue();
+
+    Long getPaymentCount();
+}
@@ -0,0 +1,27 @@
+package com.gharsaathi.payment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO for a revenue rollup rebuild or drift check
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollupRebuildResponse {
+    
+    private Boolean dryRun;
+    
+    // Bucket counts
+    private Integer expectedBuckets; // Computed from payments table
+    private Integer existingBuckets; // Present in rollup table before rebuild
+    
+    // Drift
+    private Integer driftedBuckets; // Present in both with different totals
+    private Integer missingBuckets; // Expected but absent from rollup
+    private Integer staleBuckets; // In rollup but no longer backed by payments
+}
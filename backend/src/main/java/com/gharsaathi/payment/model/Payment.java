@@ -17,6 +17,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
@@ -31,7 +32,10 @@ import lombok.NoArgsConstructor;
  * Entity representing a payment transaction between tenant and landlord
  */
 @Entity
-@Table(name = "payments")
+@Table(name = "payments", indexes = {
+    @Index(name = "idx_payment_tenant_due", columnList = "tenant_id, due_date, id"),
+    @Index(name = "idx_payment_landlord_due", columnList = "landlord_id, due_date, id")
+})
 @Data
 @Builder
 @NoArgsConstructor
@@ -0,0 +1,65 @@
+package com.gharsaathi.payment.model;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated confirmed revenue per landlord, property and paid month
+ * Maintained incrementally by PaymentService and rebuilt from payments on demand
+ */
+@Entity
+@Table(name = "revenue_rollups",
+    uniqueConstraints = @UniqueConstraint(name = "uk_revenue_rollup_bucket",
+        columnNames = {"landlord_id", "property_id", "revenue_month"}),
+    indexes = @Index(name = "idx_revenue_rollup_month", columnList = "revenue_month"))
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RevenueRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(name = "landlord_id", nullable = false)
+    private Long landlordId;
+    
+    @Column(name = "property_id", nullable = false)
+    private Long propertyId;
+    
+    @Column(name = "revenue_month", nullable = false, length = 7)
+    private String revenueMonth; // Format: "2026-02"
+    
+    @Column(name = "total_amount", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+    
+    @Column(name = "payment_count", nullable = false)
+    @Builder.Default
+    private Long paymentCount = 0L;
+    
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+    
+    @PrePersist
+    @PreUpdate
+    protected void onSave() {
+        updatedAt = LocalDateTime.now();
+    }
+}
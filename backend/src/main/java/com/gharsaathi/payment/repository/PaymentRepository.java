@@ -2,16 +2,21 @@ package com.gharsaathi.payment.repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gharsaathi.dashboard.dto.PropertyRevenueSummary;
+import com.gharsaathi.payment.dto.PaymentSummaryView;
+import com.gharsaathi.payment.dto.RevenueBucketSummary;
 import com.gharsaathi.payment.model.Payment;
 import com.gharsaathi.payment.model.PaymentStatus;
 
@@ -19,7 +24,7 @@ import com.gharsaathi.payment.model.PaymentStatus;
  * Repository interface for Payment entity operations
  */
 @Repository
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
+public interface PaymentRepository extends JpaRepository<Payment, Long>, JpaSpecificationExecutor<Payment> {
     
     /**
      * Find all payments for a specific lease
@@ -160,4 +165,49 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
     Page<Payment> findByLandlordIdAndStatusOrderByDueDateDesc(@Param("landlordId") Long landlordId,
                                                                @Param("status") PaymentStatus status,
                                                                Pageable pageable);
+    
+    /**
+     * Sum payments with given status per property of a landlord
+     * Properties without matching payments are included with zero revenue
+     */
+    @Query("SELECT pr.id AS propertyId, pr.title AS propertyTitle, COALESCE(SUM(p.amount), 0) AS revenue " +
+           "FROM Property pr " +
+           "LEFT JOIN Payment p ON p.property = pr AND p.status = :status " +
+           "WHERE pr.landlord.id = :landlordId " +
+           "GROUP BY pr.id, pr.title")
+    List<PropertyRevenueSummary> sumAmountByPropertyForLandlord(@Param("landlordId") Long landlordId,
+                                                                @Param("status") PaymentStatus status);
+    
+    /**
+     * Sum paid payments with given status per landlord, property and paid month
+     */
+    @Query("SELECT p.landlord.id AS landlordId, p.property.id AS propertyId, " +
+           "YEAR(p.paidDate) AS paidYear, MONTH(p.paidDate) AS paidMonth, " +
+           "SUM(p.amount) AS revenue, COUNT(p) AS paymentCount " +
+           "FROM Payment p " +
+           "WHERE p.status = :status AND p.paidDate IS NOT NULL " +
+           "GROUP BY p.landlord.id, p.property.id, YEAR(p.paidDate), MONTH(p.paidDate)")
+    List<RevenueBucketSummary> sumAmountByRevenueBucket(@Param("status") PaymentStatus status);
+
+    /**
+     * Find list-view summaries of payments by IDs (unordered)
+     */
+    @Query("SELECT pm.id AS id, pm.paymentType AS paymentType, pm.amount AS amount, pm.dueDate AS dueDate, " +
+           "pm.paidDate AS paidDate, pm.status AS status, pm.paymentMethod AS paymentMethod, " +
+           "pm.transactionReference AS transactionReference, pm.monthYear AS monthYear, pm.notes AS notes, " +
+           "pm.lateFee AS lateFee, pm.confirmedByLandlord AS confirmedByLandlord, " +
+           "pm.confirmationDate AS confirmationDate, pm.createdAt AS createdAt, pm.updatedAt AS updatedAt, " +
+           "l.id AS leaseId, l.leaseStartDate AS leaseStartDate, l.leaseEndDate AS leaseEndDate, " +
+           "l.status AS leaseStatus, " +
+           "t.id AS tenantId, t.fullName AS tenantName, t.email AS tenantEmail, t.phoneNumber AS tenantPhone, " +
+           "ll.id AS landlordId, ll.fullName AS landlordName, ll.email AS landlordEmail, " +
+           "ll.phoneNumber AS landlordPhone, " +
+           "p.id AS propertyId, p.title AS propertyTitle, p.address AS propertyAddress, p.city AS propertyCity " +
+           "FROM Payment pm " +
+           "JOIN pm.lease l " +
+           "JOIN pm.tenant t " +
+           "JOIN pm.landlord ll " +
+           "JOIN pm.property p " +
+           "WHERE pm.id IN :ids")
+    List<PaymentSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
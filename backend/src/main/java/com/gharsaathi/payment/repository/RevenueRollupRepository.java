@@ -0,0 +1,67 @@
+package com.gharsaathi.payment.repository;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.gharsaathi.dashboard.dto.LandlordRevenueSummary;
+import com.gharsaathi.dashboard.dto.MonthlyRevenueSummary;
+import com.gharsaathi.payment.model.RevenueRollup;
+
+/**
+ * Repository interface for RevenueRollup entity operations
+ */
+@Repository
+public interface RevenueRollupRepository extends JpaRepository<RevenueRollup, Long> {
+    
+    /**
+     * Atomically add an amount and count delta to a rollup bucket, creating it if missing
+     * Negative deltas are used when a payment leaves CONFIRMED status
+     */
+    @Modifying
+    @Query(value = "INSERT INTO revenue_rollups " +
+                   "(landlord_id, property_id, revenue_month, total_amount, payment_count, updated_at) " +
+                   "VALUES (:landlordId, :propertyId, :revenueMonth, :amount, :countDelta, CURRENT_TIMESTAMP) " +
+                   "ON DUPLICATE KEY UPDATE " +
+                   "total_amount = total_amount + VALUES(total_amount), " +
+                   "payment_count = payment_count + VALUES(payment_count), " +
+                   "updated_at = CURRENT_TIMESTAMP",
+           nativeQuery = true)
+    void applyDelta(@Param("landlordId") Long landlordId,
+                    @Param("propertyId") Long propertyId,
+                    @Param("revenueMonth") String revenueMonth,
+                    @Param("amount") BigDecimal amount,
+                    @Param("countDelta") long countDelta);
+    
+    /**
+     * Sum revenue per month for a landlord from given month onwards
+     */
+    @Query("SELECT r.revenueMonth AS revenueMonth, SUM(r.totalAmount) AS revenue " +
+           "FROM RevenueRollup r " +
+           "WHERE r.landlordId = :landlordId AND r.revenueMonth >= :fromMonth " +
+           "GROUP BY r.revenueMonth")
+    List<MonthlyRevenueSummary> sumByMonthForLandlord(@Param("landlordId") Long landlordId,
+                                                      @Param("fromMonth") String fromMonth);
+    
+    /**
+     * Sum revenue per month across the platform from given month onwards
+     */
+    @Query("SELECT r.revenueMonth AS revenueMonth, SUM(r.totalAmount) AS revenue " +
+           "FROM RevenueRollup r " +
+           "WHERE r.revenueMonth >= :fromMonth " +
+           "GROUP BY r.revenueMonth")
+    List<MonthlyRevenueSummary> sumByMonth(@Param("fromMonth") String fromMonth);
+    
+    /**
+     * Sum revenue per landlord across all months
+     */
+    @Query("SELECT r.landlordId AS landlordId, SUM(r.totalAmount) AS revenue " +
+           "FROM RevenueRollup r " +
+           "GROUP BY r.landlordId")
+    List<LandlordRevenueSummary> sumByLandlord();
+}
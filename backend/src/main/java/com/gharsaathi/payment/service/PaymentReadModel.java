@@ -0,0 +1,103 @@
+package com.gharsaathi.payment.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.payment.dto.PaymentResponse;
+import com.gharsaathi.payment.dto.PaymentSummaryView;
+import com.gharsaathi.payment.model.Payment;
+import com.gharsaathi.payment.repository.PaymentRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds PaymentResponse list items from a projection instead of entity graphs
+ * One query per page regardless of page size; no lazy associations are touched
+ */
+@Component
+@RequiredArgsConstructor
+public class PaymentReadModel {
+
+    private final PaymentRepository paymentRepository;
+
+    /**
+     * Load responses for the given payment IDs, in the same order
+     * IDs that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<PaymentResponse> findResponses(List<Long> paymentIds) {
+        if (paymentIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PaymentSummaryView> viewsById = paymentRepository.findSummariesByIdIn(paymentIds)
+            .stream()
+            .collect(Collectors.toMap(PaymentSummaryView::getId, Function.identity()));
+
+        return paymentIds.stream()
+            .map(viewsById::get)
+            .filter(Objects::nonNull)
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    private PaymentResponse toResponse(PaymentSummaryView view) {
+        // Derived fields follow the entity's own rules
+        Payment derived = Payment.builder()
+            .paymentType(view.getPaymentType())
+            .status(view.getStatus())
+            .dueDate(view.getDueDate())
+            .monthYear(view.getMonthYear())
+            .build();
+
+        return PaymentResponse.builder()
+            .id(view.getId())
+            .lease(PaymentResponse.LeaseInfo.builder()
+                .id(view.getLeaseId())
+                .startDate(view.getLeaseStartDate())
+                .endDate(view.getLeaseEndDate())
+                .leaseStatus(view.getLeaseStatus().name())
+                .build())
+            .tenant(PaymentResponse.TenantInfo.builder()
+                .id(view.getTenantId())
+                .fullName(view.getTenantName())
+                .email(view.getTenantEmail())
+                .phone(view.getTenantPhone())
+                .build())
+            .landlord(PaymentResponse.LandlordInfo.builder()
+                .id(view.getLandlordId())
+                .fullName(view.getLandlordName())
+                .email(view.getLandlordEmail())
+                .phone(view.getLandlordPhone())
+                .build())
+            .property(PaymentResponse.PropertyInfo.builder()
+                .id(view.getPropertyId())
+                .title(view.getPropertyTitle())
+                .address(view.getPropertyAddress())
+                .city(view.getPropertyCity())
+                .build())
+            .paymentType(view.getPaymentType())
+            .amount(view.getAmount())
+            .dueDate(view.getDueDate())
+            .paidDate(view.getPaidDate())
+            .status(view.getStatus())
+            .paymentMethod(view.getPaymentMethod())
+            .transactionReference(view.getTransactionReference())
+            .monthYear(view.getMonthYear())
+            .displayMonth(derived.getDisplayMonth())
+            .notes(view.getNotes())
+            .lateFee(view.getLateFee())
+            .confirmedByLandlord(view.getConfirmedByLandlord())
+            .confirmationDate(view.getConfirmationDate() != null ? view.getConfirmationDate().toLocalDate() : null)
+            .overdue(derived.isOverdue())
+            .daysOverdue((int) derived.getDaysOverdue())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .build();
+    }
+}
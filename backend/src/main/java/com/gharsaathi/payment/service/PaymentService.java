@@ -10,10 +10,15 @@ import java.util.stream.Collectors;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.gharsaathi.common.util.KeysetPage;
+import com.gharsaathi.common.util.KeysetPagination;
 import com.gharsaathi.lease.model.Lease;
+import com.gharsaathi.notification.service.NotificationService;
 import com.gharsaathi.payment.dto.ConfirmPaymentRequest;
 import com.gharsaathi.payment.dto.MarkPaymentPaidRequest;
 import com.gharsaathi.payment.dto.PaymentListResponse;
@@ -42,6 +47,9 @@ import lombok.extern.slf4j.Slf4j;
 public class PaymentService {
     
     private final PaymentRepository paymentRepository;
+    private final RevenueRollupService revenueRollupService;
+    private final PaymentReadModel paymentReadModel;
+    private final NotificationService notificationService;
 
     /**
      * Generate all payments for a lease (security deposit + monthly rents)
@@ -175,7 +183,7 @@ public class PaymentService {
                 // Cancel payments with due date after termination date and status is PENDING
                 if (payment.getDueDate().isAfter(terminationDate) && 
                     payment.getStatus() == PaymentStatus.PENDING) {
-                    payment.setStatus(PaymentStatus.CANCELLED);
+                    updateStatus(payment, PaymentStatus.CANCELLED);
                     payment.setNotes("Cancelled due to lease termination on " + terminationDate);
                     cancelledCount++;
                 }
@@ -214,8 +222,8 @@ public class PaymentService {
         }
         
         // Update payment
-        payment.setStatus(PaymentStatus.PAID);
         payment.setPaidDate(request.getPaidDate());
+        updateStatus(payment, PaymentStatus.PAID);
         payment.setPaymentMethod(request.getPaymentMethod());
         payment.setTransactionReference(request.getTransactionReference());
         payment.setLateFee(request.getLateFee() != null ? request.getLateFee() : BigDecimal.ZERO);
@@ -227,6 +235,8 @@ public class PaymentService {
         }
         
         Payment savedPayment = paymentRepository.save(payment);
+        notificationService.notifyPaymentReceived(savedPayment.getLandlord().getId(), paymentId,
+                amountPaid(savedPayment), savedPayment.getTenant().getFullName());
         log.info("Payment ID: {} marked as paid by tenant ID: {}", paymentId, userId);
         
         return mapToResponse(savedPayment);
@@ -253,7 +263,7 @@ public class PaymentService {
         }
         
         // Update payment
-        payment.setStatus(PaymentStatus.CONFIRMED);
+        updateStatus(payment, PaymentStatus.CONFIRMED);
         payment.setConfirmedByLandlord(true);
         payment.setConfirmationDate(request.getConfirmationDate().atStartOfDay());
         
@@ -264,6 +274,7 @@ public class PaymentService {
         }
         
         Payment savedPayment = paymentRepository.save(payment);
+        notificationService.notifyPaymentConfirmed(savedPayment.getTenant().getId(), paymentId, amountPaid(savedPayment));
         log.info("Payment ID: {} confirmed by landlord ID: {}", paymentId, userId);
         
         return mapToResponse(savedPayment);
@@ -281,7 +292,7 @@ public class PaymentService {
             int processedCount = 0;
             for (Payment payment : overduePayments) {
                 if (payment.getStatus() == PaymentStatus.PENDING) {
-                    payment.setStatus(PaymentStatus.OVERDUE);
+                    updateStatus(payment, PaymentStatus.OVERDUE);
                     
                     // Calculate late fee
                     BigDecimal lateFee = payment.calculateLateFee();
@@ -324,9 +335,9 @@ public class PaymentService {
             validateUserAccess(payments.get(0), userId, userRole);
         }
         
-        return payments.stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return paymentReadModel.findResponses(payments.stream()
+                .map(Payment::getId)
+                .collect(Collectors.toList()));
     }
 
     /**
@@ -348,9 +359,9 @@ public class PaymentService {
             paymentPage = paymentRepository.findByTenantId(tenantId, pageable);
         }
         
-        List<PaymentResponse> paymentResponses = paymentPage.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<PaymentResponse> paymentResponses = paymentReadModel.findResponses(paymentPage.getContent().stream()
+                .map(Payment::getId)
+                .collect(Collectors.toList()));
         
         return PaymentListResponse.builder()
                 .payments(paymentResponses)
@@ -363,6 +374,23 @@ public class PaymentService {
                 .build();
     }
 
+    /**
+     * Get payments for tenant with keyset (cursor) pagination, latest due date first
+     */
+    @Transactional(readOnly = true)
+    public PaymentListResponse getPaymentsForTenantByCursor(Long tenantId, Long userId, String userRole,
+                                                            PaymentStatus status, String cursor, int size,
+                                                            boolean includeTotal) {
+        // Check authorization
+        if (!userRole.equals("ADMIN") && !tenantId.equals(userId)) {
+            throw new PaymentUnauthorizedException("You are not authorized to view these payments");
+        }
+        
+        Specification<Payment> spec = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("tenant").get("id"), tenantId);
+        return fetchByCursor(spec, status, cursor, size, includeTotal);
+    }
+
     /**
      * Get payments for landlord with pagination
      */
@@ -382,9 +410,9 @@ public class PaymentService {
             paymentPage = paymentRepository.findByLandlordId(landlordId, pageable);
         }
         
-        List<PaymentResponse> paymentResponses = paymentPage.getContent().stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<PaymentResponse> paymentResponses = paymentReadModel.findResponses(paymentPage.getContent().stream()
+                .map(Payment::getId)
+                .collect(Collectors.toList()));
         
         return PaymentListResponse.builder()
                 .payments(paymentResponses)
@@ -397,6 +425,23 @@ public class PaymentService {
                 .build();
     }
 
+    /**
+     * Get payments for landlord with keyset (cursor) pagination, latest due date first
+     */
+    @Transactional(readOnly = true)
+    public PaymentListResponse getPaymentsForLandlordByCursor(Long landlordId, Long userId, String userRole,
+                                                              PaymentStatus status, String cursor, int size,
+                                                              boolean includeTotal) {
+        // Check authorization
+        if (!userRole.equals("ADMIN") && !landlordId.equals(userId)) {
+            throw new PaymentUnauthorizedException("You are not authorized to view these payments");
+        }
+        
+        Specification<Payment> spec = (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("landlord").get("id"), landlordId);
+        return fetchByCursor(spec, status, cursor, size, includeTotal);
+    }
+
     /**
      * Get payment statistics for tenant
      */
@@ -440,14 +485,58 @@ public class PaymentService {
         List<Payment> upcomingPayments = paymentRepository.findUpcomingPayments(today, endDate);
         
         // Filter by tenant
-        return upcomingPayments.stream()
+        return paymentReadModel.findResponses(upcomingPayments.stream()
                 .filter(p -> p.getTenant().getId().equals(tenantId))
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+                .map(Payment::getId)
+                .collect(Collectors.toList()));
     }
 
     // Helper methods
 
+    /**
+     * Fetch one keyset page of payments by (dueDate DESC, id DESC), optionally filtered by status
+     */
+    private PaymentListResponse fetchByCursor(Specification<Payment> spec, PaymentStatus status, String cursor,
+                                              int size, boolean includeTotal) {
+        if (status != null) {
+            spec = spec.and((root, query, criteriaBuilder) -> criteriaBuilder.equal(root.get("status"), status));
+        }
+        KeysetPage<Payment> keysetPage = KeysetPagination.fetch(paymentRepository, spec, "dueDate",
+                Sort.Direction.DESC, cursor, size, includeTotal, Payment::getId);
+        
+        List<PaymentResponse> paymentResponses = paymentReadModel.findResponses(keysetPage.getContent().stream()
+                .map(Payment::getId)
+                .collect(Collectors.toList()));
+        
+        return PaymentListResponse.builder()
+                .payments(paymentResponses)
+                .size(KeysetPagination.clampSize(size))
+                .totalElements(keysetPage.getTotalElements())
+                .first(cursor.isEmpty())
+                .last(!keysetPage.isHasNext())
+                .nextCursor(keysetPage.getNextCursor())
+                .build();
+    }
+
+    /**
+     * Change payment status, keeping the revenue rollup in step within the same transaction
+     */
+    private void updateStatus(Payment payment, PaymentStatus newStatus) {
+        PaymentStatus oldStatus = payment.getStatus();
+        payment.setStatus(newStatus);
+        
+        if (oldStatus != PaymentStatus.CONFIRMED && newStatus == PaymentStatus.CONFIRMED) {
+            revenueRollupService.recordConfirmed(payment);
+        } else if (oldStatus == PaymentStatus.CONFIRMED && newStatus != PaymentStatus.CONFIRMED) {
+            revenueRollupService.recordReversed(payment);
+        }
+    }
+
+    private static Double amountPaid(Payment payment) {
+        BigDecimal lateFee = payment.getLateFee() != null ? payment.getLateFee() : BigDecimal.ZERO;
+        return payment.getAmount().add(lateFee).doubleValue();
+    }
+
     private void validateUserAccess(Payment payment, Long userId, String userRole) {
         if (userRole.equals("ADMIN")) {
             return; // Admin can access all
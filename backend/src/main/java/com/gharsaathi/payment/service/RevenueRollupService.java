@@ -0,0 +1,141 @@
+package com.gharsaathi.payment.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.payment.dto.RevenueBucketSummary;
+import com.gharsaathi.payment.dto.RevenueRollupRebuildResponse;
+import com.gharsaathi.payment.model.Payment;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.payment.model.RevenueRollup;
+import com.gharsaathi.payment.repository.PaymentRepository;
+import com.gharsaathi.payment.repository.RevenueRollupRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Service maintaining the per-landlord, per-property, per-month revenue rollup
+ * Incremental updates join the caller's transaction so the rollup commits with the payment
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RevenueRollupService {
+
+    private final RevenueRollupRepository revenueRollupRepository;
+    private final PaymentRepository paymentRepository;
+
+    /**
+     * Add a payment that just entered CONFIRMED status to its rollup bucket
+     */
+    @Transactional
+    public void recordConfirmed(Payment payment) {
+        applyDelta(payment, 1);
+    }
+
+    /**
+     * Remove a payment that just left CONFIRMED status from its rollup bucket
+     */
+    @Transactional
+    public void recordReversed(Payment payment) {
+        applyDelta(payment, -1);
+    }
+
+    /**
+     * Recompute the rollup from the payments table
+     * With dryRun only reports drift; otherwise fixes drifted, missing and stale buckets
+     */
+    @Transactional
+    public RevenueRollupRebuildResponse rebuild(boolean dryRun) {
+        log.info("Rebuilding revenue rollup (dryRun: {})", dryRun);
+
+        Map<String, RevenueBucketSummary> expected = new HashMap<>();
+        for (RevenueBucketSummary bucket : paymentRepository.sumAmountByRevenueBucket(PaymentStatus.CONFIRMED)) {
+            String month = YearMonth.of(bucket.getPaidYear(), bucket.getPaidMonth()).toString();
+            expected.put(bucketKey(bucket.getLandlordId(), bucket.getPropertyId(), month), bucket);
+        }
+
+        List<RevenueRollup> existing = revenueRollupRepository.findAll();
+        // Drifted rows are only recorded here: changing the managed entities would get them flushed
+        // at commit, so a dry run would quietly fix the data it was asked to report on
+        List<Map.Entry<RevenueRollup, RevenueBucketSummary>> drifted = new ArrayList<>();
+        List<RevenueRollup> toDelete = new ArrayList<>();
+
+        for (RevenueRollup rollup : existing) {
+            String key = bucketKey(rollup.getLandlordId(), rollup.getPropertyId(), rollup.getRevenueMonth());
+            RevenueBucketSummary bucket = expected.remove(key);
+            if (bucket == null) {
+                toDelete.add(rollup);
+            } else if (rollup.getTotalAmount().compareTo(bucket.getRevenue()) != 0
+                    || !Objects.equals(rollup.getPaymentCount(), bucket.getPaymentCount())) {
+                drifted.add(Map.entry(rollup, bucket));
+            }
+        }
+
+        // Whatever is left in expected has no rollup row yet
+        int missing = expected.size();
+
+        if (!dryRun) {
+            List<RevenueRollup> toSave = new ArrayList<>();
+            for (Map.Entry<RevenueRollup, RevenueBucketSummary> drift : drifted) {
+                RevenueRollup rollup = drift.getKey();
+                rollup.setTotalAmount(drift.getValue().getRevenue());
+                rollup.setPaymentCount(drift.getValue().getPaymentCount());
+                toSave.add(rollup);
+            }
+            for (RevenueBucketSummary bucket : expected.values()) {
+                toSave.add(RevenueRollup.builder()
+                        .landlordId(bucket.getLandlordId())
+                        .propertyId(bucket.getPropertyId())
+                        .revenueMonth(YearMonth.of(bucket.getPaidYear(), bucket.getPaidMonth()).toString())
+                        .totalAmount(bucket.getRevenue())
+                        .paymentCount(bucket.getPaymentCount())
+                        .build());
+            }
+            revenueRollupRepository.deleteAllInBatch(toDelete);
+            revenueRollupRepository.saveAll(toSave);
+        }
+
+        log.info("Revenue rollup rebuild finished: {} drifted, {} missing, {} stale (dryRun: {})",
+                drifted.size(), missing, toDelete.size(), dryRun);
+
+        return RevenueRollupRebuildResponse.builder()
+                .dryRun(dryRun)
+                .expectedBuckets(existing.size() - toDelete.size() + missing)
+                .existingBuckets(existing.size())
+                .driftedBuckets(drifted.size())
+                .missingBuckets(missing)
+                .staleBuckets(toDelete.size())
+                .build();
+    }
+
+    // Helper methods
+
+    private void applyDelta(Payment payment, int sign) {
+        LocalDate paidDate = payment.getPaidDate();
+        if (paidDate == null) {
+            // Revenue charts bucket by paid date; unpaid payments never contribute
+            return;
+        }
+
+        revenueRollupRepository.applyDelta(
+                payment.getLandlord().getId(),
+                payment.getProperty().getId(),
+                YearMonth.from(paidDate).toString(),
+                sign > 0 ? payment.getAmount() : payment.getAmount().negate(),
+                sign);
+    }
+
+    private String bucketKey(Long landlordId, Long propertyId, String revenueMonth) {
+        return landlordId + ":" + propertyId + ":" + revenueMonth;
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.repository.UserRepository;
+import com.gharsaathi.common.security.PrincipalCache;
 import com.gharsaathi.profile.dto.ChangePasswordRequest;
 import com.gharsaathi.profile.dto.ProfileDTO;
 import com.gharsaathi.profile.dto.UpdateProfileRequest;
@@ -26,6 +27,7 @@ public class ProfileService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final PrincipalCache principalCache;
 
     /**
      * Get user profile by user ID
@@ -82,6 +84,7 @@ public class ProfileService {
         }
 
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         log.info("Profile updated successfully for user ID: {}", userId);
         
         return mapToProfileDTO(savedUser);
@@ -118,6 +121,7 @@ public class ProfileService {
         // Update password
         user.setPassword(passwordEncoder.encode(request.getNewPassword()));
         userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("Password changed successfully for user ID: {}", userId);
     }
@@ -134,6 +138,7 @@ public class ProfileService {
 
         user.setProfilePicture(profilePictureUrl);
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("Profile picture updated successfully for user ID: {}", userId);
         return mapToProfileDTO(savedUser);
@@ -165,6 +170,7 @@ public class ProfileService {
 
         user.setEmailVerified(true);
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("Email verified successfully for user ID: {}", userId);
         return mapToProfileDTO(savedUser);
@@ -182,6 +188,7 @@ public class ProfileService {
 
         user.setPhoneVerified(true);
         User savedUser = userRepository.save(user);
+        principalCache.evictUser(userId);
         
         log.info("Phone verified successfully for user ID: {}", userId);
         return mapToProfileDTO(savedUser);
@@ -47,6 +47,7 @@ public class PropertyController {
     
     /**
      * Get all available properties with pagination and sorting
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      * Public endpoint - no authentication required
      */
     @GetMapping("/properties")
@@ -54,10 +55,14 @@ public class PropertyController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "DESC") String sortDirection) {
+            @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
-        log.info("GET /api/properties - page: {}, size: {}", page, size);
-        PropertyListResponse response = propertyService.getAllProperties(page, size, sortBy, sortDirection);
+        log.info("GET /api/properties - page: {}, size: {}, cursor mode: {}", page, size, cursor != null);
+        PropertyListResponse response = cursor != null
+            ? propertyService.getAllPropertiesByCursor(cursor, size, sortBy, sortDirection, includeTotal)
+            : propertyService.getAllProperties(page, size, sortBy, sortDirection);
         return ResponseEntity.ok(response);
     }
     
@@ -102,17 +107,22 @@ public class PropertyController {
     
     /**
      * Get all properties for the authenticated landlord
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      * Requires LANDLORD role
      */
     @GetMapping("/landlord/properties")
     public ResponseEntity<PropertyListResponse> getLandlordProperties(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
         
         Long landlordId = getCurrentUserId();
         log.info("GET /api/landlord/properties - landlord: {}", landlordId);
         
-        PropertyListResponse response = propertyService.getLandlordProperties(landlordId, page, size);
+        PropertyListResponse response = cursor != null
+            ? propertyService.getLandlordPropertiesByCursor(landlordId, cursor, size, includeTotal)
+            : propertyService.getLandlordProperties(landlordId, page, size);
         return ResponseEntity.ok(response);
     }
     
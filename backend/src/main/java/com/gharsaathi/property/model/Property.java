@@ -44,7 +44,9 @@ import lombok.NoArgsConstructor;
     @Index(name = "idx_status", columnList = "status"),
     @Index(name = "idx_landlord", columnList = "landlord_id"),
     @Index(name = "idx_price", columnList = "price"),
-    @Index(name = "idx_property_type", columnList = "property_type")
+    @Index(name = "idx_property_type", columnList = "property_type"),
+    @Index(name = "idx_property_status_created", columnList = "status, created_at, id"),
+    @Index(name = "idx_property_landlord_created", columnList = "landlord_id, created_at, id")
 })
 @Data
 @NoArgsConstructor
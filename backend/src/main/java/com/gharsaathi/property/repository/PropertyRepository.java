@@ -1,5 +1,7 @@
 package com.gharsaathi.property.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
@@ -10,9 +12,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gharsaathi.common.dto.PropertyAmenityView;
+import com.gharsaathi.common.dto.PropertySummaryView;
+import com.gharsaathi.dashboard.dto.LandlordPropertyCount;
 import com.gharsaathi.property.model.Property;
 import com.gharsaathi.property.model.PropertyStatus;
 import com.gharsaathi.property.model.PropertyType;
+import com.gharsaathi.property.search.PropertyTextView;
 
 /**
  * Repository interface for Property entity
@@ -67,6 +73,39 @@ public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSp
            "WHERE p.id = :id")
     Optional<Property> findByIdWithAllRelations(@Param("id") Long id);
     
+    /**
+     * Correlated selection of a property's primary image URL, falling back to its first image
+     * Usable in any query that aliases the property as p
+     */
+    String PRIMARY_IMAGE_URL = "(SELECT i.imageUrl FROM PropertyImage i WHERE i.property.id = p.id " +
+                               "ORDER BY CASE WHEN i.isPrimary = true THEN 0 ELSE 1 END, i.displayOrder, i.id " +
+                               "LIMIT 1)";
+    
+    /**
+     * Find list-view summaries of properties by IDs (unordered)
+     */
+    @Query("SELECT p.id AS id, p.title AS title, p.propertyType AS propertyType, p.status AS status, " +
+           "p.city AS city, p.area AS area, p.latitude AS latitude, p.longitude AS longitude, " +
+           "p.price AS price, p.bedrooms AS bedrooms, p.bathrooms AS bathrooms, " +
+           "p.propertyArea AS propertyArea, p.furnished AS furnished, " +
+           PRIMARY_IMAGE_URL + " AS primaryImageUrl, " +
+           "l.id AS landlordId, l.fullName AS landlordName, l.email AS landlordEmail " +
+           "FROM Property p JOIN p.landlord l " +
+           "WHERE p.id IN :ids")
+    List<PropertySummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find the amenities of properties by IDs
+     */
+    @Query("SELECT p.id AS propertyId, a AS amenity FROM Property p JOIN p.amenities a WHERE p.id IN :ids")
+    List<PropertyAmenityView> findAmenitiesByPropertyIdIn(@Param("ids") Collection<Long> ids);
+    
+    /**
+     * Find all properties with given status with amenities loaded (search index bootstrap)
+     */
+    @Query("SELECT DISTINCT p FROM Property p LEFT JOIN FETCH p.amenities WHERE p.status = :status")
+    List<Property> findAllWithAmenitiesByStatus(@Param("status") PropertyStatus status);
+    
     /**
      * Check if a property exists with given ID and landlord ID (for ownership verification)
      */
@@ -82,6 +121,12 @@ public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSp
      */
     long countByLandlordId(Long landlordId);
     
+    /**
+     * Count properties per landlord
+     */
+    @Query("SELECT p.landlord.id AS landlordId, COUNT(p) AS propertyCount FROM Property p GROUP BY p.landlord.id")
+    List<LandlordPropertyCount> countPropertiesPerLandlord();
+    
     /**
      * Count properties by status
      */
@@ -93,12 +138,11 @@ public interface PropertyRepository extends JpaRepository<Property, Long>, JpaSp
     long countByLandlordIdAndStatus(Long landlordId, PropertyStatus status);
     
     /**
-     * Search properties by keyword in title or description
+     * Get the free-text fields of all properties for the keyword index
      */
-    @Query("SELECT p FROM Property p WHERE " +
-           "LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-           "LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
-    Page<Property> searchByKeyword(@Param("keyword") String keyword, Pageable pageable);
+    @Query("SELECT p.id AS id, p.title AS title, p.description AS description, p.area AS area, p.city AS city " +
+           "FROM Property p")
+    List<PropertyTextView> findAllTextViews();
     
     /**
      * Find available properties in a city
@@ -0,0 +1,80 @@
+package com.gharsaathi.property.search;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Fixed-size latitude/longitude grid mapping each cell to the slots located in it
+ * A box query unions the cells it overlaps; callers apply the exact geo check afterwards
+ */
+final class GeoGrid {
+
+    private final double cellDegrees;
+    private final Map<Long, BitSet> cells = new HashMap<>();
+
+    GeoGrid(double cellDegrees) {
+        this.cellDegrees = cellDegrees;
+    }
+
+    void add(double latitude, double longitude, int slot) {
+        cells.computeIfAbsent(cellKey(row(latitude), column(longitude)), k -> new BitSet()).set(slot);
+    }
+
+    void remove(double latitude, double longitude, int slot) {
+        long key = cellKey(row(latitude), column(longitude));
+        BitSet bits = cells.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Slots in every cell overlapping the query box
+     */
+    BitSet candidates(GeoQuery query) {
+        int minRow = row(query.getMinLatitude());
+        int maxRow = row(query.getMaxLatitude());
+        int minColumn = column(query.getMinLongitude());
+        int maxColumn = column(query.getMaxLongitude());
+
+        BitSet union = new BitSet();
+        long boxCells = (long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1);
+        if (boxCells > cells.size()) {
+            // Large box over a sparse grid: walking occupied cells is cheaper
+            for (Map.Entry<Long, BitSet> entry : cells.entrySet()) {
+                int cellRow = (int) (entry.getKey() >> 32);
+                int cellColumn = (int) (long) entry.getKey();
+                if (cellRow >= minRow && cellRow <= maxRow && cellColumn >= minColumn && cellColumn <= maxColumn) {
+                    union.or(entry.getValue());
+                }
+            }
+            return union;
+        }
+
+        for (int cellRow = minRow; cellRow <= maxRow; cellRow++) {
+            for (int cellColumn = minColumn; cellColumn <= maxColumn; cellColumn++) {
+                BitSet bits = cells.get(cellKey(cellRow, cellColumn));
+                if (bits != null) {
+                    union.or(bits);
+                }
+            }
+        }
+        return union;
+    }
+
+    private int row(double latitude) {
+        return (int) Math.floor(latitude / cellDegrees);
+    }
+
+    private int column(double longitude) {
+        return (int) Math.floor(longitude / cellDegrees);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+}
@@ -0,0 +1,119 @@
+package com.gharsaathi.property.search;
+
+import com.gharsaathi.common.dto.PropertySearchCriteria;
+
+import lombok.Getter;
+
+/**
+ * Geographic part of a property search: an optional radius around a point and an optional bounding box
+ * Both are resolved to one enclosing box for coarse filtering; the radius is then checked exactly
+ */
+@Getter
+public final class GeoQuery {
+
+    public static final double EARTH_RADIUS_KM = 6371.0088;
+
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    private final Double centerLatitude;
+    private final Double centerLongitude;
+    private final Double radiusKm;
+    private final double minLatitude;
+    private final double maxLatitude;
+    private final double minLongitude;
+    private final double maxLongitude;
+
+    private GeoQuery(Double centerLatitude, Double centerLongitude, Double radiusKm,
+                     double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+        this.centerLatitude = centerLatitude;
+        this.centerLongitude = centerLongitude;
+        this.radiusKm = radiusKm;
+        this.minLatitude = minLatitude;
+        this.maxLatitude = maxLatitude;
+        this.minLongitude = minLongitude;
+        this.maxLongitude = maxLongitude;
+    }
+
+    /**
+     * Build the geo query for the criteria, or null when no geo filter or distance sort is requested
+     * Criteria are expected to be validated already
+     */
+    public static GeoQuery from(PropertySearchCriteria criteria) {
+        boolean hasCenter = criteria.getLatitude() != null && criteria.getLongitude() != null;
+        boolean hasBox = criteria.getMinLatitude() != null;
+        if (!hasCenter && !hasBox) {
+            return null;
+        }
+
+        double minLatitude = -90.0;
+        double maxLatitude = 90.0;
+        double minLongitude = -180.0;
+        double maxLongitude = 180.0;
+
+        if (hasBox) {
+            minLatitude = criteria.getMinLatitude();
+            maxLatitude = criteria.getMaxLatitude();
+            minLongitude = criteria.getMinLongitude();
+            maxLongitude = criteria.getMaxLongitude();
+        }
+
+        Double radiusKm = hasCenter ? criteria.getRadiusKm() : null;
+        if (radiusKm != null) {
+            // Box enclosing the circle; longitude span widens with latitude
+            double latitudeDelta = radiusKm / KM_PER_DEGREE;
+            minLatitude = Math.max(minLatitude, criteria.getLatitude() - latitudeDelta);
+            maxLatitude = Math.min(maxLatitude, criteria.getLatitude() + latitudeDelta);
+
+            double cosLatitude = Math.cos(Math.toRadians(Math.max(Math.abs(criteria.getLatitude() - latitudeDelta),
+                Math.abs(criteria.getLatitude() + latitudeDelta))));
+            double longitudeDelta = cosLatitude > 0 ? latitudeDelta / cosLatitude : 360.0;
+            double west = criteria.getLongitude() - longitudeDelta;
+            double east = criteria.getLongitude() + longitudeDelta;
+            // A circle crossing the antimeridian keeps the full longitude range; the exact check filters it
+            if (west >= -180.0 && east <= 180.0) {
+                minLongitude = Math.max(minLongitude, west);
+                maxLongitude = Math.min(maxLongitude, east);
+            }
+        }
+
+        return new GeoQuery(
+            hasCenter ? criteria.getLatitude() : null,
+            hasCenter ? criteria.getLongitude() : null,
+            radiusKm,
+            minLatitude, maxLatitude, minLongitude, maxLongitude);
+    }
+
+    public boolean hasCenter() {
+        return centerLatitude != null;
+    }
+
+    /**
+     * Whether a point lies inside the box and, if a radius is set, inside the circle
+     */
+    public boolean matches(double latitude, double longitude) {
+        if (latitude < minLatitude || latitude > maxLatitude
+                || longitude < minLongitude || longitude > maxLongitude) {
+            return false;
+        }
+        return radiusKm == null || distanceKm(latitude, longitude) <= radiusKm;
+    }
+
+    /**
+     * Great-circle distance from the center in kilometres
+     */
+    public double distanceKm(double latitude, double longitude) {
+        return distanceKm(centerLatitude, centerLongitude, latitude, longitude);
+    }
+
+    /**
+     * Haversine great-circle distance between two points in kilometres
+     */
+    public static double distanceKm(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double deltaLatitude = Math.toRadians(latitude2 - latitude1);
+        double deltaLongitude = Math.toRadians(longitude2 - longitude1);
+        double a = Math.pow(Math.sin(deltaLatitude / 2), 2)
+            + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.pow(Math.sin(deltaLongitude / 2), 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+}
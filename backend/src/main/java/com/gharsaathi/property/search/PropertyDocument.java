@@ -0,0 +1,74 @@
+package com.gharsaathi.property.search;
+
+import java.time.ZoneOffset;
+import java.util.Locale;
+import java.util.Set;
+
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.property.model.PropertyType;
+
+import lombok.Getter;
+
+/**
+ * Immutable snapshot of the searchable fields of a property
+ * Taken inside the writing transaction so the index never touches lazy state
+ */
+@Getter
+final class PropertyDocument {
+
+    private final long id;
+    private final String city;
+    private final String area;
+    private final PropertyType propertyType;
+    private final Set<String> amenities;
+    private final Boolean furnished;
+    private final Boolean parkingAvailable;
+    private final Boolean petsAllowed;
+    private final Double price;
+    private final Double bedrooms;
+    private final Double bathrooms;
+    private final Double propertyArea;
+    private final Double latitude;
+    private final Double longitude;
+    private final Long availableFromEpochDay;
+    private final Double createdAtMicros;
+
+    private PropertyDocument(Property property) {
+        this.id = property.getId();
+        this.city = property.getCity();
+        this.area = property.getArea();
+        this.propertyType = property.getPropertyType();
+        this.amenities = property.getAmenities() != null ? Set.copyOf(property.getAmenities()) : Set.of();
+        this.furnished = property.getFurnished();
+        this.parkingAvailable = property.getParkingAvailable();
+        this.petsAllowed = property.getPetsAllowed();
+        this.price = property.getPrice() != null ? property.getPrice().doubleValue() : null;
+        this.bedrooms = property.getBedrooms() != null ? property.getBedrooms().doubleValue() : null;
+        this.bathrooms = property.getBathrooms() != null ? property.getBathrooms().doubleValue() : null;
+        this.propertyArea = property.getPropertyArea();
+        this.latitude = property.getLatitude();
+        this.longitude = property.getLongitude();
+        this.availableFromEpochDay = property.getAvailableFrom() != null
+            ? property.getAvailableFrom().toEpochDay() : null;
+        this.createdAtMicros = property.getCreatedAt() != null
+            ? (double) (property.getCreatedAt().toEpochSecond(ZoneOffset.UTC) * 1_000_000L
+                + property.getCreatedAt().getNano() / 1_000)
+            : null;
+    }
+
+    static PropertyDocument of(Property property) {
+        return new PropertyDocument(property);
+    }
+
+    String cityKey() {
+        return city != null ? city.toLowerCase(Locale.ROOT) : null;
+    }
+
+    String areaKey() {
+        return area != null ? area.toLowerCase(Locale.ROOT) : null;
+    }
+
+    boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
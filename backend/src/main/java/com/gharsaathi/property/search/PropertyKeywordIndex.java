@@ -0,0 +1,278 @@
+package com.gharsaathi.property.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process inverted index over property title, description, area and city
+ * Text is lower-cased and split on anything that is not a letter, mark or digit.
+ * Every query term matches indexed terms by prefix and all query terms must match (AND).
+ * Matches are scored with a field-weighted, IDF-scaled term frequency; title hits count most.
+ * Covers properties of every status so admin and landlord searches can use it too.
+ */
+@Component
+@Slf4j
+public class PropertyKeywordIndex {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{M}\\p{N}]+");
+
+    private static final double TITLE_WEIGHT = 3.0;
+    private static final double AREA_WEIGHT = 2.0;
+    private static final double CITY_WEIGHT = 2.0;
+    private static final double DESCRIPTION_WEIGHT = 1.0;
+
+    // A prefix-only hit scores lower than the exact term
+    private static final double PREFIX_MATCH_FACTOR = 0.5;
+
+    private final PropertyRepository propertyRepository;
+    private final boolean enabled;
+    private final int maxIdMatches;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    // term -> (property ID -> weighted term frequency), sorted for prefix range scans
+    private final TreeMap<String, Map<Long, Double>> postings = new TreeMap<>();
+    // property ID -> indexed terms, for removal on re-index
+    private final Map<Long, Set<String>> termsByPropertyId = new HashMap<>();
+    // Properties re-indexed while the startup load runs; their snapshot rows may be older (guarded by lock)
+    private Set<Long> changedDuringLoad;
+
+    public PropertyKeywordIndex(PropertyRepository propertyRepository,
+                                @Value("${property.search.keyword-index.enabled:true}") boolean enabled,
+                                @Value("${property.search.keyword-index.max-id-matches:1000}") int maxIdMatches) {
+        this.propertyRepository = propertyRepository;
+        this.enabled = enabled;
+        this.maxIdMatches = maxIdMatches;
+    }
+
+    /**
+     * Load the text of all properties once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Property keyword index disabled; keyword searches use LIKE queries");
+            return;
+        }
+        startLoad();
+        List<PropertyTextView> texts = propertyRepository.findAllTextViews();
+        lock.writeLock().lock();
+        try {
+            for (PropertyTextView text : texts) {
+                if (!changedDuringLoad.contains(text.getId())) {
+                    apply(text.getId(), weigh(text.getTitle(), text.getDescription(), text.getArea(), text.getCity()));
+                }
+            }
+            changedDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Property keyword index loaded with {} properties and {} terms", texts.size(), postings.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the keyword contains at least one searchable term
+     */
+    public static boolean hasTerms(String keyword) {
+        return !tokenize(keyword).isEmpty();
+    }
+
+    /**
+     * Distinct lower-cased terms of the keyword, as the index matches them
+     */
+    public static List<String> terms(String keyword) {
+        return new ArrayList<>(new LinkedHashSet<>(tokenize(keyword)));
+    }
+
+    /**
+     * Re-index a property's text after the current transaction commits
+     */
+    public void indexAfterCommit(Property property) {
+        if (!enabled) {
+            return;
+        }
+        Long propertyId = property.getId();
+        Map<String, Double> weights = weigh(
+            property.getTitle(), property.getDescription(), property.getArea(), property.getCity());
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (changedDuringLoad != null) {
+                    changedDuringLoad.add(propertyId);
+                }
+                apply(propertyId, weights);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Find properties matching every term of the keyword
+     * Returns property ID -> relevance score; empty when nothing matches
+     */
+    public Map<Long, Double> search(String keyword) {
+        List<String> queryTerms = terms(keyword);
+        if (queryTerms.isEmpty()) {
+            return Map.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            int documentCount = Math.max(termsByPropertyId.size(), 1);
+            Map<Long, Double> scores = null;
+
+            for (String queryTerm : queryTerms) {
+                Map<Long, Double> termScores = new HashMap<>();
+                Map<String, Map<Long, Double>> expansions =
+                    postings.subMap(queryTerm, true, queryTerm + Character.MAX_VALUE, true);
+
+                for (Map.Entry<String, Map<Long, Double>> expansion : expansions.entrySet()) {
+                    Map<Long, Double> termPostings = expansion.getValue();
+                    double idf = Math.log(1.0 + (double) documentCount / termPostings.size());
+                    double factor = expansion.getKey().equals(queryTerm) ? 1.0 : PREFIX_MATCH_FACTOR;
+                    for (Map.Entry<Long, Double> posting : termPostings.entrySet()) {
+                        termScores.merge(posting.getKey(), posting.getValue() * idf * factor, Double::sum);
+                    }
+                }
+
+                // AND semantics: keep only properties matched by every query term
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+                        entry.setValue(entry.getValue() + termScores.get(entry.getKey()));
+                    }
+                }
+                if (scores.isEmpty()) {
+                    return Map.of();
+                }
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * IDs of the properties matching every term of the keyword, for use as an SQL IN list
+     * Returns null when more than max-id-matches properties match; callers then filter with LIKE.
+     */
+    public Set<Long> searchIds(String keyword) {
+        Set<Long> ids = search(keyword).keySet();
+        return ids.size() > maxIdMatches ? null : ids;
+    }
+
+    // Helper methods
+
+    /**
+     * Start recording re-indexed properties before the snapshot is read, so that a change
+     * committed during the load is not overwritten by the older snapshot row
+     */
+    private void startLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(Long propertyId, Map<String, Double> weights) {
+        Set<String> previousTerms = termsByPropertyId.remove(propertyId);
+        if (previousTerms != null) {
+            for (String term : previousTerms) {
+                Map<Long, Double> termPostings = postings.get(term);
+                if (termPostings != null) {
+                    termPostings.remove(propertyId);
+                    if (termPostings.isEmpty()) {
+                        postings.remove(term);
+                    }
+                }
+            }
+        }
+
+        for (Map.Entry<String, Double> entry : weights.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), k -> new HashMap<>()).put(propertyId, entry.getValue());
+        }
+        termsByPropertyId.put(propertyId, weights.keySet());
+    }
+
+    /**
+     * Weighted term frequency per term, with log-damped counts per field
+     */
+    private static Map<String, Double> weigh(String title, String description, String area, String city) {
+        Map<String, Double> weights = new HashMap<>();
+        addField(weights, title, TITLE_WEIGHT);
+        addField(weights, description, DESCRIPTION_WEIGHT);
+        addField(weights, area, AREA_WEIGHT);
+        addField(weights, city, CITY_WEIGHT);
+        return weights;
+    }
+
+    private static void addField(Map<String, Double> weights, String text, double fieldWeight) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String token : tokenize(text)) {
+            counts.merge(token, 1, Integer::sum);
+        }
+        for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+            weights.merge(entry.getKey(), fieldWeight * (1.0 + Math.log(entry.getValue())), Double::sum);
+        }
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
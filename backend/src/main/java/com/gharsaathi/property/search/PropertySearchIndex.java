@@ -0,0 +1,589 @@
+package com.gharsaathi.property.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gharsaathi.common.dto.PropertySearchCriteria;
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.property.model.PropertyStatus;
+import com.gharsaathi.property.model.PropertyType;
+import com.gharsaathi.property.repository.PropertyRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process faceted search index over AVAILABLE properties
+ * Keeps one bitset per city, area, type, amenity and boolean flag value,
+ * and sorted primitive columns for price, bedrooms, bathrooms, property area and creation time.
+ * Writes are applied after the surrounding transaction commits; reads share a read lock.
+ * Keywords are resolved through the PropertyKeywordIndex and intersected with the other filters.
+ * Located properties are also kept in a lat/lon grid for radius and bounding-box filters.
+ * Criteria the index cannot answer exactly are left to the Specification search in PropertyService.
+ */
+@Component
+@Slf4j
+public class PropertySearchIndex {
+
+    private static final BitSet EMPTY = new BitSet();
+
+    public static final String RELEVANCE_SORT = "relevance";
+    public static final String DISTANCE_SORT = "distance";
+
+    // ~5.5 km of latitude per cell: a city-sized radius touches a handful of cells
+    private static final double GEO_CELL_DEGREES = 0.05;
+
+    private static final Map<String, Function<PropertySearchIndex, SortedColumn>> SORT_COLUMNS = Map.of(
+        "createdAt", index -> index.createdAtColumn,
+        "price", index -> index.priceColumn,
+        "bedrooms", index -> index.bedroomsColumn,
+        "bathrooms", index -> index.bathroomsColumn,
+        "propertyArea", index -> index.propertyAreaColumn
+    );
+
+    private final PropertyRepository propertyRepository;
+    private final PropertyKeywordIndex keywordIndex;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+
+    // Document storage (slot -> document)
+    private final List<PropertyDocument> documents = new ArrayList<>();
+    private final Map<Long, Integer> slotByPropertyId = new HashMap<>();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+    private final BitSet live = new BitSet();
+
+    // Term bitsets
+    private final Map<String, BitSet> cityIndex = new HashMap<>();
+    private final Map<String, BitSet> areaIndex = new HashMap<>();
+    private final Map<String, String> cityDisplayNames = new HashMap<>();
+    private final Map<String, String> areaDisplayNames = new HashMap<>();
+    private final Map<PropertyType, BitSet> typeIndex = new EnumMap<>(PropertyType.class);
+    private final Map<String, BitSet> amenityIndex = new HashMap<>();
+    private final Map<String, BitSet> flagIndex = new HashMap<>(); // "furnished:true" -> slots
+
+    // Range / sort columns
+    private final SortedColumn priceColumn = new SortedColumn();
+    private final SortedColumn bedroomsColumn = new SortedColumn();
+    private final SortedColumn bathroomsColumn = new SortedColumn();
+    private final SortedColumn propertyAreaColumn = new SortedColumn();
+    private final SortedColumn createdAtColumn = new SortedColumn();
+
+    // Spatial grid
+    private final GeoGrid geoGrid = new GeoGrid(GEO_CELL_DEGREES);
+
+    // Properties re-indexed while the startup load runs; their snapshot rows may be older (guarded by lock)
+    private Set<Long> changedDuringLoad;
+
+    public PropertySearchIndex(PropertyRepository propertyRepository,
+                               PropertyKeywordIndex keywordIndex,
+                               @Value("${property.search.index.enabled:true}") boolean enabled) {
+        this.propertyRepository = propertyRepository;
+        this.keywordIndex = keywordIndex;
+        this.enabled = enabled;
+    }
+
+    /**
+     * Load all AVAILABLE properties once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void loadOnStartup() {
+        if (!enabled) {
+            log.info("Property search index disabled; searches use database queries");
+            return;
+        }
+        startLoad();
+        List<Property> properties = propertyRepository.findAllWithAmenitiesByStatus(PropertyStatus.AVAILABLE);
+        lock.writeLock().lock();
+        try {
+            for (Property property : properties) {
+                if (!changedDuringLoad.contains(property.getId())) {
+                    apply(PropertyDocument.of(property), true);
+                }
+            }
+            changedDuringLoad = null;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Property search index loaded with {} available properties", properties.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether the index can answer the criteria with the same results as the database
+     */
+    public boolean supports(PropertySearchCriteria criteria) {
+        boolean hasKeyword = hasKeyword(criteria);
+        return ready
+            && criteria.getLandlordId() == null
+            && (criteria.getStatus() == null || criteria.getStatus() == PropertyStatus.AVAILABLE)
+            && (!hasKeyword || keywordIndex.isReady())
+            && (SORT_COLUMNS.containsKey(criteria.getSortBy())
+                || (hasKeyword && RELEVANCE_SORT.equals(criteria.getSortBy()))
+                || (criteria.getLatitude() != null && DISTANCE_SORT.equals(criteria.getSortBy())));
+    }
+
+    /**
+     * Re-index a property after the current transaction commits
+     * Non-available properties are removed from the index
+     */
+    public void indexAfterCommit(Property property) {
+        if (!enabled) {
+            return;
+        }
+        PropertyDocument document = PropertyDocument.of(property);
+        boolean available = property.getStatus() == PropertyStatus.AVAILABLE;
+        runAfterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                if (changedDuringLoad != null) {
+                    changedDuringLoad.add(document.getId());
+                }
+                apply(document, available);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Answer a search from the index
+     * Caller must check supports(criteria) first
+     */
+    public PropertySearchResult search(PropertySearchCriteria criteria) {
+        lock.readLock().lock();
+        try {
+            Map<Long, Double> scores = hasKeyword(criteria) ? keywordIndex.search(criteria.getKeyword()) : null;
+            GeoQuery geo = GeoQuery.from(criteria);
+            BitSet matches = match(criteria, scores, geo);
+            long total = matches.cardinality();
+
+            List<Long> propertyIds;
+            if (RELEVANCE_SORT.equals(criteria.getSortBy())) {
+                propertyIds = pageByRelevance(matches, scores, criteria);
+            } else if (DISTANCE_SORT.equals(criteria.getSortBy())) {
+                propertyIds = pageByDistance(matches, geo, criteria);
+            } else {
+                propertyIds = page(matches, criteria);
+            }
+
+            return PropertySearchResult.builder()
+                .propertyIds(propertyIds)
+                .totalElements(total)
+                .facets(facets(matches))
+                .build();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // ===== Write path =====
+
+    /**
+     * Start recording re-indexed properties before the snapshot is read, so that a change
+     * committed during the load is not overwritten by the older snapshot row
+     */
+    private void startLoad() {
+        lock.writeLock().lock();
+        try {
+            changedDuringLoad = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(PropertyDocument document, boolean available) {
+        Integer existingSlot = slotByPropertyId.get(document.getId());
+        if (existingSlot != null) {
+            unindex(existingSlot);
+        }
+        if (available) {
+            index(document);
+        }
+    }
+
+    private void index(PropertyDocument document) {
+        int slot = freeSlots.isEmpty() ? documents.size() : freeSlots.pop();
+        if (slot == documents.size()) {
+            documents.add(document);
+        } else {
+            documents.set(slot, document);
+        }
+        slotByPropertyId.put(document.getId(), slot);
+        live.set(slot);
+
+        if (document.cityKey() != null) {
+            cityIndex.computeIfAbsent(document.cityKey(), k -> new BitSet()).set(slot);
+            cityDisplayNames.putIfAbsent(document.cityKey(), document.getCity());
+        }
+        if (document.areaKey() != null) {
+            areaIndex.computeIfAbsent(document.areaKey(), k -> new BitSet()).set(slot);
+            areaDisplayNames.putIfAbsent(document.areaKey(), document.getArea());
+        }
+        if (document.getPropertyType() != null) {
+            typeIndex.computeIfAbsent(document.getPropertyType(), k -> new BitSet()).set(slot);
+        }
+        for (String amenity : document.getAmenities()) {
+            amenityIndex.computeIfAbsent(amenity, k -> new BitSet()).set(slot);
+        }
+        setFlag("furnished", document.getFurnished(), slot);
+        setFlag("parkingAvailable", document.getParkingAvailable(), slot);
+        setFlag("petsAllowed", document.getPetsAllowed(), slot);
+
+        addToColumn(priceColumn, document.getPrice(), document, slot);
+        addToColumn(bedroomsColumn, document.getBedrooms(), document, slot);
+        addToColumn(bathroomsColumn, document.getBathrooms(), document, slot);
+        addToColumn(propertyAreaColumn, document.getPropertyArea(), document, slot);
+        addToColumn(createdAtColumn, document.getCreatedAtMicros(), document, slot);
+
+        if (document.hasLocation()) {
+            geoGrid.add(document.getLatitude(), document.getLongitude(), slot);
+        }
+    }
+
+    private void unindex(int slot) {
+        PropertyDocument document = documents.get(slot);
+
+        clearTerm(cityIndex, document.cityKey(), slot, cityDisplayNames);
+        clearTerm(areaIndex, document.areaKey(), slot, areaDisplayNames);
+        if (document.getPropertyType() != null) {
+            clearTerm(typeIndex, document.getPropertyType(), slot, null);
+        }
+        for (String amenity : document.getAmenities()) {
+            clearTerm(amenityIndex, amenity, slot, null);
+        }
+        clearTerm(flagIndex, "furnished:" + document.getFurnished(), slot, null);
+        clearTerm(flagIndex, "parkingAvailable:" + document.getParkingAvailable(), slot, null);
+        clearTerm(flagIndex, "petsAllowed:" + document.getPetsAllowed(), slot, null);
+
+        removeFromColumn(priceColumn, document.getPrice(), document, slot);
+        removeFromColumn(bedroomsColumn, document.getBedrooms(), document, slot);
+        removeFromColumn(bathroomsColumn, document.getBathrooms(), document, slot);
+        removeFromColumn(propertyAreaColumn, document.getPropertyArea(), document, slot);
+        removeFromColumn(createdAtColumn, document.getCreatedAtMicros(), document, slot);
+
+        if (document.hasLocation()) {
+            geoGrid.remove(document.getLatitude(), document.getLongitude(), slot);
+        }
+
+        slotByPropertyId.remove(document.getId());
+        documents.set(slot, null);
+        live.clear(slot);
+        freeSlots.push(slot);
+    }
+
+    private void setFlag(String name, Boolean value, int slot) {
+        if (value != null) {
+            flagIndex.computeIfAbsent(name + ":" + value, k -> new BitSet()).set(slot);
+        }
+    }
+
+    private <K> void clearTerm(Map<K, BitSet> index, K key, int slot, Map<K, String> displayNames) {
+        if (key == null) {
+            return;
+        }
+        BitSet bits = index.get(key);
+        if (bits != null) {
+            bits.clear(slot);
+            if (bits.isEmpty()) {
+                index.remove(key);
+                if (displayNames != null) {
+                    displayNames.remove(key);
+                }
+            }
+        }
+    }
+
+    private void addToColumn(SortedColumn column, Double value, PropertyDocument document, int slot) {
+        if (value != null) {
+            column.add(value, document.getId(), slot);
+        }
+    }
+
+    private void removeFromColumn(SortedColumn column, Double value, PropertyDocument document, int slot) {
+        if (value != null) {
+            column.remove(value, document.getId(), slot);
+        }
+    }
+
+    // ===== Read path =====
+
+    private BitSet match(PropertySearchCriteria criteria, Map<Long, Double> keywordScores, GeoQuery geo) {
+        BitSet result = (BitSet) live.clone();
+
+        if (keywordScores != null) {
+            BitSet keywordMatches = new BitSet();
+            for (Long propertyId : keywordScores.keySet()) {
+                Integer slot = slotByPropertyId.get(propertyId);
+                if (slot != null) {
+                    keywordMatches.set(slot);
+                }
+            }
+            result.and(keywordMatches);
+        }
+
+        // City / area use substring matching like the SQL LIKE '%x%' filter
+        if (criteria.getCity() != null && !criteria.getCity().isEmpty()) {
+            result.and(substringUnion(cityIndex, criteria.getCity().toLowerCase(Locale.ROOT)));
+        }
+        if (criteria.getArea() != null && !criteria.getArea().isEmpty()) {
+            result.and(substringUnion(areaIndex, criteria.getArea().toLowerCase(Locale.ROOT)));
+        }
+
+        if (criteria.getPropertyType() != null) {
+            result.and(typeIndex.getOrDefault(criteria.getPropertyType(), EMPTY));
+        }
+
+        if (criteria.getMinPrice() != null || criteria.getMaxPrice() != null) {
+            result.and(priceColumn.range(
+                criteria.getMinPrice() != null ? criteria.getMinPrice().doubleValue() : null,
+                criteria.getMaxPrice() != null ? criteria.getMaxPrice().doubleValue() : null));
+        }
+
+        // Exact value takes precedence over min/max, as in the Specification
+        if (criteria.getBedrooms() != null) {
+            double bedrooms = criteria.getBedrooms();
+            result.and(bedroomsColumn.range(bedrooms, bedrooms));
+        } else if (criteria.getMinBedrooms() != null || criteria.getMaxBedrooms() != null) {
+            result.and(bedroomsColumn.range(toDouble(criteria.getMinBedrooms()), toDouble(criteria.getMaxBedrooms())));
+        }
+        if (criteria.getBathrooms() != null) {
+            double bathrooms = criteria.getBathrooms();
+            result.and(bathroomsColumn.range(bathrooms, bathrooms));
+        } else if (criteria.getMinBathrooms() != null || criteria.getMaxBathrooms() != null) {
+            result.and(bathroomsColumn.range(toDouble(criteria.getMinBathrooms()), toDouble(criteria.getMaxBathrooms())));
+        }
+
+        if (criteria.getMinPropertyArea() != null || criteria.getMaxPropertyArea() != null) {
+            result.and(propertyAreaColumn.range(criteria.getMinPropertyArea(), criteria.getMaxPropertyArea()));
+        }
+
+        if (criteria.getFurnished() != null) {
+            result.and(flagIndex.getOrDefault("furnished:" + criteria.getFurnished(), EMPTY));
+        }
+        if (criteria.getParkingAvailable() != null) {
+            result.and(flagIndex.getOrDefault("parkingAvailable:" + criteria.getParkingAvailable(), EMPTY));
+        }
+        if (criteria.getPetsAllowed() != null) {
+            result.and(flagIndex.getOrDefault("petsAllowed:" + criteria.getPetsAllowed(), EMPTY));
+        }
+
+        if (criteria.getAmenities() != null) {
+            for (String amenity : criteria.getAmenities()) {
+                result.and(amenityIndex.getOrDefault(amenity, EMPTY));
+            }
+        }
+
+        if (criteria.getAvailableFrom() != null) {
+            long availableFrom = criteria.getAvailableFrom().toEpochDay();
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                Long documentDay = documents.get(slot).getAvailableFromEpochDay();
+                if (documentDay == null || documentDay > availableFrom) {
+                    result.clear(slot);
+                }
+            }
+        }
+
+        // Coarse grid lookup first, then the exact box / radius check on what is left
+        if (geo != null) {
+            result.and(geoGrid.candidates(geo));
+            for (int slot = result.nextSetBit(0); slot >= 0; slot = result.nextSetBit(slot + 1)) {
+                PropertyDocument document = documents.get(slot);
+                if (!geo.matches(document.getLatitude(), document.getLongitude())) {
+                    result.clear(slot);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    private BitSet substringUnion(Map<String, BitSet> index, String fragment) {
+        BitSet union = new BitSet();
+        for (Map.Entry<String, BitSet> entry : index.entrySet()) {
+            if (entry.getKey().contains(fragment)) {
+                union.or(entry.getValue());
+            }
+        }
+        return union;
+    }
+
+    /**
+     * Walk the sort column in order and collect the requested page
+     * Nulls sort first ascending and last descending, as in MySQL
+     */
+    private List<Long> page(BitSet matches, PropertySearchCriteria criteria) {
+        SortedColumn column = SORT_COLUMNS.get(criteria.getSortBy()).apply(this);
+        boolean ascending = criteria.getSortDirection().equalsIgnoreCase("ASC");
+        int skip = criteria.getPage() * criteria.getSize();
+        int limit = criteria.getSize();
+
+        BitSet nulls = (BitSet) matches.clone();
+        nulls.andNot(column.present());
+        List<Integer> nullSlots = new ArrayList<>();
+        for (int slot = nulls.nextSetBit(0); slot >= 0; slot = nulls.nextSetBit(slot + 1)) {
+            nullSlots.add(slot);
+        }
+        nullSlots.sort((a, b) -> Long.compare(documents.get(a).getId(), documents.get(b).getId()));
+
+        List<Long> ids = new ArrayList<>(limit);
+        int[] seen = {0};
+        if (ascending) {
+            collect(nullSlots, false, skip, limit, seen, ids);
+            for (int i = 0; i < column.size() && ids.size() < limit; i++) {
+                offer(column.slotAt(i), matches, skip, limit, seen, ids);
+            }
+        } else {
+            for (int i = column.size() - 1; i >= 0 && ids.size() < limit; i--) {
+                offer(column.slotAt(i), matches, skip, limit, seen, ids);
+            }
+            collect(nullSlots, true, skip, limit, seen, ids);
+        }
+        return ids;
+    }
+
+    /**
+     * Order matches by keyword score, best first, breaking ties by ID
+     */
+    private List<Long> pageByRelevance(BitSet matches, Map<Long, Double> scores, PropertySearchCriteria criteria) {
+        List<Long> ids = new ArrayList<>(matches.cardinality());
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1)) {
+            ids.add(documents.get(slot).getId());
+        }
+        ids.sort(Comparator.<Long>comparingDouble(scores::get).reversed().thenComparing(Comparator.naturalOrder()));
+
+        int from = Math.min(criteria.getPage() * criteria.getSize(), ids.size());
+        int to = Math.min(from + criteria.getSize(), ids.size());
+        return new ArrayList<>(ids.subList(from, to));
+    }
+
+    /**
+     * Order matches nearest first, breaking ties by ID
+     */
+    private List<Long> pageByDistance(BitSet matches, GeoQuery geo, PropertySearchCriteria criteria) {
+        int count = matches.cardinality();
+        long[] ids = new long[count];
+        double[] distances = new double[count];
+        Integer[] order = new Integer[count];
+        int i = 0;
+        for (int slot = matches.nextSetBit(0); slot >= 0; slot = matches.nextSetBit(slot + 1), i++) {
+            PropertyDocument document = documents.get(slot);
+            ids[i] = document.getId();
+            distances[i] = geo.distanceKm(document.getLatitude(), document.getLongitude());
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.<Integer>comparingDouble(k -> distances[k])
+            .thenComparingLong(k -> ids[k]));
+
+        int from = Math.min(criteria.getPage() * criteria.getSize(), count);
+        int to = Math.min(from + criteria.getSize(), count);
+        List<Long> page = new ArrayList<>(to - from);
+        for (int k = from; k < to; k++) {
+            page.add(ids[order[k]]);
+        }
+        return page;
+    }
+
+    private void collect(List<Integer> slots, boolean reverse, int skip, int limit, int[] seen, List<Long> ids) {
+        for (int i = 0; i < slots.size() && ids.size() < limit; i++) {
+            int slot = slots.get(reverse ? slots.size() - 1 - i : i);
+            if (seen[0]++ >= skip) {
+                ids.add(documents.get(slot).getId());
+            }
+        }
+    }
+
+    private void offer(int slot, BitSet matches, int skip, int limit, int[] seen, List<Long> ids) {
+        if (matches.get(slot) && seen[0]++ >= skip && ids.size() < limit) {
+            ids.add(documents.get(slot).getId());
+        }
+    }
+
+    private Map<String, Map<String, Long>> facets(BitSet matches) {
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("city", counts(cityIndex, matches, cityDisplayNames::get));
+        facets.put("area", counts(areaIndex, matches, areaDisplayNames::get));
+        facets.put("propertyType", counts(typeIndex, matches, PropertyType::name));
+        facets.put("amenities", counts(amenityIndex, matches, Function.identity()));
+        for (String flag : List.of("furnished", "parkingAvailable", "petsAllowed")) {
+            Map<String, Long> flagCounts = new TreeMap<>();
+            for (String value : new String[] {"true", "false"}) {
+                long count = intersectionCount(flagIndex.get(flag + ":" + value), matches);
+                if (count > 0) {
+                    flagCounts.put(value, count);
+                }
+            }
+            facets.put(flag, flagCounts);
+        }
+        return facets;
+    }
+
+    private <K> Map<String, Long> counts(Map<K, BitSet> index, BitSet matches, Function<K, String> label) {
+        Map<String, Long> counts = new TreeMap<>();
+        for (Map.Entry<K, BitSet> entry : index.entrySet()) {
+            long count = intersectionCount(entry.getValue(), matches);
+            if (count > 0) {
+                counts.merge(label.apply(entry.getKey()), count, Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    private long intersectionCount(BitSet bits, BitSet matches) {
+        if (bits == null) {
+            return 0;
+        }
+        BitSet intersection = (BitSet) bits.clone();
+        intersection.and(matches);
+        return intersection.cardinality();
+    }
+
+    private boolean hasKeyword(PropertySearchCriteria criteria) {
+        return criteria.getKeyword() != null && PropertyKeywordIndex.hasTerms(criteria.getKeyword());
+    }
+
+    private Double toDouble(Integer value) {
+        return value != null ? value.doubleValue() : null;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.gharsaathi.property.search;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Result of a search against the in-memory property index
+ * Holds one page of property IDs in sort order plus match and facet counts
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PropertySearchResult {
+    
+    private List<Long> propertyIds;
+    private long totalElements;
+    
+    // Facet name -> facet value -> matching property count
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,17 @@
+package com.gharsaathi.property.search;
+
+/**
+ * Projection of the free-text fields of a property, used to bootstrap the keyword index
+ */
+public interface PropertyTextView {
+
+    Long getId();
+
+    String getTitle();
+
+    String getDescription();
+
+    String getArea();
+
+    String getCity();
+}
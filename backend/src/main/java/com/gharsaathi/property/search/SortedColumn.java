@@ -0,0 +1,130 @@
+package com.gharsaathi.property.search;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Sorted primitive column of (value, propertyId, slot) entries
+ * Supports O(log n) range lookups and ordered iteration for sorting
+ * Null values are never stored, matching SQL comparison semantics
+ * Not thread-safe; guarded by the owning index lock
+ */
+final class SortedColumn {
+
+    private double[] values = new double[16];
+    private long[] ids = new long[16];
+    private int[] slots = new int[16];
+    private int size;
+    private final BitSet present = new BitSet();
+
+    /**
+     * Insert an entry, keeping the column ordered by value then property ID
+     */
+    void add(double value, long id, int slot) {
+        if (size == values.length) {
+            int capacity = values.length * 2;
+            values = Arrays.copyOf(values, capacity);
+            ids = Arrays.copyOf(ids, capacity);
+            slots = Arrays.copyOf(slots, capacity);
+        }
+        int pos = insertionPoint(value, id);
+        System.arraycopy(values, pos, values, pos + 1, size - pos);
+        System.arraycopy(ids, pos, ids, pos + 1, size - pos);
+        System.arraycopy(slots, pos, slots, pos + 1, size - pos);
+        values[pos] = value;
+        ids[pos] = id;
+        slots[pos] = slot;
+        size++;
+        present.set(slot);
+    }
+
+    /**
+     * Remove a previously inserted entry
+     */
+    void remove(double value, long id, int slot) {
+        int pos = insertionPoint(value, id);
+        if (pos < size && values[pos] == value && ids[pos] == id) {
+            System.arraycopy(values, pos + 1, values, pos, size - pos - 1);
+            System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+            System.arraycopy(slots, pos + 1, slots, pos, size - pos - 1);
+            size--;
+            present.clear(slot);
+        }
+    }
+
+    /**
+     * Slots whose value lies within [min, max]; null bounds are open
+     */
+    BitSet range(Double min, Double max) {
+        int from = min != null ? lowerBound(min) : 0;
+        int to = max != null ? upperBound(max) : size;
+        BitSet result = new BitSet();
+        for (int i = from; i < to; i++) {
+            result.set(slots[i]);
+        }
+        return result;
+    }
+
+    /**
+     * Slots that have a (non-null) value in this column
+     */
+    BitSet present() {
+        return present;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int slotAt(int index) {
+        return slots[index];
+    }
+
+    // Helper methods
+
+    private int insertionPoint(double value, long id) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            int cmp = Double.compare(values[mid], value);
+            if (cmp == 0) {
+                cmp = Long.compare(ids[mid], id);
+            }
+            if (cmp < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int lowerBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private int upperBound(double value) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= value) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
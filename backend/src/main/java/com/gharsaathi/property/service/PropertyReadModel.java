@@ -0,0 +1,72 @@
+package com.gharsaathi.property.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.common.dto.PropertyResponse;
+import com.gharsaathi.common.dto.PropertySummaryView;
+import com.gharsaathi.fileupload.model.ImageVariant;
+import com.gharsaathi.property.repository.PropertyRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds PropertyResponse list items from a projection instead of entity graphs
+ * One query per page regardless of page size; no lazy associations are touched
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyReadModel {
+
+    private final PropertyRepository propertyRepository;
+
+    /**
+     * Load responses for the given property IDs, in the same order
+     * IDs that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<PropertyResponse> findResponses(List<Long> propertyIds) {
+        if (propertyIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PropertySummaryView> viewsById = propertyRepository.findSummariesByIdIn(propertyIds)
+            .stream()
+            .collect(Collectors.toMap(PropertySummaryView::getId, Function.identity()));
+
+        return propertyIds.stream()
+            .map(viewsById::get)
+            .filter(Objects::nonNull)
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    private PropertyResponse toResponse(PropertySummaryView view) {
+        return PropertyResponse.builder()
+            .id(view.getId())
+            .title(view.getTitle())
+            .propertyType(view.getPropertyType())
+            .status(view.getStatus())
+            .city(view.getCity())
+            .area(view.getArea())
+            .latitude(view.getLatitude())
+            .longitude(view.getLongitude())
+            .price(view.getPrice())
+            .bedrooms(view.getBedrooms())
+            .bathrooms(view.getBathrooms())
+            .propertyArea(view.getPropertyArea())
+            .furnished(view.getFurnished())
+            .primaryImageUrl(view.getPrimaryImageUrl())
+            .primaryImageThumbnailUrl(ImageVariant.THUMBNAIL.urlFor(view.getPrimaryImageUrl()))
+            .primaryImageCardUrl(ImageVariant.CARD.urlFor(view.getPrimaryImageUrl()))
+            .landlordId(view.getLandlordId())
+            .landlordName(view.getLandlordName())
+            .landlordEmail(view.getLandlordEmail())
+            .build();
+    }
+}
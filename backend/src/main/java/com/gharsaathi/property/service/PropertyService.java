@@ -1,8 +1,11 @@
 package com.gharsaathi.property.service;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
@@ -21,17 +24,27 @@ import com.gharsaathi.common.dto.PropertyListResponse;
 import com.gharsaathi.common.dto.PropertyResponse;
 import com.gharsaathi.common.dto.PropertySearchCriteria;
 import com.gharsaathi.common.dto.UpdatePropertyRequest;
+import com.gharsaathi.common.exception.InvalidPropertyDataException;
 import com.gharsaathi.common.exception.PropertyAccessDeniedException;
 import com.gharsaathi.common.exception.PropertyAlreadyRentedException;
 import com.gharsaathi.common.exception.PropertyNotFoundException;
 import com.gharsaathi.common.exception.ResourceNotFoundException;
+import com.gharsaathi.common.util.KeysetPage;
+import com.gharsaathi.common.util.KeysetPagination;
+import com.gharsaathi.fileupload.model.ImageVariant;
 import com.gharsaathi.property.model.Property;
-import com.gharsaathi.property.model.PropertyImage;
 import com.gharsaathi.property.model.PropertyStatus;
 import com.gharsaathi.property.repository.PropertyImageRepository;
 import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.property.search.GeoQuery;
+import com.gharsaathi.property.search.PropertyKeywordIndex;
+import com.gharsaathi.property.search.PropertySearchIndex;
+import com.gharsaathi.property.search.PropertySearchResult;
 
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -46,6 +59,9 @@ public class PropertyService {
     private final PropertyRepository propertyRepository;
     private final PropertyImageRepository propertyImageRepository;
     private final UserRepository userRepository;
+    private final PropertySearchIndex propertySearchIndex;
+    private final PropertyKeywordIndex propertyKeywordIndex;
+    private final PropertyReadModel propertyReadModel;
     
     /**
      * Create a new property listing
@@ -85,6 +101,8 @@ public class PropertyService {
         
         // Save property
         Property savedProperty = propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(savedProperty);
+        propertyKeywordIndex.indexAfterCommit(savedProperty);
         log.info("Property created successfully with id: {}", savedProperty.getId());
         
         return mapToDetailResponse(savedProperty);
@@ -160,6 +178,8 @@ public class PropertyService {
         }
         
         Property updatedProperty = propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(updatedProperty);
+        propertyKeywordIndex.indexAfterCommit(updatedProperty);
         log.info("Property updated successfully: {}", propertyId);
         
         return mapToDetailResponse(updatedProperty);
@@ -183,6 +203,7 @@ public class PropertyService {
         // Soft delete - set status to UNAVAILABLE
         property.setStatus(PropertyStatus.UNAVAILABLE);
         propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(property);
         
         log.info("Property deleted successfully: {}", propertyId);
     }
@@ -217,6 +238,23 @@ public class PropertyService {
         return mapToListResponse(propertyPage);
     }
     
+    /**
+     * Get available properties with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public PropertyListResponse getAllPropertiesByCursor(String cursor, int size, String sortBy,
+                                                         String sortDirection, boolean includeTotal) {
+        log.info("Fetching available properties by cursor - size: {}", size);
+        
+        Specification<Property> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("status"), PropertyStatus.AVAILABLE);
+        KeysetPagination.requireSortable(Property.class, sortBy);
+        KeysetPage<Property> keysetPage = KeysetPagination.fetch(propertyRepository, spec, sortBy,
+            KeysetPagination.parseDirection(sortDirection), cursor, size, includeTotal, Property::getId);
+        
+        return mapToListResponse(keysetPage, cursor, size);
+    }
+    
     /**
      * Get properties by landlord
      */
@@ -230,23 +268,63 @@ public class PropertyService {
         return mapToListResponse(propertyPage);
     }
     
+    /**
+     * Get properties by landlord with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public PropertyListResponse getLandlordPropertiesByCursor(Long landlordId, String cursor, int size,
+                                                              boolean includeTotal) {
+        log.info("Fetching properties by cursor for landlord: {}", landlordId);
+        
+        Specification<Property> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("landlord").get("id"), landlordId);
+        KeysetPage<Property> keysetPage = KeysetPagination.fetch(propertyRepository, spec, "createdAt",
+            Sort.Direction.DESC, cursor, size, includeTotal, Property::getId);
+        
+        return mapToListResponse(keysetPage, cursor, size);
+    }
+    
     /**
      * Search properties with filters
      */
     @Transactional(readOnly = true)
     public PropertyListResponse searchProperties(PropertySearchCriteria criteria) {
         log.info("Searching properties with criteria: {}", criteria);
+        validateGeoCriteria(criteria);
+        GeoQuery geo = GeoQuery.from(criteria);
         
-        Specification<Property> spec = buildPropertySpecification(criteria);
-        
-        Sort sort = criteria.getSortDirection().equalsIgnoreCase("ASC")
-            ? Sort.by(criteria.getSortBy()).ascending()
-            : Sort.by(criteria.getSortBy()).descending();
-        
-        Pageable pageable = PageRequest.of(criteria.getPage(), criteria.getSize(), sort);
-        Page<Property> propertyPage = propertyRepository.findAll(spec, pageable);
+        // Serve from the in-memory index when it can answer the criteria exactly
+        PropertyListResponse response;
+        if (propertySearchIndex.supports(criteria)) {
+            PropertySearchResult result = propertySearchIndex.search(criteria);
+            response = mapToListResponse(result, criteria.getPage(), criteria.getSize());
+        } else {
+            Specification<Property> spec = buildPropertySpecification(criteria, geo);
+            
+            Sort sort;
+            if (PropertySearchIndex.DISTANCE_SORT.equals(criteria.getSortBy())) {
+                // Ordered by the distance expression inside the specification
+                sort = Sort.unsorted();
+            } else {
+                // Relevance ordering is only available from the index; fall back to newest first
+                String sortBy = PropertySearchIndex.RELEVANCE_SORT.equals(criteria.getSortBy())
+                    ? "createdAt"
+                    : criteria.getSortBy();
+                sort = criteria.getSortDirection().equalsIgnoreCase("ASC")
+                    ? Sort.by(sortBy).ascending()
+                    : Sort.by(sortBy).descending();
+            }
+            
+            Pageable pageable = PageRequest.of(criteria.getPage(), criteria.getSize(), sort);
+            response = mapToListResponse(propertyRepository.findAll(spec, pageable));
+        }
         
-        return mapToListResponse(propertyPage);
+        if (geo != null && geo.hasCenter()) {
+            for (PropertyResponse property : response.getProperties()) {
+                property.setDistanceKm(geo.distanceKm(property.getLatitude(), property.getLongitude()));
+            }
+        }
+        return response;
     }
     
     /**
@@ -259,6 +337,7 @@ public class PropertyService {
         Property property = getPropertyAndVerifyOwnership(propertyId, landlordId);
         property.setStatus(status);
         Property updatedProperty = propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(updatedProperty);
         
         return mapToDetailResponse(updatedProperty);
     }
@@ -279,10 +358,54 @@ public class PropertyService {
         return property;
     }
     
+    /**
+     * Validate geo search parameters
+     */
+    private void validateGeoCriteria(PropertySearchCriteria criteria) {
+        if ((criteria.getLatitude() == null) != (criteria.getLongitude() == null)) {
+            throw new InvalidPropertyDataException("Latitude and longitude must be provided together");
+        }
+        if (criteria.getLatitude() != null
+                && (Math.abs(criteria.getLatitude()) > 90 || Math.abs(criteria.getLongitude()) > 180)) {
+            throw new InvalidPropertyDataException("Latitude must be between -90 and 90 and longitude between -180 and 180");
+        }
+        if (criteria.getRadiusKm() != null) {
+            if (criteria.getLatitude() == null) {
+                throw new InvalidPropertyDataException("Radius search requires latitude and longitude");
+            }
+            if (criteria.getRadiusKm() <= 0) {
+                throw new InvalidPropertyDataException("Radius must be greater than 0");
+            }
+        }
+        
+        List<Double> box = Arrays.asList(criteria.getMinLatitude(), criteria.getMaxLatitude(),
+            criteria.getMinLongitude(), criteria.getMaxLongitude());
+        long boxValues = box.stream().filter(Objects::nonNull).count();
+        if (boxValues != 0 && boxValues != 4) {
+            throw new InvalidPropertyDataException(
+                "Bounding box requires minLatitude, maxLatitude, minLongitude and maxLongitude");
+        }
+        if (boxValues == 4 && (criteria.getMinLatitude() > criteria.getMaxLatitude()
+                || criteria.getMinLongitude() > criteria.getMaxLongitude())) {
+            throw new InvalidPropertyDataException("Bounding box minimums must not exceed maximums");
+        }
+        
+        if (PropertySearchIndex.DISTANCE_SORT.equals(criteria.getSortBy()) && criteria.getLatitude() == null) {
+            throw new InvalidPropertyDataException("Sorting by distance requires latitude and longitude");
+        }
+    }
+    
     /**
      * Build dynamic specification for property search
      */
-    private Specification<Property> buildPropertySpecification(PropertySearchCriteria criteria) {
+    private Specification<Property> buildPropertySpecification(PropertySearchCriteria criteria, GeoQuery geo) {
+        // Resolve the keyword once; the specification is applied to both the page and count queries.
+        // Short prefixes can match most listings, so large match sets fall back to LIKE instead of an IN list.
+        boolean hasKeyword = criteria.getKeyword() != null && PropertyKeywordIndex.hasTerms(criteria.getKeyword());
+        Set<Long> keywordMatches = hasKeyword && propertyKeywordIndex.isReady()
+            ? propertyKeywordIndex.searchIds(criteria.getKeyword())
+            : null;
+        
         return (root, query, criteriaBuilder) -> {
             List<Predicate> predicates = new ArrayList<>();
             
@@ -383,12 +506,22 @@ public class PropertyService {
                 }
             }
             
-            // Keyword search (in title and description)
-            if (criteria.getKeyword() != null && !criteria.getKeyword().isEmpty()) {
-                String keyword = "%" + criteria.getKeyword().toLowerCase() + "%";
-                Predicate titleMatch = criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), keyword);
-                Predicate descMatch = criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), keyword);
-                predicates.add(criteriaBuilder.or(titleMatch, descMatch));
+            // Keyword search (title, description, area and city via the keyword index)
+            if (keywordMatches != null) {
+                predicates.add(keywordMatches.isEmpty()
+                    ? criteriaBuilder.disjunction()
+                    : root.get("id").in(keywordMatches));
+            } else if (hasKeyword) {
+                // Index not loaded, disabled or too many matches: every term in title, description, area or city
+                for (String term : PropertyKeywordIndex.terms(criteria.getKeyword())) {
+                    String pattern = "%" + term + "%";
+                    predicates.add(criteriaBuilder.or(
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("title")), pattern),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("description")), pattern),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("area")), pattern),
+                        criteriaBuilder.like(criteriaBuilder.lower(root.get("city")), pattern)
+                    ));
+                }
             }
             
             // Available from date
@@ -396,10 +529,53 @@ public class PropertyService {
                 predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("availableFrom"), criteria.getAvailableFrom()));
             }
             
+            // Geo filters: enclosing box on the raw columns, then the exact great-circle distance
+            if (geo != null) {
+                predicates.add(criteriaBuilder.between(root.get("latitude"), geo.getMinLatitude(), geo.getMaxLatitude()));
+                predicates.add(criteriaBuilder.between(root.get("longitude"), geo.getMinLongitude(), geo.getMaxLongitude()));
+                
+                if (geo.hasCenter()) {
+                    Expression<Double> distance = distanceExpression(root, criteriaBuilder, geo);
+                    if (geo.getRadiusKm() != null) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(distance, geo.getRadiusKm()));
+                    }
+                    // Skip ordering for the count query
+                    if (PropertySearchIndex.DISTANCE_SORT.equals(criteria.getSortBy())
+                            && !Long.class.equals(query.getResultType())) {
+                        query.orderBy(criteriaBuilder.asc(distance), criteriaBuilder.asc(root.get("id")));
+                    }
+                }
+            }
+            
             return criteriaBuilder.and(predicates.toArray(Predicate[]::new));
         };
     }
     
+    /**
+     * Haversine distance in km from the geo query center, evaluated by the database
+     */
+    private Expression<Double> distanceExpression(Root<Property> root, CriteriaBuilder criteriaBuilder, GeoQuery geo) {
+        Expression<Double> latitude = criteriaBuilder.function("radians", Double.class, root.get("latitude"));
+        Expression<Double> longitude = criteriaBuilder.function("radians", Double.class, root.get("longitude"));
+        double centerLatitude = Math.toRadians(geo.getCenterLatitude());
+        double centerLongitude = Math.toRadians(geo.getCenterLongitude());
+        
+        Expression<Double> halfDeltaLatitude = criteriaBuilder.function("sin", Double.class,
+            criteriaBuilder.quot(criteriaBuilder.diff(latitude, centerLatitude), 2.0));
+        Expression<Double> halfDeltaLongitude = criteriaBuilder.function("sin", Double.class,
+            criteriaBuilder.quot(criteriaBuilder.diff(longitude, centerLongitude), 2.0));
+        Expression<Double> cosines = criteriaBuilder.prod(
+            criteriaBuilder.function("cos", Double.class, latitude), Math.cos(centerLatitude));
+        
+        Expression<Double> a = criteriaBuilder.sum(
+            criteriaBuilder.prod(halfDeltaLatitude, halfDeltaLatitude),
+            criteriaBuilder.prod(cosines, criteriaBuilder.prod(halfDeltaLongitude, halfDeltaLongitude)));
+        Expression<Double> centralAngle = criteriaBuilder.function("asin", Double.class,
+            criteriaBuilder.function("least", Double.class, criteriaBuilder.sqrt(a),
+                criteriaBuilder.literal(1.0)));
+        return criteriaBuilder.prod(centralAngle, 2 * GeoQuery.EARTH_RADIUS_KM);
+    }
+    
     /**
      * Map Property entity to PropertyDetailResponse DTO
      */
@@ -408,6 +584,9 @@ public class PropertyService {
             .map(img -> PropertyDetailResponse.PropertyImageResponse.builder()
                 .id(img.getId())
                 .imageUrl(img.getImageUrl())
+                .thumbnailUrl(ImageVariant.THUMBNAIL.urlFor(img.getImageUrl()))
+                .cardUrl(ImageVariant.CARD.urlFor(img.getImageUrl()))
+                .largeUrl(ImageVariant.LARGE.urlFor(img.getImageUrl()))
                 .mediaType(img.getMediaType())
                 .isPrimary(img.getIsPrimary())
                 .displayOrder(img.getDisplayOrder())
@@ -451,31 +630,23 @@ public class PropertyService {
     }
     
     /**
-     * Map Property entity to PropertyResponse DTO
+     * Map a search index result to PropertyListResponse
+     * Loads the page of properties in one query and keeps the index ordering
      */
-    private PropertyResponse mapToResponse(Property property) {
-        String primaryImageUrl = property.getImages().stream()
-            .filter(PropertyImage::getIsPrimary)
-            .findFirst()
-            .map(PropertyImage::getImageUrl)
-            .orElse(property.getImages().isEmpty() ? null : property.getImages().get(0).getImageUrl());
-        
-        return PropertyResponse.builder()
-            .id(property.getId())
-            .title(property.getTitle())
-            .propertyType(property.getPropertyType())
-            .status(property.getStatus())
-            .city(property.getCity())
-            .area(property.getArea())
-            .price(property.getPrice())
-            .bedrooms(property.getBedrooms())
-            .bathrooms(property.getBathrooms())
-            .propertyArea(property.getPropertyArea())
-            .furnished(property.getFurnished())
-            .primaryImageUrl(primaryImageUrl)
-            .landlordId(property.getLandlord().getId())
-            .landlordName(property.getLandlord().getFullName())
-            .landlordEmail(property.getLandlord().getEmail())
+    private PropertyListResponse mapToListResponse(PropertySearchResult result, int page, int size) {
+        List<PropertyResponse> properties = propertyReadModel.findResponses(result.getPropertyIds());
+        
+        int totalPages = size == 0 ? 1 : (int) Math.ceil((double) result.getTotalElements() / size);
+        
+        return PropertyListResponse.builder()
+            .properties(properties)
+            .totalElements(result.getTotalElements())
+            .totalPages(totalPages)
+            .currentPage(page)
+            .pageSize(size)
+            .hasNext(page + 1 < totalPages)
+            .hasPrevious(page > 0)
+            .facets(result.getFacets())
             .build();
     }
     
@@ -483,9 +654,9 @@ public class PropertyService {
      * Map Page<Property> to PropertyListResponse
      */
     private PropertyListResponse mapToListResponse(Page<Property> propertyPage) {
-        List<PropertyResponse> properties = propertyPage.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<PropertyResponse> properties = propertyReadModel.findResponses(propertyPage.getContent().stream()
+            .map(Property::getId)
+            .collect(Collectors.toList()));
         
         return PropertyListResponse.builder()
             .properties(properties)
@@ -497,4 +668,22 @@ public class PropertyService {
             .hasPrevious(propertyPage.hasPrevious())
             .build();
     }
+    
+    /**
+     * Map a keyset page to PropertyListResponse
+     */
+    private PropertyListResponse mapToListResponse(KeysetPage<Property> keysetPage, String cursor, int size) {
+        List<PropertyResponse> properties = propertyReadModel.findResponses(keysetPage.getContent().stream()
+            .map(Property::getId)
+            .collect(Collectors.toList()));
+        
+        return PropertyListResponse.builder()
+            .properties(properties)
+            .totalElements(keysetPage.getTotalElements())
+            .pageSize(KeysetPagination.clampSize(size))
+            .hasNext(keysetPage.isHasNext())
+            .hasPrevious(!cursor.isEmpty())
+            .nextCursor(keysetPage.getNextCursor())
+            .build();
+    }
 }
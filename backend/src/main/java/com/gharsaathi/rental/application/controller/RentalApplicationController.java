@@ -58,6 +58,7 @@ public class RentalApplicationController {
 
     /**
      * Get all applications submitted by current tenant
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      */
     @GetMapping("/tenant/applications")
     @PreAuthorize("hasRole('TENANT')")
@@ -66,13 +67,15 @@ public class RentalApplicationController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         log.info("Fetching applications for tenant");
         
         Long tenantId = getCurrentUserId(authentication);
-        ApplicationListResponse response = applicationService.getMyApplications(
-            tenantId, page, size, sortBy, sortDirection
-        );
+        ApplicationListResponse response = cursor != null
+            ? applicationService.getMyApplicationsByCursor(tenantId, cursor, size, sortBy, sortDirection, includeTotal)
+            : applicationService.getMyApplications(tenantId, page, size, sortBy, sortDirection);
         
         return ResponseEntity.ok(response);
     }
@@ -127,6 +130,7 @@ public class RentalApplicationController {
 
     /**
      * Get all applications for properties owned by landlord
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      */
     @GetMapping("/landlord/applications")
     @PreAuthorize("hasRole('LANDLORD')")
@@ -135,19 +139,23 @@ public class RentalApplicationController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
             @RequestParam(defaultValue = "DESC") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         log.info("Fetching applications for landlord properties");
         
         Long landlordId = getCurrentUserId(authentication);
-        ApplicationListResponse response = applicationService.getApplicationsForMyProperties(
-            landlordId, page, size, sortBy, sortDirection
-        );
+        ApplicationListResponse response = cursor != null
+            ? applicationService.getApplicationsForMyPropertiesByCursor(
+                landlordId, cursor, size, sortBy, sortDirection, includeTotal)
+            : applicationService.getApplicationsForMyProperties(landlordId, page, size, sortBy, sortDirection);
         
         return ResponseEntity.ok(response);
     }
 
     /**
      * Get applications for a specific property
+     * Passing cursor (empty for the first page) switches from page numbers to keyset pagination
      */
     @GetMapping("/landlord/properties/{propertyId}/applications")
     @PreAuthorize("hasRole('LANDLORD')")
@@ -155,13 +163,15 @@ public class RentalApplicationController {
             @PathVariable Long propertyId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean includeTotal,
             Authentication authentication) {
         log.info("Fetching applications for property {}", propertyId);
         
         Long landlordId = getCurrentUserId(authentication);
-        ApplicationListResponse response = applicationService.getApplicationsForProperty(
-            propertyId, landlordId, page, size
-        );
+        ApplicationListResponse response = cursor != null
+            ? applicationService.getApplicationsForPropertyByCursor(propertyId, landlordId, cursor, size, includeTotal)
+            : applicationService.getApplicationsForProperty(propertyId, landlordId, page, size);
         
         return ResponseEntity.ok(response);
     }
@@ -17,10 +17,13 @@ import lombok.NoArgsConstructor;
 public class ApplicationListResponse {
 
     private List<ApplicationResponse> applications;
-    private long totalElements;
-    private int totalPages;
-    private int currentPage;
+    private Long totalElements; // null in cursor mode unless includeTotal=true
+    private Integer totalPages;
+    private Integer currentPage;
     private int pageSize;
     private boolean hasNext;
     private boolean hasPrevious;
+
+    // Keyset mode: token for the next page, null on the last page
+    private String nextCursor;
 }
@@ -0,0 +1,70 @@
+package com.gharsaathi.rental.application.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import com.gharsaathi.property.model.PropertyType;
+import com.gharsaathi.rental.application.model.ApplicationStatus;
+
+/**
+ * Projection backing ApplicationResponse in list views
+ */
+public interface ApplicationSummaryView {
+
+    Long getId();
+
+    ApplicationStatus getStatus();
+
+    String getMessage();
+
+    LocalDate getMoveInDate();
+
+    Integer getLeaseDurationMonths();
+
+    Integer getNumberOfOccupants();
+
+    String getEmploymentStatus();
+
+    BigDecimal getMonthlyIncome();
+
+    Boolean getHasPets();
+
+    String getEmergencyContactName();
+
+    String getEmergencyContactPhone();
+
+    String getLandlordResponse();
+
+    LocalDateTime getReviewedAt();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+
+    Long getPropertyId();
+
+    String getPropertyTitle();
+
+    String getPropertyAddress();
+
+    String getPropertyCity();
+
+    BigDecimal getPropertyPrice();
+
+    Integer getPropertyBedrooms();
+
+    Integer getPropertyBathrooms();
+
+    PropertyType getPropertyType();
+
+    String getPrimaryImageUrl();
+
+    Long getTenantId();
+
+    String getTenantName();
+
+    String getTenantEmail();
+
+    String getTenantPhone();
+}
@@ -1,15 +1,21 @@
 package com.gharsaathi.rental.application.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.gharsaathi.dashboard.dto.PropertyApplicationCount;
+import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.rental.application.dto.ApplicationSummaryView;
 import com.gharsaathi.rental.application.model.ApplicationStatus;
 import com.gharsaathi.rental.application.model.RentalApplication;
 
@@ -17,7 +23,7 @@ import com.gharsaathi.rental.application.model.RentalApplication;
  * Repository for RentalApplication entity
  */
 @Repository
-public interface RentalApplicationRepository extends JpaRepository<RentalApplication, Long> {
+public interface RentalApplicationRepository extends JpaRepository<RentalApplication, Long>, JpaSpecificationExecutor<RentalApplication> {
 
     /**
      * Find all applications by tenant ID with pagination
@@ -101,6 +107,31 @@ public interface RentalApplicationRepository extends JpaRepository<RentalApplica
     @Query("SELECT COUNT(ra) FROM RentalApplication ra WHERE ra.property.landlord.id = :landlordId")
     long countByLandlordId(@Param("landlordId") Long landlordId);
     
+    /**
+     * Count applications for a landlord's properties submitted since the given time
+     */
+    @Query("SELECT COUNT(ra) FROM RentalApplication ra " +
+           "WHERE ra.property.landlord.id = :landlordId " +
+           "AND ra.createdAt >= :since")
+    long countByLandlordIdCreatedSince(
+        @Param("landlordId") Long landlordId,
+        @Param("since") LocalDateTime since
+    );
+
+    /**
+     * IDs of a tenant's most recent applications (a list, so no count query is issued)
+     */
+    @Query("SELECT ra.id FROM RentalApplication ra WHERE ra.tenant.id = :tenantId " +
+           "ORDER BY ra.createdAt DESC, ra.id DESC")
+    List<Long> findRecentIdsByTenantId(@Param("tenantId") Long tenantId, Pageable pageable);
+
+    /**
+     * IDs of the most recent applications for a landlord's properties (no count query)
+     */
+    @Query("SELECT ra.id FROM RentalApplication ra WHERE ra.property.landlord.id = :landlordId " +
+           "ORDER BY ra.createdAt DESC, ra.id DESC")
+    List<Long> findRecentIdsByLandlordId(@Param("landlordId") Long landlordId, Pageable pageable);
+
     /**
      * Count applications by status
      */
@@ -110,4 +141,49 @@ public interface RentalApplicationRepository extends JpaRepository<RentalApplica
      * Count total applications by property ID
      */
     long countByPropertyId(Long propertyId);
+    
+    /**
+     * Count applications per property of a landlord, most applied first
+     * Properties without applications are included with a zero count
+     */
+    @Query("SELECT pr.id AS propertyId, COUNT(ra.id) AS applicationCount " +
+           "FROM Property pr " +
+           "LEFT JOIN RentalApplication ra ON ra.property = pr " +
+           "WHERE pr.landlord.id = :landlordId " +
+           "GROUP BY pr.id " +
+           "ORDER BY COUNT(ra.id) DESC, pr.id ASC")
+    List<PropertyApplicationCount> countApplicationsPerPropertyForLandlord(
+        @Param("landlordId") Long landlordId, 
+        Pageable pageable
+    );
+    
+    /**
+     * Count applications per property across the platform, most applied first
+     */
+    @Query("SELECT pr.id AS propertyId, COUNT(ra.id) AS applicationCount " +
+           "FROM Property pr " +
+           "LEFT JOIN RentalApplication ra ON ra.property = pr " +
+           "GROUP BY pr.id " +
+           "ORDER BY COUNT(ra.id) DESC, pr.id ASC")
+    List<PropertyApplicationCount> countApplicationsPerProperty(Pageable pageable);
+
+    /**
+     * Find list-view summaries of applications by IDs (unordered)
+     */
+    @Query("SELECT ra.id AS id, ra.status AS status, ra.message AS message, ra.moveInDate AS moveInDate, " +
+           "ra.leaseDurationMonths AS leaseDurationMonths, ra.numberOfOccupants AS numberOfOccupants, " +
+           "ra.employmentStatus AS employmentStatus, ra.monthlyIncome AS monthlyIncome, ra.hasPets AS hasPets, " +
+           "ra.emergencyContactName AS emergencyContactName, ra.emergencyContactPhone AS emergencyContactPhone, " +
+           "ra.landlordResponse AS landlordResponse, ra.reviewedAt AS reviewedAt, " +
+           "ra.createdAt AS createdAt, ra.updatedAt AS updatedAt, " +
+           "p.id AS propertyId, p.title AS propertyTitle, p.address AS propertyAddress, p.city AS propertyCity, " +
+           "p.price AS propertyPrice, p.bedrooms AS propertyBedrooms, p.bathrooms AS propertyBathrooms, " +
+           "p.propertyType AS propertyType, " +
+           PropertyRepository.PRIMARY_IMAGE_URL + " AS primaryImageUrl, " +
+           "t.id AS tenantId, t.fullName AS tenantName, t.email AS tenantEmail, t.phoneNumber AS tenantPhone " +
+           "FROM RentalApplication ra " +
+           "JOIN ra.property p " +
+           "JOIN ra.tenant t " +
+           "WHERE ra.id IN :ids")
+    List<ApplicationSummaryView> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
 }
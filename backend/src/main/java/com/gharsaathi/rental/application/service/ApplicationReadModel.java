@@ -0,0 +1,84 @@
+package com.gharsaathi.rental.application.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gharsaathi.rental.application.dto.ApplicationResponse;
+import com.gharsaathi.rental.application.dto.ApplicationSummaryView;
+import com.gharsaathi.rental.application.repository.RentalApplicationRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Builds ApplicationResponse list items from a projection instead of entity graphs
+ * One query per page regardless of page size; no lazy associations are touched
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationReadModel {
+
+    private final RentalApplicationRepository applicationRepository;
+
+    /**
+     * Load responses for the given application IDs, in the same order
+     * IDs that no longer exist are skipped
+     */
+    @Transactional(readOnly = true)
+    public List<ApplicationResponse> findResponses(List<Long> applicationIds) {
+        if (applicationIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, ApplicationSummaryView> viewsById = applicationRepository.findSummariesByIdIn(applicationIds)
+            .stream()
+            .collect(Collectors.toMap(ApplicationSummaryView::getId, Function.identity()));
+
+        return applicationIds.stream()
+            .map(viewsById::get)
+            .filter(Objects::nonNull)
+            .map(this::toResponse)
+            .collect(Collectors.toList());
+    }
+
+    private ApplicationResponse toResponse(ApplicationSummaryView view) {
+        return ApplicationResponse.builder()
+            .id(view.getId())
+            .status(view.getStatus())
+            .message(view.getMessage())
+            .moveInDate(view.getMoveInDate())
+            .leaseDurationMonths(view.getLeaseDurationMonths())
+            .numberOfOccupants(view.getNumberOfOccupants())
+            .employmentStatus(view.getEmploymentStatus())
+            .monthlyIncome(view.getMonthlyIncome())
+            .hasPets(view.getHasPets())
+            .emergencyContactName(view.getEmergencyContactName())
+            .emergencyContactPhone(view.getEmergencyContactPhone())
+            .landlordResponse(view.getLandlordResponse())
+            .reviewedAt(view.getReviewedAt())
+            .createdAt(view.getCreatedAt())
+            .updatedAt(view.getUpdatedAt())
+            .property(ApplicationResponse.PropertyInfo.builder()
+                .id(view.getPropertyId())
+                .title(view.getPropertyTitle())
+                .address(view.getPropertyAddress())
+                .city(view.getPropertyCity())
+                .price(view.getPropertyPrice())
+                .bedrooms(view.getPropertyBedrooms())
+                .bathrooms(view.getPropertyBathrooms())
+                .propertyType(view.getPropertyType().name())
+                .primaryImageUrl(view.getPrimaryImageUrl())
+                .build())
+            .tenant(ApplicationResponse.TenantInfo.builder()
+                .id(view.getTenantId())
+                .fullName(view.getTenantName())
+                .email(view.getTenantEmail())
+                .phoneNumber(view.getTenantPhone())
+                .build())
+            .build();
+    }
+}
@@ -11,6 +11,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,10 +28,14 @@ import com.gharsaathi.rental.application.repository.RentalApplicationRepository;
 import com.gharsaathi.auth.model.User;
 import com.gharsaathi.auth.repository.UserRepository;
 import com.gharsaathi.common.exception.PropertyNotFoundException;
+import com.gharsaathi.common.util.KeysetPage;
+import com.gharsaathi.common.util.KeysetPagination;
 import com.gharsaathi.lease.service.LeaseService;
+import com.gharsaathi.notification.service.NotificationService;
 import com.gharsaathi.property.model.Property;
 import com.gharsaathi.property.model.PropertyStatus;
 import com.gharsaathi.property.repository.PropertyRepository;
+import com.gharsaathi.property.search.PropertySearchIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -46,8 +51,11 @@ public class RentalApplicationService {
 
     private final RentalApplicationRepository applicationRepository;
     private final PropertyRepository propertyRepository;
+    private final PropertySearchIndex propertySearchIndex;
     private final UserRepository userRepository;
     private final LeaseService leaseService;
+    private final ApplicationReadModel applicationReadModel;
+    private final NotificationService notificationService;
 
     /**
      * Submit a new rental application
@@ -100,6 +108,8 @@ public class RentalApplicationService {
             .build();
 
         RentalApplication savedApplication = applicationRepository.save(application);
+        notificationService.notifyNewApplication(property.getLandlord().getId(), savedApplication.getId(),
+            property.getTitle(), tenant.getFullName());
         log.info("Application {} submitted successfully", savedApplication.getId());
 
         return mapToResponse(savedApplication);
@@ -120,6 +130,23 @@ public class RentalApplicationService {
         return mapToListResponse(applicationsPage);
     }
 
+    /**
+     * Get a tenant's applications with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public ApplicationListResponse getMyApplicationsByCursor(Long tenantId, String cursor, int size, String sortBy,
+                                                             String sortDirection, boolean includeTotal) {
+        log.info("Getting applications by cursor for tenant {}", tenantId);
+
+        Specification<RentalApplication> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("tenant").get("id"), tenantId);
+        KeysetPagination.requireSortable(RentalApplication.class, sortBy);
+        KeysetPage<RentalApplication> keysetPage = KeysetPagination.fetch(applicationRepository, spec, sortBy,
+            KeysetPagination.parseDirection(sortDirection), cursor, size, includeTotal, RentalApplication::getId);
+
+        return mapToListResponse(keysetPage, cursor, size);
+    }
+
     /**
      * Get specific application by ID for tenant
      */
@@ -170,6 +197,24 @@ public class RentalApplicationService {
         return mapToListResponse(applicationsPage);
     }
 
+    /**
+     * Get applications for a landlord's properties with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public ApplicationListResponse getApplicationsForMyPropertiesByCursor(Long landlordId, String cursor, int size,
+                                                                          String sortBy, String sortDirection,
+                                                                          boolean includeTotal) {
+        log.info("Getting applications by cursor for landlord {}", landlordId);
+
+        Specification<RentalApplication> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("property").get("landlord").get("id"), landlordId);
+        KeysetPagination.requireSortable(RentalApplication.class, sortBy);
+        KeysetPage<RentalApplication> keysetPage = KeysetPagination.fetch(applicationRepository, spec, sortBy,
+            KeysetPagination.parseDirection(sortDirection), cursor, size, includeTotal, RentalApplication::getId);
+
+        return mapToListResponse(keysetPage, cursor, size);
+    }
+
     /**
      * Get applications for a specific property
      */
@@ -177,15 +222,7 @@ public class RentalApplicationService {
     public ApplicationListResponse getApplicationsForProperty(Long propertyId, Long landlordId, int page, int size) {
         log.info("Getting applications for property {} by landlord {}", propertyId, landlordId);
 
-        // Verify property ownership
-        Property property = propertyRepository.findById(propertyId)
-            .orElseThrow(() -> new PropertyNotFoundException(propertyId));
-
-        if (!property.getLandlord().getId().equals(landlordId)) {
-            throw new ApplicationAccessDeniedException(
-                "You do not have access to applications for this property"
-            );
-        }
+        verifyPropertyOwnership(propertyId, landlordId);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<RentalApplication> applicationsPage = applicationRepository.findByPropertyId(propertyId, pageable);
@@ -193,6 +230,24 @@ public class RentalApplicationService {
         return mapToListResponse(applicationsPage);
     }
 
+    /**
+     * Get applications for a specific property with keyset (cursor) pagination
+     */
+    @Transactional(readOnly = true)
+    public ApplicationListResponse getApplicationsForPropertyByCursor(Long propertyId, Long landlordId, String cursor,
+                                                                      int size, boolean includeTotal) {
+        log.info("Getting applications by cursor for property {} by landlord {}", propertyId, landlordId);
+
+        verifyPropertyOwnership(propertyId, landlordId);
+
+        Specification<RentalApplication> spec = (root, query, criteriaBuilder) ->
+            criteriaBuilder.equal(root.get("property").get("id"), propertyId);
+        KeysetPage<RentalApplication> keysetPage = KeysetPagination.fetch(applicationRepository, spec, "createdAt",
+            Sort.Direction.DESC, cursor, size, includeTotal, RentalApplication::getId);
+
+        return mapToListResponse(keysetPage, cursor, size);
+    }
+
     /**
      * Approve an application
      */
@@ -229,6 +284,7 @@ public class RentalApplicationService {
         Property property = application.getProperty();
         property.setStatus(PropertyStatus.RENTED);
         propertyRepository.save(property);
+        propertySearchIndex.indexAfterCommit(property);
 
         // Auto-reject all other pending applications for the same property
         List<RentalApplication> otherApplications = applicationRepository.findByPropertyIdAndStatus(
@@ -241,9 +297,13 @@ public class RentalApplicationService {
                 otherApp.setLandlordResponse("Property has been rented to another tenant");
                 otherApp.setReviewedAt(LocalDateTime.now());
                 applicationRepository.save(otherApp);
+                notificationService.notifyApplicationStatus(otherApp.getTenant().getId(), otherApp.getId(),
+                    property.getTitle(), false);
             }
         }
 
+        notificationService.notifyApplicationStatus(application.getTenant().getId(), applicationId,
+            property.getTitle(), true);
         log.info("Application {} approved successfully", applicationId);
 
         return mapToResponse(updatedApplication);
@@ -269,6 +329,8 @@ public class RentalApplicationService {
         application.setReviewedAt(LocalDateTime.now());
 
         RentalApplication updatedApplication = applicationRepository.save(application);
+        notificationService.notifyApplicationStatus(application.getTenant().getId(), applicationId,
+            application.getProperty().getTitle(), false);
         log.info("Application {} rejected successfully", applicationId);
 
         return mapToResponse(updatedApplication);
@@ -348,13 +410,27 @@ public class RentalApplicationService {
             .build();
     }
 
+    /**
+     * Verify that the landlord owns the property whose applications are requested
+     */
+    private void verifyPropertyOwnership(Long propertyId, Long landlordId) {
+        Property property = propertyRepository.findById(propertyId)
+            .orElseThrow(() -> new PropertyNotFoundException(propertyId));
+
+        if (!property.getLandlord().getId().equals(landlordId)) {
+            throw new ApplicationAccessDeniedException(
+                "You do not have access to applications for this property"
+            );
+        }
+    }
+
     /**
      * Map Page of RentalApplication to ApplicationListResponse
      */
     private ApplicationListResponse mapToListResponse(Page<RentalApplication> page) {
-        List<ApplicationResponse> applications = page.getContent().stream()
-            .map(this::mapToResponse)
-            .collect(Collectors.toList());
+        List<ApplicationResponse> applications = applicationReadModel.findResponses(page.getContent().stream()
+            .map(RentalApplication::getId)
+            .collect(Collectors.toList()));
 
         return ApplicationListResponse.builder()
             .applications(applications)
@@ -366,4 +442,22 @@ public class RentalApplicationService {
             .hasPrevious(page.hasPrevious())
             .build();
     }
+
+    /**
+     * Map a keyset page of RentalApplication to ApplicationListResponse
+     */
+    private ApplicationListResponse mapToListResponse(KeysetPage<RentalApplication> keysetPage, String cursor, int size) {
+        List<ApplicationResponse> applications = applicationReadModel.findResponses(keysetPage.getContent().stream()
+            .map(RentalApplication::getId)
+            .collect(Collectors.toList()));
+
+        return ApplicationListResponse.builder()
+            .applications(applications)
+            .totalElements(keysetPage.getTotalElements())
+            .pageSize(KeysetPagination.clampSize(size))
+            .hasNext(keysetPage.isHasNext())
+            .hasPrevious(!cursor.isEmpty())
+            .nextCursor(keysetPage.getNextCursor())
+            .build();
+    }
 }
@@ -0,0 +1,86 @@
+package com.gharsaathi.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gharsaathi.auth.model.RefreshToken;
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.auth.repository.RefreshTokenRepository;
+import com.gharsaathi.common.util.TokenDigest;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * A table left over from the raw-token schema must accept inserts again after the migration,
+ * with old sessions kept where the JWT is known and revoked where it is not
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class RefreshTokenSchemaMigrationTest {
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private RefreshTokenSchemaMigration migration;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void legacyTokenColumnIsHashedAndDropped() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        User user = fixtures.user(Role.TENANT);
+
+        // Shape of the table as ddl-auto=update leaves it on an old database
+        jdbc.execute("ALTER TABLE refresh_tokens ADD COLUMN token VARCHAR(1000)");
+        insertLegacy(jdbc, user, "legacy-jti", "legacy.jwt.value");
+        insertLegacy(jdbc, user, "orphan-jti", null);
+
+        migration.migrate();
+
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE UPPER(TABLE_NAME) = 'REFRESH_TOKENS' AND UPPER(COLUMN_NAME) = 'TOKEN'", Integer.class))
+            .isZero();
+
+        RefreshToken legacy = refreshTokenRepository.findByTokenId("legacy-jti").orElseThrow();
+        assertThat(legacy.getTokenHash()).isEqualTo(TokenDigest.of("legacy.jwt.value"));
+        assertThat(legacy.getRevoked()).isFalse();
+
+        RefreshToken orphan = refreshTokenRepository.findByTokenId("orphan-jti").orElseThrow();
+        assertThat(orphan.getRevoked()).isTrue();
+        assertThat(orphan.getRevokedAt()).isNotNull();
+
+        // Inserts through the entity work again and a second run is a no-op
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenId("new-jti")
+                .tokenHash(TokenDigest.of("new.jwt.value"))
+                .user(user)
+                .expiresAt(LocalDateTime.now().plusDays(1))
+                .build());
+        migration.migrate();
+        assertThat(refreshTokenRepository.findByTokenId("new-jti")).isPresent();
+    }
+
+    // Helper methods
+
+    private void insertLegacy(JdbcTemplate jdbc, User user, String tokenId, String token) {
+        jdbc.update("INSERT INTO refresh_tokens (token_id, token_hash, token, user_id, expires_at, created_at, revoked) "
+                + "VALUES (?, '', ?, ?, ?, ?, false)",
+                tokenId, token, user.getId(), LocalDateTime.now().plusDays(1), LocalDateTime.now());
+    }
+}
@@ -0,0 +1,53 @@
+package com.gharsaathi.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.gharsaathi.auth.repository.RefreshTokenRepository;
+import com.gharsaathi.auth.repository.TokenBlacklistRepository;
+import com.gharsaathi.common.dto.TokenPurgeRun;
+import com.gharsaathi.common.dto.TokenPurgeStats;
+
+/**
+ * Each purge run is reported per table and added to the totals since startup
+ */
+class TokenPurgeServiceTest {
+
+    @Test
+    void recordsLastRunAndTotals() {
+        TokenBlacklistRepository blacklistRepository = mock(TokenBlacklistRepository.class);
+        RefreshTokenRepository refreshTokenRepository = mock(RefreshTokenRepository.class);
+        // Blacklist: one full batch of two, then a short one
+        when(blacklistRepository.findExpiredIds(any(), any()))
+            .thenReturn(List.of(1L, 2L), List.of(3L), List.of(), List.of(), List.of());
+        when(blacklistRepository.deleteByIdIn(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        when(refreshTokenRepository.findExpiredIds(any(), any())).thenReturn(List.of(10L), List.of());
+        when(refreshTokenRepository.findRevokedIdsBefore(any(), any())).thenReturn(List.of());
+        when(refreshTokenRepository.deleteByIdIn(anyList())).thenAnswer(invocation -> invocation.<List<Long>>getArgument(0).size());
+        TokenPurgeService service = new TokenPurgeService(blacklistRepository, refreshTokenRepository, 2, 0, 30);
+
+        assertThat(service.purgeAll()).isEqualTo(4);
+        TokenPurgeRun run = service.getStats().getLastRun();
+        assertThat(run.getBlacklistDeleted()).isEqualTo(3);
+        assertThat(run.getExpiredRefreshTokensDeleted()).isEqualTo(1);
+        assertThat(run.getRevokedRefreshTokensDeleted()).isZero();
+        assertThat(run.getBatches()).isEqualTo(3);
+        assertThat(run.getDurationMs()).isNotNull();
+
+        // Nothing left: the second run is empty but still counted
+        assertThat(service.purgeAll()).isZero();
+        TokenPurgeStats stats = service.getStats();
+        assertThat(stats.getRuns()).isEqualTo(2);
+        assertThat(stats.getBlacklistDeleted()).isEqualTo(3);
+        assertThat(stats.getExpiredRefreshTokensDeleted()).isEqualTo(1);
+        assertThat(stats.getBatches()).isEqualTo(3);
+        assertThat(stats.getLastRun().getBlacklistDeleted()).isZero();
+    }
+}
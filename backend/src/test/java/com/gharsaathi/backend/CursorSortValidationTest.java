@@ -0,0 +1,72 @@
+package com.gharsaathi.backend;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * Cursor mode must reject an unknown sort field or direction with 400 before running any query,
+ * and clamp the page size instead of failing on it
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class CursorSortValidationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void unknownSortFieldIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/properties?cursor=&sortBy=nope"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Cannot sort by 'nope'"));
+        // Associations and collections cannot be carried in a cursor
+        mockMvc.perform(get("/api/properties?cursor=&sortBy=landlord"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/tenant/applications?cursor=&sortBy=nope")
+                .header("Authorization", fixtures.bearer(fixtures.user(Role.TENANT))))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void unknownSortDirectionIsBadRequest() throws Exception {
+        mockMvc.perform(get("/api/properties?cursor=&sortDirection=sideways"))
+            .andExpect(status().isBadRequest())
+            .andExpect(jsonPath("$.error").value("Sort direction must be ASC or DESC"));
+    }
+
+    @Test
+    void knownSortIsAccepted() throws Exception {
+        mockMvc.perform(get("/api/properties?cursor=&sortBy=price&sortDirection=asc"))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void outOfRangePageSizeIsClamped() throws Exception {
+        mockMvc.perform(get("/api/properties?cursor=&size=0"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pageSize").value(1));
+        mockMvc.perform(get("/api/properties?cursor=&size=-5"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pageSize").value(1));
+        mockMvc.perform(get("/api/properties?cursor=&size=" + Integer.MAX_VALUE))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.pageSize").value(100));
+    }
+}
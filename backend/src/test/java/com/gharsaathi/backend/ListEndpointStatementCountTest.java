@@ -0,0 +1,119 @@
+package com.gharsaathi.backend;
+
+import static com.gharsaathi.support.SqlStatementCounter.assertConstant;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.lease.model.Lease;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * List endpoints must cost a fixed number of SQL statements per request, whatever the page size
+ * Pages of 5 and 25 rows are compared over the full request, security filters included.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ListEndpointStatementCountTest {
+
+    private static final int SMALL = 5;
+    private static final int LARGE = 25;
+    // Page, count, read model, amenities, and the principal when its cache misses
+    private static final int MAX_STATEMENTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User landlord;
+    private User tenant;
+    private String landlordToken;
+    private String tenantToken;
+
+    @BeforeAll
+    void seed() {
+        landlord = fixtures.user(Role.LANDLORD);
+        tenant = fixtures.user(Role.TENANT);
+        for (int i = 0; i < LARGE + 5; i++) {
+            Property property = fixtures.property(landlord, "Lalitpur", "Flat " + i, i % 3);
+            fixtures.application(property, tenant);
+            Lease lease = fixtures.lease(property, tenant);
+            fixtures.payment(lease, PaymentStatus.PENDING, YearMonth.now(), new BigDecimal("15000.00"));
+        }
+        landlordToken = fixtures.bearer(landlord);
+        tenantToken = fixtures.bearer(tenant);
+    }
+
+    @Test
+    void propertyListsAreConstant() throws Exception {
+        assertList("GET /api/properties", "/api/properties", null, "$.properties.length()");
+        assertList("GET /api/properties (cursor)", "/api/properties?cursor=", null, "$.properties.length()");
+        assertList("GET /api/landlord/properties", "/api/landlord/properties", landlordToken, "$.properties.length()");
+    }
+
+    @Test
+    void leaseListsAreConstant() throws Exception {
+        assertList("GET /api/tenant/leases", "/api/tenant/leases", tenantToken, "$.leases.length()");
+        assertList("GET /api/landlord/leases", "/api/landlord/leases", landlordToken, "$.leases.length()");
+        assertList("GET /api/landlord/leases (cursor)", "/api/landlord/leases?cursor=", landlordToken, "$.leases.length()");
+    }
+
+    @Test
+    void paymentListsAreConstant() throws Exception {
+        assertList("GET /api/payments/tenant/{id}", "/api/payments/tenant/" + tenant.getId(), tenantToken,
+                "$.payments.length()");
+        assertList("GET /api/payments/landlord/{id}", "/api/payments/landlord/" + landlord.getId(), landlordToken,
+                "$.payments.length()");
+    }
+
+    @Test
+    void applicationListsAreConstant() throws Exception {
+        assertList("GET /api/tenant/applications", "/api/tenant/applications", tenantToken,
+                "$.applications.length()");
+        assertList("GET /api/landlord/applications", "/api/landlord/applications", landlordToken,
+                "$.applications.length()");
+    }
+
+    // Helper methods
+
+    private void assertList(String description, String url, String token, String rowsPath) throws Exception {
+        String separator = url.contains("?") ? "&" : "?";
+        // Warm-up, so a principal loaded on first use does not count against the small page
+        request(url + separator + "size=1", token, rowsPath, 1);
+        assertConstant(description, MAX_STATEMENTS,
+                () -> request(url + separator + "size=" + SMALL, token, rowsPath, SMALL),
+                () -> request(url + separator + "size=" + LARGE, token, rowsPath, LARGE));
+    }
+
+    private void request(String url, String token, String rowsPath, int rows) throws Exception {
+        var request = get(url);
+        if (token != null) {
+            request.header("Authorization", token);
+        }
+        mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath(rowsPath).value(rows));
+    }
+}
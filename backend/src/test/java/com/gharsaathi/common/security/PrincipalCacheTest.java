@@ -0,0 +1,73 @@
+package com.gharsaathi.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+
+/**
+ * A principal loaded while the user is being evicted must not be cached
+ */
+class PrincipalCacheTest {
+
+    private static final String EMAIL = "tenant@test.gharsaathi.com";
+
+    @Test
+    void cachesLoadedPrincipal() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+        AtomicInteger loads = new AtomicInteger();
+        Function<String, UserDetails> loader = email -> {
+            loads.incrementAndGet();
+            return user(Role.TENANT);
+        };
+
+        cache.get(EMAIL, loader);
+        cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void doesNotCachePrincipalLoadedDuringEviction() {
+        PrincipalCache cache = new PrincipalCache(60, 100);
+        AtomicInteger loads = new AtomicInteger();
+        // The first load reads the old row, and the user is updated before it returns
+        Function<String, UserDetails> racingLoader = email -> {
+            loads.incrementAndGet();
+            UserDetails stale = user(Role.TENANT);
+            cache.evictUser(1L);
+            return stale;
+        };
+        Function<String, UserDetails> loader = email -> {
+            loads.incrementAndGet();
+            return user(Role.LANDLORD);
+        };
+
+        cache.get(EMAIL, racingLoader);
+        UserDetails reloaded = cache.get(EMAIL, loader);
+
+        assertThat(loads).hasValue(2);
+        assertThat(((User) reloaded).getRole()).isEqualTo(Role.LANDLORD);
+        assertThat(((User) cache.get(EMAIL, loader)).getRole()).isEqualTo(Role.LANDLORD);
+        assertThat(loads).hasValue(2);
+    }
+
+    // Helper methods
+
+    private static User user(Role role) {
+        return User.builder()
+            .id(1L)
+            .fullName("Test Tenant")
+            .email(EMAIL)
+            .password("hash")
+            .role(role)
+            .enabled(true)
+            .build();
+    }
+}
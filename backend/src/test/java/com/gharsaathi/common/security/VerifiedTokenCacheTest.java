@@ -0,0 +1,70 @@
+package com.gharsaathi.common.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Verified claims are reused until evicted by jti, and the cache stays near its bound
+ */
+class VerifiedTokenCacheTest {
+
+    @Test
+    void reusesClaimsUntilTokenIdIsEvicted() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return verified("jti-" + token, 60_000);
+        };
+
+        cache.get("a", verifier);
+        cache.get("a", verifier);
+        assertThat(verifications).hasValue(1);
+
+        cache.evictTokenId("jti-a");
+        cache.get("a", verifier);
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void expiredClaimsAreVerifiedAgain() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+        AtomicInteger verifications = new AtomicInteger();
+        Function<String, VerifiedToken> verifier = token -> {
+            verifications.incrementAndGet();
+            return verified("jti-" + token, -1_000);
+        };
+
+        cache.get("a", verifier);
+        cache.get("a", verifier);
+
+        assertThat(verifications).hasValue(2);
+    }
+
+    @Test
+    void trimsBackUnderMaxSize() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(100);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.get("token-" + i, token -> verified("jti-" + token, 60_000));
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+    }
+
+    // Helper methods
+
+    private static VerifiedToken verified(String tokenId, long ttlMillis) {
+        return VerifiedToken.builder()
+                .tokenId(tokenId)
+                .subject("tenant@test.gharsaathi.com")
+                .type("ACCESS")
+                .expiration(new Date(System.currentTimeMillis() + ttlMillis))
+                .build();
+    }
+}
@@ -0,0 +1,98 @@
+package com.gharsaathi.dashboard;
+
+import static com.gharsaathi.support.SqlStatementCounter.assertConstant;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.lease.model.Lease;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * The landlord dashboard must cost the same number of SQL statements for one property as for many
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class LandlordDashboardStatementCountTest {
+
+    private static final int MANY = 40;
+    // Mostly per-status counts from StatisticsService; 26 at the time of writing
+    private static final int MAX_STATEMENTS = 30;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void statementCountDoesNotGrowWithProperties() throws Exception {
+        String single = landlordWithProperties(1);
+        String many = landlordWithProperties(MANY);
+
+        // Warm-up, so a principal loaded on first use is not counted
+        dashboard(single, 1);
+        dashboard(many, MANY);
+        assertConstant("GET /api/dashboard/landlord", MAX_STATEMENTS,
+                () -> dashboard(single, 1),
+                () -> dashboard(many, MANY));
+    }
+
+    // Helper methods
+
+    /**
+     * Landlord whose properties each have applications, an active lease, confirmed payments
+     * over the last three months and a pending one; returns the landlord's bearer token
+     */
+    private String landlordWithProperties(int properties) {
+        User landlord = fixtures.user(Role.LANDLORD);
+        User tenant = fixtures.user(Role.TENANT);
+        for (int i = 0; i < properties; i++) {
+            Property property = fixtures.property(landlord, "Pokhara", "Dashboard flat " + i, 1);
+            for (int j = 0; j < applications(i + 1) - applications(i); j++) {
+                fixtures.application(property, tenant);
+            }
+            Lease lease = fixtures.lease(property, tenant);
+            for (int month = 1; month <= 3; month++) {
+                fixtures.payment(lease, PaymentStatus.CONFIRMED, YearMonth.now().minusMonths(month),
+                        new BigDecimal("15000.00"));
+            }
+            fixtures.payment(lease, PaymentStatus.PENDING, YearMonth.now(), new BigDecimal("15000.00"));
+        }
+        return fixtures.bearer(landlord);
+    }
+
+    private static int applications(int properties) {
+        int applications = 0;
+        for (int i = 0; i < properties; i++) {
+            applications += 1 + i % 3;
+        }
+        return applications;
+    }
+
+    private void dashboard(String token, int properties) throws Exception {
+        mockMvc.perform(get("/api/dashboard/landlord").header("Authorization", token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalProperties").value(properties))
+                .andExpect(jsonPath("$.totalApplicationsThisMonth").value(applications(properties)))
+                .andExpect(jsonPath("$.revenueByProperty.length()").value(properties))
+                .andExpect(jsonPath("$.topProperties.length()").value(Math.min(properties, 5)));
+    }
+}
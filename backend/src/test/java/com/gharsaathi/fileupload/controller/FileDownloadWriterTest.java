@@ -0,0 +1,134 @@
+package com.gharsaathi.fileupload.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.gharsaathi.fileupload.dto.StoredFile;
+
+/**
+ * Only passive types are served inline; everything else is a download that the browser must not sniff.
+ * Single byte ranges and conditional requests follow RFC 9110.
+ */
+class FileDownloadWriterTest {
+
+    @TempDir
+    private Path directory;
+
+    private final FileDownloadWriter writer = new FileDownloadWriter();
+
+    @Test
+    void imagesAreServedInline() throws IOException {
+        MockHttpServletResponse response = download("photo.png", "image/png", "png");
+
+        assertThat(response.getContentType()).isEqualTo("image/png");
+        assertThat(response.getHeader("Content-Disposition")).startsWith("inline");
+        assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+    }
+
+    @Test
+    void scriptableTypesAreDownloaded() throws IOException {
+        MockHttpServletResponse svg = download("logo.svg", "image/svg+xml", "<svg onload=\"alert(1)\"/>");
+        MockHttpServletResponse html = download("page.html", "text/html", "<script>alert(1)</script>");
+
+        for (MockHttpServletResponse response : new MockHttpServletResponse[] {svg, html}) {
+            assertThat(response.getContentType()).isEqualTo("application/octet-stream");
+            assertThat(response.getHeader("Content-Disposition")).startsWith("attachment");
+            assertThat(response.getHeader("X-Content-Type-Options")).isEqualTo("nosniff");
+        }
+    }
+
+    @Test
+    void rangeIsServedAsPartialContent() throws IOException {
+        MockHttpServletResponse response = download("doc.pdf", "application/pdf", "0123456789", "Range", "bytes=2-5");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 2-5/10");
+        assertThat(response.getContentAsString()).isEqualTo("2345");
+    }
+
+    @Test
+    void suffixRangeServesTheTail() throws IOException {
+        MockHttpServletResponse response = download("doc.pdf", "application/pdf", "0123456789", "Range", "bytes=-3");
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes 7-9/10");
+        assertThat(response.getContentAsString()).isEqualTo("789");
+    }
+
+    @Test
+    void rangeStartingPastTheEndIsNotSatisfiable() throws IOException {
+        MockHttpServletResponse response = download("doc.pdf", "application/pdf", "0123456789", "Range", "bytes=10-");
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader("Content-Range")).isEqualTo("bytes */10");
+        assertThat(response.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void staleIfRangeGetsTheWholeFile() throws IOException {
+        MockHttpServletResponse response = download("doc.pdf", "application/pdf", "0123456789",
+            "Range", "bytes=2-5", "If-Range", "\"hash-older\"");
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader("Content-Range")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("0123456789");
+    }
+
+    @Test
+    void matchingIfNoneMatchIsNotModified() throws IOException {
+        MockHttpServletResponse response = download("photo.png", "image/png", "png",
+            "If-None-Match", "\"other\", \"hash-photo.png\"");
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"hash-photo.png\"");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ifModifiedSinceAfterLastChangeIsNotModified() throws IOException {
+        MockHttpServletResponse response = download("photo.png", "image/png", "png",
+            "If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME.format(
+                ZonedDateTime.now(ZoneOffset.UTC).plusHours(1)));
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    // Helper methods
+
+    /**
+     * Serve a file written with the given content; headers are name/value pairs for the request
+     */
+    private MockHttpServletResponse download(String fileName, String contentType, String content,
+                                             String... headers) throws IOException {
+        Path path = Files.writeString(directory.resolve(fileName), content, StandardCharsets.UTF_8);
+        StoredFile file = StoredFile.builder()
+            .path(path)
+            .fileName(fileName)
+            .contentType(contentType)
+            .size(Files.size(path))
+            .contentHash("hash-" + fileName)
+            .lastModified(Instant.now())
+            .build();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/files/" + fileName);
+        for (int i = 0; i < headers.length; i += 2) {
+            request.addHeader(headers[i], headers[i + 1]);
+        }
+        writer.write(file, request, response);
+        return response;
+    }
+}
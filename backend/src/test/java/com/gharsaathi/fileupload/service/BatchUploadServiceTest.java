@@ -0,0 +1,116 @@
+package com.gharsaathi.fileupload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.util.unit.DataSize;
+
+import com.gharsaathi.common.exception.InvalidUploadException;
+import com.gharsaathi.common.exception.UploadTooLargeException;
+import com.gharsaathi.fileupload.dto.BatchUploadResponse;
+import com.gharsaathi.fileupload.dto.StagedContent;
+
+/**
+ * Batch uploads are bounded as a whole: total body size and number of files abort the request
+ */
+class BatchUploadServiceTest {
+
+    private static final String BOUNDARY = "batch-boundary";
+    private static final byte[] PNG = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0, 0, 0, 0x0D};
+
+    private FileStorageService fileStorageService;
+    private BlobStore blobStore;
+    private BatchUploadService service;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        fileStorageService = mock(FileStorageService.class);
+        blobStore = mock(BlobStore.class);
+        when(blobStore.stage(any())).thenAnswer(invocation -> {
+            byte[] content = invocation.<InputStream>getArgument(0).readAllBytes();
+            return StagedContent.builder().size(content.length).build();
+        });
+        when(fileStorageService.saveUploads(any(), any(), any())).thenReturn(List.of());
+        service = new BatchUploadService(fileStorageService, blobStore, 2, DataSize.ofKilobytes(4), DataSize.ofKilobytes(8));
+    }
+
+    @Test
+    void storesFilesWithinTheLimits() throws IOException {
+        BatchUploadResponse response = service.upload(request(body(2, 1024), false), 1L);
+
+        assertThat(response.getFailed()).isEmpty();
+        verify(blobStore, times(2)).stage(any());
+    }
+
+    @Test
+    void rejectsDeclaredContentLengthOverTheLimitBeforeReading() throws IOException {
+        assertThatThrownBy(() -> service.upload(request(body(1, 9 * 1024), false), 1L))
+            .isInstanceOf(UploadTooLargeException.class);
+        verify(blobStore, never()).stage(any());
+    }
+
+    @Test
+    void abortsUndeclaredBodyOnceItPassesTheLimit() throws IOException {
+        // Three files of 3KB stay under the per-file limit but pass the 8KB total without a Content-Length
+        service = new BatchUploadService(fileStorageService, blobStore, 5, DataSize.ofKilobytes(4), DataSize.ofKilobytes(8));
+
+        assertThatThrownBy(() -> service.upload(request(body(3, 3 * 1024), true), 1L))
+            .isInstanceOf(UploadTooLargeException.class);
+        verify(fileStorageService, never()).saveUploads(any(), any(), any());
+    }
+
+    @Test
+    void abortsOnceTooManyFilesAreSent() throws IOException {
+        assertThatThrownBy(() -> service.upload(request(body(3, 16), false), 1L))
+            .isInstanceOf(InvalidUploadException.class)
+            .hasMessageContaining("max 2");
+        verify(fileStorageService, never()).saveUploads(any(), any(), any());
+        verify(blobStore, times(2)).discard(any());
+    }
+
+    // Helper methods
+
+    private static MockHttpServletRequest request(byte[] body, boolean chunked) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/files/upload/batch") {
+            @Override
+            public long getContentLengthLong() {
+                return chunked ? -1 : super.getContentLengthLong();
+            }
+        };
+        request.setContentType("multipart/form-data; boundary=" + BOUNDARY);
+        request.setContent(body);
+        return request;
+    }
+
+    private static byte[] body(int files, int fileSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write(("--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"category\"\r\n\r\n"
+            + "PROPERTY_IMAGE\r\n").getBytes(StandardCharsets.US_ASCII));
+        for (int i = 0; i < files; i++) {
+            out.write(("--" + BOUNDARY + "\r\n"
+                + "Content-Disposition: form-data; name=\"files\"; filename=\"photo" + i + ".png\"\r\n"
+                + "Content-Type: image/png\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            out.write(PNG);
+            out.write(new byte[fileSize - PNG.length]);
+            out.write("\r\n".getBytes(StandardCharsets.US_ASCII));
+        }
+        out.write(("--" + BOUNDARY + "--\r\n").getBytes(StandardCharsets.US_ASCII));
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,121 @@
+package com.gharsaathi.fileupload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gharsaathi.fileupload.model.FileBlob;
+import com.gharsaathi.fileupload.repository.FileBlobRepository;
+
+/**
+ * Identical content is stored once and removed with its last reference, only when that removal commits
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BlobStoreTest {
+
+    @Autowired
+    private BlobStore blobStore;
+
+    @Autowired
+    private FileBlobRepository fileBlobRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void sameContentIsStoredOnceAndRemovedWithItsLastReference() {
+        byte[] content = uniqueContent();
+
+        FileBlob first = store(content);
+        FileBlob second = store(content);
+        Path file = blobStore.resolve(first);
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(refCount(first)).isEqualTo(2);
+        assertThat(file).exists();
+
+        release(first);
+        assertThat(refCount(first)).isEqualTo(1);
+        assertThat(file).exists();
+
+        release(second);
+        assertThat(fileBlobRepository.findByContentHash(first.getContentHash())).isEmpty();
+        assertThat(file).doesNotExist();
+        assertThat(tombstones(file)).isZero();
+    }
+
+    @Test
+    void rolledBackReleaseRestoresTheBlob() throws IOException {
+        byte[] content = uniqueContent();
+        FileBlob blob = store(content);
+        Path file = blobStore.resolve(blob);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                blobStore.release(blob);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            // Moved aside while the transaction is open
+            assertThat(file).doesNotExist();
+            status.setRollbackOnly();
+        });
+
+        assertThat(refCount(blob)).isEqualTo(1);
+        assertThat(Files.readAllBytes(file)).isEqualTo(content);
+        assertThat(tombstones(file)).isZero();
+    }
+
+    // Helper methods
+
+    private static byte[] uniqueContent() {
+        return ("blob " + UUID.randomUUID()).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private FileBlob store(byte[] content) {
+        return transactionTemplate.execute(status -> {
+            try {
+                return blobStore.store(new ByteArrayInputStream(content));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private void release(FileBlob blob) {
+        transactionTemplate.executeWithoutResult(status -> {
+            try {
+                blobStore.release(blob);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    private int refCount(FileBlob blob) {
+        return fileBlobRepository.findByContentHash(blob.getContentHash()).orElseThrow().getRefCount();
+    }
+
+    private static long tombstones(Path file) {
+        try (Stream<Path> siblings = Files.list(file.getParent())) {
+            return siblings.filter(path -> path.getFileName().toString().startsWith(file.getFileName() + "."))
+                    .count();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
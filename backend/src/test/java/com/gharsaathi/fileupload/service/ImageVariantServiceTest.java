@@ -0,0 +1,102 @@
+package com.gharsaathi.fileupload.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.gharsaathi.fileupload.dto.StoredFile;
+import com.gharsaathi.fileupload.model.ImageVariant;
+
+/**
+ * Variants missing on request are made on the image pool; a request that cannot wait gets the original
+ */
+class ImageVariantServiceTest {
+
+    private static final String CONTENT_HASH = "ab12cd34";
+
+    @TempDir
+    private Path directory;
+
+    private ImageVariantService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.shutdown();
+        }
+    }
+
+    @Test
+    void generatesMissingVariantOnRequest() throws IOException {
+        service = service(10_000);
+        StoredFile original = image(2000, 1500);
+
+        StoredFile variant = service.getVariant(original, ImageVariant.CARD);
+
+        assertThat(variant.getContentType()).isEqualTo("image/jpeg");
+        assertThat(variant.getContentHash()).isEqualTo(CONTENT_HASH + "-card");
+        assertThat(ImageIO.read(variant.getPath().toFile()).getWidth()).isEqualTo(ImageVariant.CARD.getMaxWidth());
+    }
+
+    @Test
+    void servesOriginalWhenVariantIsNotReadyInTime() throws Exception {
+        service = service(0);
+        StoredFile original = image(4000, 3000);
+
+        assertThat(service.getVariant(original, ImageVariant.THUMBNAIL)).isSameAs(original);
+
+        // Generation carries on in the background and later requests get the variant
+        Path thumbnail = directory.resolve("variants/ab/" + CONTENT_HASH + "-thumbnail.jpg");
+        for (int i = 0; i < 200 && !Files.exists(thumbnail); i++) {
+            Thread.sleep(50);
+        }
+        assertThat(service.getVariant(original, ImageVariant.THUMBNAIL).getPath()).isEqualTo(thumbnail);
+    }
+
+    @Test
+    void servesOriginalWhenPoolIsSaturated() throws IOException {
+        service = new ImageVariantService(directory.toString(), true, 1, 1, 50_000_000L, 0.82f, 10_000);
+        StoredFile running = image("aa000001", 6000, 4000);
+        StoredFile queued = image("aa000002", 6000, 4000);
+        StoredFile requested = image("aa000003", 200, 150);
+
+        // One upload occupies the only worker and the next fills the queue
+        service.generateAfterCommit(running.getContentHash(), running.getPath());
+        service.generateAfterCommit(queued.getContentHash(), queued.getPath());
+
+        assertThat(service.getVariant(requested, ImageVariant.THUMBNAIL)).isSameAs(requested);
+    }
+
+    // Helper methods
+
+    private ImageVariantService service(long requestTimeoutMillis) {
+        return new ImageVariantService(directory.toString(), false, 1, 10, 50_000_000L, 0.82f, requestTimeoutMillis);
+    }
+
+    private StoredFile image(int width, int height) throws IOException {
+        return image(CONTENT_HASH, width, height);
+    }
+
+    private StoredFile image(String contentHash, int width, int height) throws IOException {
+        Path path = directory.resolve(contentHash + ".png");
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", path.toFile());
+        return StoredFile.builder()
+            .path(path)
+            .fileName(contentHash + ".png")
+            .contentType("image/png")
+            .size(Files.size(path))
+            .contentHash(contentHash)
+            .lastModified(Instant.now())
+            .build();
+    }
+}
@@ -0,0 +1,61 @@
+package com.gharsaathi.notification;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.support.TestFixtures;
+import com.jayway.jsonpath.JsonPath;
+
+/**
+ * The notification stream opens with a single-use token for EventSource clients, which cannot send headers
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class NotificationStreamAuthTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void streamTokenOpensTheStreamOnce() throws Exception {
+        String bearer = fixtures.bearer(fixtures.user(Role.TENANT));
+        String body = mockMvc.perform(post("/api/notifications/stream-token").header("Authorization", bearer))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.expiresIn").value(60))
+            .andReturn().getResponse().getContentAsString();
+        String token = JsonPath.read(body, "$.token");
+
+        mockMvc.perform(get("/api/notifications/stream").param("token", token))
+            .andExpect(request().asyncStarted());
+        mockMvc.perform(get("/api/notifications/stream").param("token", token))
+            .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void streamRequiresBearerOrToken() throws Exception {
+        mockMvc.perform(get("/api/notifications/stream"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/notifications/stream").param("token", "made-up"))
+            .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/api/notifications/stream")
+                .header("Authorization", fixtures.bearer(fixtures.user(Role.TENANT))))
+            .andExpect(request().asyncStarted());
+    }
+}
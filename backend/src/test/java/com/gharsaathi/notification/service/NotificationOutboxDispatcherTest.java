@@ -0,0 +1,96 @@
+package com.gharsaathi.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.notification.model.NotificationOutboxEvent;
+import com.gharsaathi.notification.model.NotificationType;
+import com.gharsaathi.notification.model.OutboxStatus;
+import com.gharsaathi.notification.repository.NotificationOutboxRepository;
+import com.gharsaathi.notification.repository.NotificationRepository;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * Committed outbox entries become notifications and are deleted; an entry whose recipient no
+ * longer exists is marked FAILED instead of being retried
+ */
+// Poll rarely so only the explicit dispatchDue call delivers
+@SpringBootTest(properties = "notification.outbox.poll-interval-ms=3600000")
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class NotificationOutboxDispatcherTest {
+
+    private static final long UNKNOWN_RECIPIENT = 999_999L;
+
+    @Autowired
+    private NotificationOutboxDispatcher dispatcher;
+
+    @Autowired
+    private NotificationOutboxRepository outboxRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @MockitoSpyBean
+    private UnreadNotificationCounter unreadNotificationCounter;
+
+    @Test
+    void deliversCommittedEntriesAndFailsUnknownRecipients() {
+        User tenant = fixtures.user(Role.TENANT);
+        assertThat(unreadNotificationCounter.get(tenant.getId())).isZero();
+
+        Long[] ids = transactionTemplate.execute(status -> new Long[] {
+            enqueue(tenant.getId(), "First").getId(),
+            enqueue(tenant.getId(), "Second").getId(),
+            enqueue(UNKNOWN_RECIPIENT, "Lost").getId()
+        });
+
+        assertThat(dispatcher.dispatchDue()).isEqualTo(3);
+
+        assertThat(notificationRepository.countByUserIdAndIsReadFalse(tenant.getId())).isEqualTo(2);
+        assertThat(outboxRepository.findById(ids[0])).isEmpty();
+        assertThat(outboxRepository.findById(ids[1])).isEmpty();
+
+        NotificationOutboxEvent failed = outboxRepository.findById(ids[2]).orElseThrow();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getLastError()).contains("not found");
+
+        // Only the delivered entries adjust the cached unread count
+        verify(unreadNotificationCounter, times(2)).adjustAfterCommit(tenant.getId(), 1);
+        verify(unreadNotificationCounter, never()).adjustAfterCommit(eq(UNKNOWN_RECIPIENT), anyLong());
+        assertThat(unreadNotificationCounter.get(tenant.getId())).isEqualTo(2);
+        assertThat(dispatcher.dispatchDue()).isZero();
+    }
+
+    // Helper methods
+
+    private NotificationOutboxEvent enqueue(Long recipientId, String title) {
+        return outboxRepository.save(NotificationOutboxEvent.builder()
+                .recipientId(recipientId)
+                .type(NotificationType.SYSTEM_ANNOUNCEMENT)
+                .title(title)
+                .message(title + " message")
+                .build());
+    }
+}
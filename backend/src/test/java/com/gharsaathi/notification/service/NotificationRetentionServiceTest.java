@@ -0,0 +1,112 @@
+package com.gharsaathi.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.notification.model.Notification;
+import com.gharsaathi.notification.model.NotificationType;
+import com.gharsaathi.notification.repository.NotificationOutboxRepository;
+import com.gharsaathi.notification.repository.NotificationRepository;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Retention runs requested through the API go to the background, and purged unread notifications
+ * push the reloaded count to the user's open streams
+ */
+class NotificationRetentionServiceTest {
+
+    private NotificationRepository notificationRepository;
+    private UnreadNotificationCounter unreadNotificationCounter;
+    private NotificationStreamService notificationStreamService;
+    private NotificationRetentionService service;
+
+    @BeforeEach
+    void setUp() {
+        notificationRepository = mock(NotificationRepository.class);
+        unreadNotificationCounter = mock(UnreadNotificationCounter.class);
+        notificationStreamService = mock(NotificationStreamService.class);
+        NotificationRetentionProperties properties = new NotificationRetentionProperties();
+        properties.setPauseMs(0);
+        properties.setFailedOutboxDays(0);
+        service = new NotificationRetentionService(notificationRepository, mock(NotificationOutboxRepository.class),
+                unreadNotificationCounter, notificationStreamService, properties, JsonMapper.builder().build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.shutdown();
+    }
+
+    @Test
+    void purgedUnreadNotificationsPublishTheNewCount() {
+        when(notificationRepository.findExpired(eq(NotificationType.SYSTEM_ANNOUNCEMENT), eq(false), any(), any()))
+                .thenReturn(List.of(notification(1L, 7L), notification(2L, 7L), notification(3L, 8L)));
+        when(notificationRepository.deleteByIdInAndReadStatus(anyList(), anyBoolean())).thenReturn(3);
+
+        service.purgeAll();
+
+        verify(unreadNotificationCounter).evict(7L);
+        verify(unreadNotificationCounter).evict(8L);
+        verify(notificationStreamService).publishAfterCommit(eq(7L), eq(-2L), isNull());
+        verify(notificationStreamService).publishAfterCommit(eq(8L), eq(-1L), isNull());
+    }
+
+    @Test
+    void purgedReadNotificationsLeaveStreamsAlone() {
+        when(notificationRepository.findExpired(eq(NotificationType.SYSTEM_ANNOUNCEMENT), eq(true), any(), any()))
+                .thenReturn(List.of(notification(1L, 7L)));
+        when(notificationRepository.deleteByIdInAndReadStatus(anyList(), anyBoolean())).thenReturn(1);
+
+        service.purgeAll();
+
+        verifyNoInteractions(notificationStreamService);
+    }
+
+    @Test
+    void requestedRunsGoToTheBackgroundOneAtATime() throws InterruptedException {
+        CountDownLatch release = new CountDownLatch(1);
+        when(notificationRepository.findExpired(any(), anyBoolean(), any(), any())).thenAnswer(invocation -> {
+            release.await();
+            return List.of();
+        });
+
+        assertThat(service.requestRun()).isTrue();
+        verify(notificationRepository, timeout(5000)).findExpired(any(), anyBoolean(), any(), any());
+        assertThat(service.requestRun()).isFalse();
+
+        release.countDown();
+        verify(notificationRepository, timeout(5000).atLeast(NotificationType.values().length * 2))
+                .findExpired(any(), anyBoolean(), any(), any());
+    }
+
+    // Helper methods
+
+    private static Notification notification(Long id, Long userId) {
+        return Notification.builder()
+                .id(id)
+                .user(User.builder().id(userId).build())
+                .type(NotificationType.SYSTEM_ANNOUNCEMENT)
+                .title("Notice")
+                .message("Old notice")
+                .isRead(false)
+                .build();
+    }
+}
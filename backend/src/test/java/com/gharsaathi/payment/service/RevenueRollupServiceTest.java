@@ -0,0 +1,110 @@
+package com.gharsaathi.payment.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.lease.model.Lease;
+import com.gharsaathi.payment.dto.RevenueRollupRebuildResponse;
+import com.gharsaathi.payment.model.PaymentStatus;
+import com.gharsaathi.payment.model.RevenueRollup;
+import com.gharsaathi.payment.repository.RevenueRollupRepository;
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.support.TestFixtures;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+class RevenueRollupServiceTest {
+
+    private static final YearMonth DRIFTED = YearMonth.of(2025, 1);
+    private static final YearMonth MISSING = YearMonth.of(2025, 2);
+    private static final YearMonth STALE = YearMonth.of(2024, 6);
+
+    @Autowired
+    private RevenueRollupService revenueRollupService;
+
+    @Autowired
+    private RevenueRollupRepository revenueRollupRepository;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    @Test
+    void dryRunReportsDriftWithoutChangingRows() {
+        Property property = seedDriftedRollup();
+
+        RevenueRollupRebuildResponse report = revenueRollupService.rebuild(true);
+
+        assertThat(report.getDryRun()).isTrue();
+        assertThat(report.getDriftedBuckets()).isPositive();
+        assertThat(report.getMissingBuckets()).isPositive();
+        assertThat(report.getStaleBuckets()).isPositive();
+        Map<String, RevenueRollup> rows = rollupsByMonth(property);
+        assertThat(rows).containsOnlyKeys(DRIFTED.toString(), STALE.toString());
+        assertThat(rows.get(DRIFTED.toString()).getTotalAmount()).isEqualByComparingTo("1.00");
+        assertThat(rows.get(DRIFTED.toString()).getPaymentCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void rebuildFixesDriftedMissingAndStaleBuckets() {
+        Property property = seedDriftedRollup();
+
+        RevenueRollupRebuildResponse report = revenueRollupService.rebuild(false);
+
+        assertThat(report.getDryRun()).isFalse();
+        Map<String, RevenueRollup> rows = rollupsByMonth(property);
+        assertThat(rows).containsOnlyKeys(DRIFTED.toString(), MISSING.toString());
+        assertThat(rows.get(DRIFTED.toString()).getTotalAmount()).isEqualByComparingTo("2000.00");
+        assertThat(rows.get(DRIFTED.toString()).getPaymentCount()).isEqualTo(2L);
+        assertThat(rows.get(MISSING.toString()).getTotalAmount()).isEqualByComparingTo("500.00");
+        assertThat(revenueRollupService.rebuild(true).getDriftedBuckets()).isZero();
+    }
+
+    // Helper methods
+
+    /**
+     * Confirmed payments saved without rollup updates, plus a drifted and a stale rollup row
+     */
+    private Property seedDriftedRollup() {
+        User landlord = fixtures.user(Role.LANDLORD);
+        Property property = fixtures.property(landlord, "Bhaktapur", "Rollup flat", 0);
+        Lease lease = fixtures.lease(property, fixtures.user(Role.TENANT));
+        fixtures.payment(lease, PaymentStatus.CONFIRMED, DRIFTED, new BigDecimal("1000.00"));
+        fixtures.payment(lease, PaymentStatus.CONFIRMED, DRIFTED, new BigDecimal("1000.00"));
+        fixtures.payment(lease, PaymentStatus.CONFIRMED, MISSING, new BigDecimal("500.00"));
+
+        revenueRollupRepository.save(rollup(property, DRIFTED, "1.00"));
+        revenueRollupRepository.save(rollup(property, STALE, "700.00"));
+        return property;
+    }
+
+    private RevenueRollup rollup(Property property, YearMonth month, String amount) {
+        return RevenueRollup.builder()
+                .landlordId(property.getLandlord().getId())
+                .propertyId(property.getId())
+                .revenueMonth(month.toString())
+                .totalAmount(new BigDecimal(amount))
+                .paymentCount(1L)
+                .build();
+    }
+
+    private Map<String, RevenueRollup> rollupsByMonth(Property property) {
+        return revenueRollupRepository.findAll().stream()
+                .filter(rollup -> rollup.getPropertyId().equals(property.getId()))
+                .collect(Collectors.toMap(RevenueRollup::getRevenueMonth, rollup -> rollup));
+    }
+}
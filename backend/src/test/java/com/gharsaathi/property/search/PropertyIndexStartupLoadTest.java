@@ -0,0 +1,78 @@
+package com.gharsaathi.property.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.gharsaathi.common.dto.PropertySearchCriteria;
+import com.gharsaathi.property.model.Property;
+import com.gharsaathi.property.model.PropertyStatus;
+import com.gharsaathi.property.model.PropertyType;
+import com.gharsaathi.property.repository.PropertyRepository;
+
+/**
+ * A change committed while the startup snapshot is being read must survive the load
+ * The repository mocks apply the change from inside the snapshot query and return the older row.
+ */
+class PropertyIndexStartupLoadTest {
+
+    @Test
+    void keywordIndexKeepsChangeCommittedDuringLoad() {
+        PropertyRepository repository = mock(PropertyRepository.class);
+        PropertyKeywordIndex index = new PropertyKeywordIndex(repository, true, 1000);
+        PropertyTextView stale = textView(1L, "Old title");
+        when(repository.findAllTextViews()).thenAnswer(invocation -> {
+            index.indexAfterCommit(property(1L, "New title", PropertyStatus.AVAILABLE));
+            return List.of(stale, textView(2L, "Other old listing"));
+        });
+
+        index.loadOnStartup();
+
+        assertThat(index.search("new")).containsOnlyKeys(1L);
+        assertThat(index.search("old")).containsOnlyKeys(2L);
+    }
+
+    @Test
+    void searchIndexKeepsChangeCommittedDuringLoad() {
+        PropertyRepository repository = mock(PropertyRepository.class);
+        PropertySearchIndex index = new PropertySearchIndex(repository, new PropertyKeywordIndex(repository, false, 1000), true);
+        when(repository.findAllWithAmenitiesByStatus(PropertyStatus.AVAILABLE)).thenAnswer(invocation -> {
+            index.indexAfterCommit(property(1L, "Now rented", PropertyStatus.RENTED));
+            return List.of(property(1L, "Listed", PropertyStatus.AVAILABLE),
+                property(2L, "Still listed", PropertyStatus.AVAILABLE));
+        });
+
+        index.loadOnStartup();
+
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        assertThat(index.search(criteria).getPropertyIds()).containsExactly(2L);
+    }
+
+    // Helper methods
+
+    private static Property property(Long id, String title, PropertyStatus status) {
+        return Property.builder()
+            .id(id)
+            .title(title)
+            .description("Listing")
+            .propertyType(PropertyType.ROOM)
+            .city("Kathmandu")
+            .price(new BigDecimal("10000"))
+            .bedrooms(1)
+            .bathrooms(1)
+            .status(status)
+            .build();
+    }
+
+    private static PropertyTextView textView(Long id, String title) {
+        PropertyTextView view = mock(PropertyTextView.class);
+        when(view.getId()).thenReturn(id);
+        when(view.getTitle()).thenReturn(title);
+        return view;
+    }
+}
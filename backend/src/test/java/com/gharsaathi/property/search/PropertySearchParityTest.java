@@ -0,0 +1,205 @@
+package com.gharsaathi.property.search;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doCallRealMethod;
+import static org.mockito.Mockito.doReturn;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.gharsaathi.auth.model.Role;
+import com.gharsaathi.auth.model.User;
+import com.gharsaathi.common.dto.CreatePropertyRequest;
+import com.gharsaathi.common.dto.PropertyListResponse;
+import com.gharsaathi.common.dto.PropertyResponse;
+import com.gharsaathi.common.dto.PropertySearchCriteria;
+import com.gharsaathi.common.dto.UpdatePropertyRequest;
+import com.gharsaathi.property.model.PropertyType;
+import com.gharsaathi.property.service.PropertyService;
+import com.gharsaathi.support.TestFixtures;
+
+/**
+ * The in-memory indexes must return the same properties as the database queries they replace
+ * Every criteria is run three ways: from PropertySearchIndex, through the Specification with
+ * keywords resolved by PropertyKeywordIndex, and through the Specification with LIKE keywords,
+ * both for an index that is not ready and for a keyword matching more IDs than the IN-list cap.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestFixtures.class)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PropertySearchParityTest {
+
+    private static final String[] CITIES = {"Kathmandu", "Lalitpur", "Pokhara"};
+    private static final String[] AREAS = {"Thamel", "Jhamsikhel", "Lakeside"};
+    private static final String[] TITLES = {"Sunny Apartment", "Quiet House", "Cozy Studio", "Sunny Room"};
+    private static final String[] DESCRIPTIONS = {"Bright rooms with a garden", "Close to the market",
+        "Furnished and ready to move in"};
+
+    @MockitoSpyBean
+    private PropertySearchIndex propertySearchIndex;
+
+    @MockitoSpyBean
+    private PropertyKeywordIndex propertyKeywordIndex;
+
+    @Autowired
+    private PropertyService propertyService;
+
+    @Autowired
+    private TestFixtures fixtures;
+
+    private User landlord;
+    private Long deletedId;
+    private Long renamedId;
+
+    @BeforeAll
+    void seed() {
+        landlord = fixtures.user(Role.LANDLORD);
+        for (int i = 0; i < 60; i++) {
+            CreatePropertyRequest request = new CreatePropertyRequest();
+            request.setTitle(TITLES[i % TITLES.length] + " " + i);
+            request.setDescription(DESCRIPTIONS[i % DESCRIPTIONS.length]);
+            request.setPropertyType(PropertyType.values()[i % 4]);
+            request.setAddress("Ward " + i);
+            request.setCity(CITIES[i % CITIES.length]);
+            request.setArea(AREAS[(i / 3) % AREAS.length]);
+            request.setPrice(new BigDecimal(8000 + (i % 10) * 1500));
+            request.setBedrooms(1 + i % 4);
+            request.setBathrooms(1 + i % 2);
+            request.setPropertyArea(400.0 + i * 10);
+            request.setFurnished(i % 2 == 0);
+            request.setParkingAvailable(i % 3 == 0);
+            request.setPetsAllowed(i % 5 == 0);
+            request.setAmenities(i % 2 == 0 ? Set.of("WIFI", "GYM") : Set.of("WIFI"));
+            Long id = propertyService.createProperty(request, landlord.getId()).getId();
+            if (i == 0) {
+                deletedId = id;
+            } else if (i == 4) {
+                renamedId = id;
+            }
+        }
+
+        // A deleted listing must drop out of every path, a renamed one must match its new title only
+        propertyService.deleteProperty(deletedId, landlord.getId());
+        UpdatePropertyRequest rename = new UpdatePropertyRequest();
+        rename.setTitle("Penthouse with terrace");
+        propertyService.updateProperty(renamedId, rename, landlord.getId());
+    }
+
+    @Test
+    void facetFiltersMatchTheSpecification() {
+        assertParity(criteria -> { });
+        assertParity(criteria -> criteria.setCity("kathmandu"));
+        assertParity(criteria -> criteria.setCity("PUR"));
+        assertParity(criteria -> criteria.setArea("Lake"));
+        assertParity(criteria -> criteria.setPropertyType(PropertyType.HOUSE));
+        assertParity(criteria -> {
+            criteria.setMinPrice(new BigDecimal("11000"));
+            criteria.setMaxPrice(new BigDecimal("17000"));
+        });
+        assertParity(criteria -> criteria.setBedrooms(2));
+        assertParity(criteria -> {
+            criteria.setMinBedrooms(2);
+            criteria.setMaxBathrooms(1);
+        });
+        assertParity(criteria -> criteria.setMinPropertyArea(700.0));
+        assertParity(criteria -> {
+            criteria.setFurnished(true);
+            criteria.setPetsAllowed(true);
+        });
+        assertParity(criteria -> criteria.setAmenities(Set.of("WIFI", "GYM")));
+        assertParity(criteria -> criteria.setAmenities(Set.of("POOL")));
+    }
+
+    @Test
+    void keywordsMatchTheSpecification() {
+        assertParity(criteria -> criteria.setKeyword("sunny"));
+        // Case folding
+        assertParity(criteria -> criteria.setKeyword("SUNNY"));
+        assertParity(criteria -> criteria.setKeyword("Garden"));
+        // Prefixes
+        assertParity(criteria -> criteria.setKeyword("apart"));
+        assertParity(criteria -> criteria.setKeyword("stud"));
+        assertParity(criteria -> criteria.setKeyword("nomatch"));
+        // Several terms, across title, area and city
+        assertParity(criteria -> criteria.setKeyword("sunny thamel"));
+        assertParity(criteria -> criteria.setKeyword("quiet pokhara"));
+        assertParity(criteria -> {
+            criteria.setKeyword("cozy");
+            criteria.setCity("lalitpur");
+            criteria.setMaxPrice(new BigDecimal("15000"));
+        });
+    }
+
+    @Test
+    void deletedAndRenamedPropertiesMatchTheSpecification() {
+        assertThat(ids(search(criteria -> criteria.setKeyword("sunny")))).doesNotContain(deletedId);
+        assertThat(ids(search(criteria -> { }))).doesNotContain(deletedId);
+        assertThat(ids(search(criteria -> criteria.setKeyword("penthouse")))).containsExactly(renamedId);
+        assertThat(ids(search(criteria -> criteria.setKeyword("cozy")))).doesNotContain(renamedId);
+        assertParity(criteria -> criteria.setKeyword("penthouse"));
+        assertParity(criteria -> criteria.setKeyword("cozy"));
+    }
+
+    // Helper methods
+
+    private void assertParity(Consumer<PropertySearchCriteria> filters) {
+        PropertySearchCriteria probe = criteria(filters);
+        assertThat(propertySearchIndex.supports(probe)).as("index supports %s", probe).isTrue();
+
+        PropertyListResponse fromIndex = search(filters);
+        PropertyListResponse fromSpecification;
+        PropertyListResponse fromCappedKeyword;
+        PropertyListResponse fromLike;
+        doReturn(false).when(propertySearchIndex).supports(any());
+        try {
+            fromSpecification = search(filters);
+            doReturn(null).when(propertyKeywordIndex).searchIds(any());
+            fromCappedKeyword = search(filters);
+            doReturn(false).when(propertyKeywordIndex).isReady();
+            fromLike = search(filters);
+        } finally {
+            doCallRealMethod().when(propertySearchIndex).supports(any());
+            doCallRealMethod().when(propertyKeywordIndex).searchIds(any());
+            doCallRealMethod().when(propertyKeywordIndex).isReady();
+        }
+
+        assertThat(ids(fromSpecification)).as("specification for %s", probe).isEqualTo(ids(fromIndex));
+        assertThat(fromSpecification.getTotalElements()).isEqualTo(fromIndex.getTotalElements());
+        assertThat(ids(fromCappedKeyword)).as("capped keyword for %s", probe).isEqualTo(ids(fromIndex));
+        assertThat(fromCappedKeyword.getTotalElements()).isEqualTo(fromIndex.getTotalElements());
+        assertThat(ids(fromLike)).as("LIKE for %s", probe).isEqualTo(ids(fromIndex));
+        assertThat(fromLike.getTotalElements()).isEqualTo(fromIndex.getTotalElements());
+    }
+
+    private PropertyListResponse search(Consumer<PropertySearchCriteria> filters) {
+        return propertyService.searchProperties(criteria(filters));
+    }
+
+    private PropertySearchCriteria criteria(Consumer<PropertySearchCriteria> filters) {
+        PropertySearchCriteria criteria = new PropertySearchCriteria();
+        criteria.setSize(100);
+        criteria.setSortBy("price");
+        criteria.setSortDirection("ASC");
+        filters.accept(criteria);
+        return criteria;
+    }
+
+    private static Set<Long> ids(PropertyListResponse response) {
+        List<PropertyResponse> properties = response.getProperties();
+        return properties.stream().map(PropertyResponse::getId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,58 @@
+package com.gharsaathi.support;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the calling thread
+ * Installed as Hibernate's statement inspector by the test profile. MockMvc requests run on the
+ * test thread, so a count covers the whole request including the security filters.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Number of statements the action executed on this thread
+     */
+    public static int count(ThrowingRunnable action) throws Exception {
+        int[] count = new int[1];
+        COUNT.set(count);
+        try {
+            action.run();
+        } finally {
+            COUNT.remove();
+        }
+        return count[0];
+    }
+
+    /**
+     * Assert the action executes the same number of statements for a small and a large input
+     * and at most maxStatements; returns the count
+     */
+    public static int assertConstant(String description, int maxStatements,
+                                     ThrowingRunnable small, ThrowingRunnable large) throws Exception {
+        int smallCount = count(small);
+        int largeCount = count(large);
+        assertThat(largeCount)
+                .as("%s: statements for the large input (small input: %d)", description, smallCount)
+                .isEqualTo(smallCount)
+                .isLessThanOrEqualTo(maxStatements);
+        return largeCount;
+    }
+
+    @FunctionalInterface
+    public interface ThrowingRunnable {
+        void run() throws Exception;
+    }
+}
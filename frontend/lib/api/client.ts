@@ -83,10 +83,13 @@ apiClient.interceptors.response.use(
             refreshToken,
           })
 
-          const { accessToken } = response.data
+          const { accessToken, refreshToken: rotatedRefreshToken } = response.data
 
-          // Save new access token
+          // Save new access token; refresh tokens are single-use, so keep the rotated one
           setAccessToken(accessToken)
+          if (rotatedRefreshToken) {
+            setRefreshToken(rotatedRefreshToken)
+          }
 
           // Retry the original request with new token
           if (originalRequest.headers) {
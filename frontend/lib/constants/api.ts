@@ -86,6 +86,9 @@ export const API_ENDPOINTS = {
     MARK_READ: (id: number) => `/notifications/${id}/mark-read`,
     MARK_ALL_READ: '/notifications/mark-all-read',
     UNREAD_COUNT: '/notifications/unread-count',
+    STREAM: '/notifications/stream',
+    // EventSource cannot send the Bearer header: fetch a single-use token and open STREAM?token=...
+    STREAM_TOKEN: '/notifications/stream-token',
   },
 
   // Reviews
@@ -99,6 +102,7 @@ export const API_ENDPOINTS = {
   // File Upload
   FILE_UPLOAD: {
     UPLOAD: '/files/upload',
+    UPLOAD_BATCH: '/files/upload/batch',
     DELETE: (fileId: number) => `/files/${fileId}`,
   },
 